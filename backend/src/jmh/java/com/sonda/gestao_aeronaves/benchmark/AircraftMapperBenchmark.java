@@ -0,0 +1,39 @@
+package com.sonda.gestao_aeronaves.benchmark;
+
+import com.sonda.gestao_aeronaves.mapper.AircraftMapper;
+import com.sonda.gestao_aeronaves.mapper.AircraftMapperImpl;
+import com.sonda.gestao_aeronaves.persistence.entity.Aircraft;
+import com.sonda.gestao_aeronaves.web.dto.AircraftDTO;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AircraftMapperBenchmark {
+
+    private final AircraftMapper mapper = new AircraftMapperImpl();
+
+    private Aircraft entity;
+    private AircraftDTO dto;
+
+    @Setup
+    public void setUp() {
+        entity = Fleet.aircraft(42);
+        dto = Fleet.dtos(1).get(0);
+    }
+
+    @Benchmark
+    public AircraftDTO toDTO() {
+        return mapper.toDTO(entity);
+    }
+
+    @Benchmark
+    public Aircraft toEntity() {
+        return mapper.toEntity(dto);
+    }
+}
@@ -0,0 +1,62 @@
+package com.sonda.gestao_aeronaves.benchmark;
+
+import com.sonda.gestao_aeronaves.web.dto.AircraftDTO;
+import com.sonda.gestao_aeronaves.web.json.AircraftField;
+import com.sonda.gestao_aeronaves.web.json.SparseAircraftView;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization of the list returned by {@code GET /aeronaves}: full JSON, the list-view
+ * fields ({@code fields=id,name,brand,year,sold}) and the Smile and CBOR encodings.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AircraftSerializationBenchmark {
+
+    @Param({ "100", "1000", "10000" })
+    public int size;
+
+    private static final Set<AircraftField> LIST_FIELDS = AircraftField.parse("id,name,brand,year,sold");
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final SmileMapper smileMapper = SmileMapper.builder().build();
+    private final CBORMapper cborMapper = CBORMapper.builder().build();
+
+    private List<AircraftDTO> aircraft;
+
+    @Setup
+    public void setUp() {
+        aircraft = Fleet.dtos(size);
+    }
+
+    @Benchmark
+    public byte[] writeList() {
+        return jsonMapper.writeValueAsBytes(aircraft);
+    }
+
+    @Benchmark
+    public byte[] writeSparseList() {
+        return jsonMapper.writeValueAsBytes(SparseAircraftView.of(aircraft, LIST_FIELDS));
+    }
+
+    @Benchmark
+    public byte[] writeListSmile() {
+        return smileMapper.writeValueAsBytes(aircraft);
+    }
+
+    @Benchmark
+    public byte[] writeListCbor() {
+        return cborMapper.writeValueAsBytes(aircraft);
+    }
+}
@@ -0,0 +1,71 @@
+package com.sonda.gestao_aeronaves.benchmark;
+
+import com.sonda.gestao_aeronaves.persistence.projection.DecadeCount;
+import com.sonda.gestao_aeronaves.persistence.repository.AircraftRepository;
+import com.sonda.gestao_aeronaves.service.AircraftService;
+import com.sonda.gestao_aeronaves.web.dto.AircraftDTO;
+import com.sonda.gestao_aeronaves.web.dto.AircraftSummaryDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service read paths against an embedded H2 seeded with {@link #rows} aircraft.
+ * {@code listByDecade} is answered from the in-memory statistics; the database
+ * aggregation it replaces is measured separately.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx4g" })
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class AircraftServiceBenchmark {
+
+    @Param({ "1000", "100000", "1000000" })
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private AircraftService service;
+    private AircraftRepository repository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = Fleet.start(rows);
+        service = context.getBean(AircraftService.class);
+        repository = context.getBean(AircraftRepository.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<AircraftDTO> findAll() {
+        return service.findAll();
+    }
+
+    @Benchmark
+    public List<AircraftSummaryDTO> findAllSummaries() {
+        return service.findAllSummaries();
+    }
+
+    @Benchmark
+    public List<AircraftDTO> findByTerm() {
+        return service.findByTerm("E19", 0, AircraftService.DEFAULT_PAGE_SIZE);
+    }
+
+    @Benchmark
+    public Map<Integer, Long> listByDecade() {
+        return service.listByDecade();
+    }
+
+    @Benchmark
+    public List<DecadeCount> listByDecadeInDatabase() {
+        return repository.countByDecade();
+    }
+}
@@ -0,0 +1,100 @@
+package com.sonda.gestao_aeronaves.benchmark;
+
+import com.sonda.gestao_aeronaves.GestaoAeronavesApplication;
+import com.sonda.gestao_aeronaves.domain.Brand;
+import com.sonda.gestao_aeronaves.persistence.entity.Aircraft;
+import com.sonda.gestao_aeronaves.service.search.InMemoryAircraftSearch;
+import com.sonda.gestao_aeronaves.service.statistics.FleetSnapshot;
+import com.sonda.gestao_aeronaves.web.dto.AircraftDTO;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic test data shared by the benchmarks, so results are comparable between runs.
+ */
+final class Fleet {
+
+    private static final Brand[] BRANDS = Brand.values();
+    private static final String[] MODELS = { "E195", "E190", "E175", "A320", "A321", "A350", "B737", "B777", "B787" };
+    private static final int SEED_BATCH = 5_000;
+
+    private Fleet() {
+    }
+
+    static Aircraft aircraft(long id) {
+        Random random = new Random(id);
+        LocalDateTime created = LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(id);
+        return new Aircraft(id, MODELS[(int) (id % MODELS.length)] + "-" + id, BRANDS[(int) (id % BRANDS.length)],
+                1970 + random.nextInt(55), "Aeronave de teste número " + id + " com configuração padrão",
+                random.nextBoolean(), 0L, created, created);
+    }
+
+    static AircraftDTO dto(long id) {
+        Aircraft aircraft = aircraft(id);
+        AircraftDTO dto = new AircraftDTO();
+        dto.setId(aircraft.getId());
+        dto.setName(aircraft.getName());
+        dto.setBrand(aircraft.getBrand());
+        dto.setYear(aircraft.getYear());
+        dto.setDescription(aircraft.getDescription());
+        dto.setSold(aircraft.isSold());
+        dto.setVersion(aircraft.getVersion());
+        dto.setCreated(aircraft.getCreated());
+        dto.setUpdated(aircraft.getUpdated());
+        return dto;
+    }
+
+    static List<AircraftDTO> dtos(int size) {
+        List<AircraftDTO> dtos = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            dtos.add(dto(id));
+        }
+        return dtos;
+    }
+
+    /**
+     * Starts the application without a web server against the embedded H2 of the
+     * test profile, seeds it and rebuilds the in-memory snapshot and search index.
+     */
+    static ConfigurableApplicationContext start(int rows) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(GestaoAeronavesApplication.class)
+                .profiles("test", "benchmark")
+                .web(WebApplicationType.NONE)
+                .run();
+        seed(context.getBean(JdbcTemplate.class), rows);
+        context.getBean(FleetSnapshot.class).initialize();
+        context.getBean(InMemoryAircraftSearch.class).initialize();
+        context.getBean(CacheManager.class).getCacheNames()
+                .forEach(name -> context.getBean(CacheManager.class).getCache(name).clear());
+        return context;
+    }
+
+    private static void seed(JdbcTemplate jdbc, int rows) {
+        String sql = "INSERT INTO aeronave (id, nome, marca, ano, descricao, vendido, versao, created, updated) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        List<Object[]> batch = new ArrayList<>(SEED_BATCH);
+        for (long id = 1; id <= rows; id++) {
+            Aircraft a = aircraft(id);
+            batch.add(new Object[] { a.getId(), a.getName(), a.getBrand().name(), a.getYear(), a.getDescription(),
+                    a.isSold(), a.getVersion(), Timestamp.valueOf(a.getCreated()), Timestamp.valueOf(a.getUpdated()) });
+            if (batch.size() == SEED_BATCH) {
+                jdbc.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbc.batchUpdate(sql, batch);
+        }
+        // Hibernate's pooled optimizer treats each sequence value as the top of a block of 50
+        jdbc.execute("ALTER SEQUENCE aeronave_seq RESTART WITH " + (rows + 51));
+    }
+}
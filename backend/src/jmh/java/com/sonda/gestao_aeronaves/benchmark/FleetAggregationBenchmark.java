@@ -0,0 +1,65 @@
+package com.sonda.gestao_aeronaves.benchmark;
+
+import com.sonda.gestao_aeronaves.service.event.AircraftChangedEvent;
+import com.sonda.gestao_aeronaves.service.statistics.FleetAggregation;
+import com.sonda.gestao_aeronaves.service.statistics.FleetFilter;
+import com.sonda.gestao_aeronaves.service.statistics.FleetSnapshot;
+import com.sonda.gestao_aeronaves.web.dto.FleetAggregationDTO;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parallel aggregation over the in-memory {@link FleetSnapshot} with {@link #rows}
+ * synthetic aircraft, once per pool size in {@link #parallelism}. The scan is split in
+ * fork/join tasks with per-thread accumulators, so the time should fall close to
+ * linearly with the pool size up to the number of cores of the machine; past it the
+ * extra threads only add scheduling.
+ * <p>
+ * Run on a multi-core machine, e.g. {@code -Djmh.args="FleetAggregation -p parallelism=1,2,4,8"}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx6g" })
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class FleetAggregationBenchmark {
+
+    @Param({ "10000000" })
+    public int rows;
+
+    @Param({ "1", "2", "4", "8" })
+    public int parallelism;
+
+    private FleetSnapshot snapshot;
+    private FleetAggregation overview;
+    private FleetAggregation filtered;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        snapshot = new FleetSnapshot(null, null, parallelism);
+        for (long id = 1; id <= rows; id++) {
+            snapshot.onAircraftChanged(AircraftChangedEvent.created(Fleet.dto(id)));
+        }
+        overview = FleetAggregation.parse(new String[] { "brand,decade", "sold", "year", "createdMonth" }, null,
+                FleetFilter.none());
+        filtered = FleetAggregation.parse(new String[] { "brand,createdWeek" }, "count",
+                new FleetFilter(null, false, 1990, 2009, null, null));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        snapshot.destroy();
+    }
+
+    @Benchmark
+    public FleetAggregationDTO aggregateOverview() {
+        return snapshot.aggregate(overview).orElseThrow();
+    }
+
+    @Benchmark
+    public FleetAggregationDTO aggregateFiltered() {
+        return snapshot.aggregate(filtered).orElseThrow();
+    }
+}
@@ -0,0 +1,68 @@
+package com.sonda.gestao_aeronaves.benchmark;
+
+import com.sonda.gestao_aeronaves.domain.Brand;
+import com.sonda.gestao_aeronaves.service.event.AircraftChangedEvent;
+import com.sonda.gestao_aeronaves.service.statistics.FleetFilter;
+import com.sonda.gestao_aeronaves.service.statistics.FleetSnapshot;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Queries on the columnar {@link FleetSnapshot}, filled through the change events with
+ * {@link #rows} aircraft; no database or Spring context is involved. The creation window
+ * is the last week of the seeded data, which mirrors {@code /statistics/last-week/count}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx4g" })
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class FleetSnapshotBenchmark {
+
+    @Param({ "100000", "1000000", "5000000" })
+    public int rows;
+
+    private FleetSnapshot snapshot;
+    private FleetFilter lastWeek;
+    private FleetFilter combined;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        snapshot = new FleetSnapshot(null, null, 0);
+        for (long id = 1; id <= rows; id++) {
+            snapshot.onAircraftChanged(AircraftChangedEvent.created(Fleet.dto(id)));
+        }
+        LocalDateTime newest = Fleet.aircraft(rows).getCreated();
+        lastWeek = FleetFilter.createdSince(newest.minusWeeks(1));
+        combined = new FleetFilter(Brand.EMBRAER, false, 1990, 2009, null, null);
+    }
+
+    @Benchmark
+    public long countUnsold() {
+        return snapshot.count(FleetFilter.unsold());
+    }
+
+    @Benchmark
+    public Map<Integer, Long> listByDecade() {
+        return snapshot.countByDecade(FleetFilter.none());
+    }
+
+    @Benchmark
+    public long countLastWeek() {
+        return snapshot.count(lastWeek);
+    }
+
+    @Benchmark
+    public long countCombined() {
+        return snapshot.count(combined);
+    }
+
+    @Benchmark
+    public Map<Brand, Long> countByBrand() {
+        return snapshot.countByBrand(combined);
+    }
+}
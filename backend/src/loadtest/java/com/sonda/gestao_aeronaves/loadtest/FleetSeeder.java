@@ -0,0 +1,50 @@
+package com.sonda.gestao_aeronaves.loadtest;
+
+import com.sonda.gestao_aeronaves.domain.Brand;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Inserts a deterministic fleet with JDBC batches. Creation dates are spread over the
+ * last 60 days so the "last week" statistics have data.
+ */
+final class FleetSeeder {
+
+    static final Brand[] BRANDS = Brand.values();
+    private static final String[] MODELS = { "E195", "E190", "E175", "A320", "A321", "A350", "B737", "B777", "B787" };
+    private static final int BATCH = 5_000;
+
+    private FleetSeeder() {
+    }
+
+    static String name(long id) {
+        return MODELS[(int) (id % MODELS.length)] + "-" + id;
+    }
+
+    static void seed(JdbcTemplate jdbc, int rows) {
+        String sql = "INSERT INTO aeronave (id, nome, marca, ano, descricao, vendido, versao, created, updated) "
+                + "VALUES (?, ?, ?, ?, ?, ?, 0, ?, ?)";
+        LocalDateTime now = LocalDateTime.now();
+        Random random = new Random(42);
+        List<Object[]> batch = new ArrayList<>(BATCH);
+        for (long id = 1; id <= rows; id++) {
+            Timestamp created = Timestamp.valueOf(now.minusMinutes(random.nextInt(60 * 24 * 60)));
+            batch.add(new Object[] { id, name(id), BRANDS[(int) (id % BRANDS.length)].name(), 1970 + random.nextInt(55),
+                    "Aeronave " + id + " com configuração padrão", random.nextBoolean(), created, created });
+            if (batch.size() == BATCH) {
+                jdbc.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbc.batchUpdate(sql, batch);
+        }
+        // Hibernate's pooled optimizer treats each sequence value as the top of a block of 50
+        jdbc.execute("ALTER SEQUENCE aeronave_seq RESTART WITH " + (rows + 51));
+    }
+}
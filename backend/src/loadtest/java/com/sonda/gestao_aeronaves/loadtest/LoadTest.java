@@ -0,0 +1,257 @@
+package com.sonda.gestao_aeronaves.loadtest;
+
+import com.sonda.gestao_aeronaves.GestaoAeronavesApplication;
+import com.sonda.gestao_aeronaves.service.search.InMemoryAircraftSearch;
+import com.sonda.gestao_aeronaves.service.statistics.FleetSnapshot;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.File;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model HTTP load test of the aircraft API.
+ * <p>
+ * Requests are started at a fixed arrival rate whatever the response times, as real
+ * users would, and each latency is measured from the moment its request was due, not
+ * from when it was actually sent. A server that falls behind therefore shows up in
+ * the percentiles instead of silently lowering the load (coordinated omission).
+ * <p>
+ * Usage: {@code ./mvnw -Ploadtest test-compile exec:exec -Dloadtest.args="rate=200 duration=60 fleet=10000"}.
+ * Other options: {@code warmup} (seconds), {@code mix} (e.g. {@code get=40,search=20,create=5}),
+ * {@code output}, {@code threads=platform,virtual} to compare request execution modes, and any
+ * {@code spring.*}/{@code server.*}/{@code aircraft.*} application property.
+ */
+public final class LoadTest {
+
+    private static final long HIGHEST_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(2);
+    private static final int MAX_IN_FLIGHT = 2_000;
+
+    private final URI base;
+    private final LoadTestOptions options;
+    private final Operation[] schedule;
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private LoadTest(URI base, LoadTestOptions options) {
+        this.base = base;
+        this.options = options;
+        List<Operation> slots = new ArrayList<>();
+        options.mix().forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                slots.add(operation);
+            }
+        });
+        this.schedule = slots.toArray(Operation[]::new);
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        Map<String, Object> report;
+        if (options.threads().isEmpty()) {
+            report = runAgainstApplication(options, List.of());
+        } else {
+            Map<String, Map<String, Object>> modes = new LinkedHashMap<>();
+            for (String mode : options.threads()) {
+                System.out.printf("%n=== %s threads ===%n", mode);
+                modes.put(mode, runAgainstApplication(options,
+                        List.of("--spring.threads.virtual.enabled=" + mode.equals("virtual"))));
+            }
+            printComparison(modes);
+            report = new LinkedHashMap<>(modes);
+        }
+        File output = new File(options.output());
+        output.getAbsoluteFile().getParentFile().mkdirs();
+        JsonMapper.builder().enable(SerializationFeature.INDENT_OUTPUT).build().writeValue(output, report);
+        System.out.println("Report written to " + output.getAbsolutePath());
+    }
+
+    /**
+     * Starts the application, seeds it, runs the warm-up and the measured phase, and stops it.
+     */
+    private static Map<String, Object> runAgainstApplication(LoadTestOptions options, List<String> extraArgs)
+            throws InterruptedException {
+        List<String> applicationArgs = new ArrayList<>(options.applicationArgs());
+        applicationArgs.addAll(extraArgs);
+        applicationArgs.add("--server.port=0");
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(GestaoAeronavesApplication.class)
+                .profiles("loadtest")
+                .run(applicationArgs.toArray(String[]::new));
+        try {
+            System.out.printf("Seeding %,d aircraft...%n", options.fleet());
+            FleetSeeder.seed(context.getBean(JdbcTemplate.class), options.fleet());
+            context.getBean(FleetSnapshot.class).initialize();
+            context.getBean(InMemoryAircraftSearch.class).initialize();
+
+            URI base = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port"));
+            LoadTest test = new LoadTest(base, options);
+            System.out.printf("Warming up for %ds at %d req/s...%n", options.warmup().toSeconds(), options.rate());
+            test.run(options.warmup());
+            System.out.printf("Measuring for %ds at %d req/s...%n", options.duration().toSeconds(), options.rate());
+            Result result = test.run(options.duration());
+
+            result.print(options);
+            Map<String, Object> report = result.report(options);
+            report.put("virtualThreads", context.getEnvironment()
+                    .getProperty("spring.threads.virtual.enabled", Boolean.class, false));
+            return report;
+        } finally {
+            context.close();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void printComparison(Map<String, Map<String, Object>> modes) {
+        System.out.printf("%n%-12s %9s %7s %9s %9s %9s %9s %9s%n", "threads", "requests", "errors", "req/s",
+                "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        modes.forEach((mode, report) -> {
+            Map<String, Object> total = (Map<String, Object>) report.get("total");
+            System.out.printf("%-12s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n", mode, total.get("requests"),
+                    (long) total.get("errors") + (long) total.get("dropped"), total.get("throughputPerSecond"),
+                    total.get("p50Ms"), total.get("p99Ms"), total.get("p999Ms"), total.get("maxMs"));
+        });
+    }
+
+    private Result run(Duration duration) throws InterruptedException {
+        Result result = new Result(duration);
+        AtomicInteger inFlight = new AtomicInteger();
+        long interval = TimeUnit.SECONDS.toNanos(1) / options.rate();
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        for (long i = 0; ; i++) {
+            long due = start + i * interval;
+            if (due >= end) {
+                break;
+            }
+            long wait = due - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Operation operation = schedule[ThreadLocalRandom.current().nextInt(schedule.length)];
+            if (inFlight.get() >= MAX_IN_FLIGHT) {
+                result.dropped(operation);
+                continue;
+            }
+            inFlight.incrementAndGet();
+            client.sendAsync(operation.request(base, options.fleet()), BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        boolean ok = error == null && response.statusCode() < 400;
+                        result.record(operation, System.nanoTime() - due, ok);
+                        inFlight.decrementAndGet();
+                    });
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        return result;
+    }
+
+    private static final class Result {
+        private final Duration duration;
+        private final Map<Operation, Histogram> latencies = new EnumMap<>(Operation.class);
+        private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+        private final Map<Operation, LongAdder> drops = new EnumMap<>(Operation.class);
+        private final Histogram total = new ConcurrentHistogram(HIGHEST_LATENCY_MICROS, 3);
+
+        Result(Duration duration) {
+            this.duration = duration;
+            for (Operation operation : Operation.values()) {
+                latencies.put(operation, new ConcurrentHistogram(HIGHEST_LATENCY_MICROS, 3));
+                errors.put(operation, new LongAdder());
+                drops.put(operation, new LongAdder());
+            }
+        }
+
+        void record(Operation operation, long latencyNanos, boolean ok) {
+            long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_LATENCY_MICROS);
+            latencies.get(operation).recordValue(micros);
+            total.recordValue(micros);
+            if (!ok) {
+                errors.get(operation).increment();
+            }
+        }
+
+        void dropped(Operation operation) {
+            drops.get(operation).increment();
+        }
+
+        Map<String, Object> report(LoadTestOptions options) {
+            Map<String, Object> endpoints = new LinkedHashMap<>();
+            for (Operation operation : Operation.values()) {
+                if (latencies.get(operation).getTotalCount() > 0 || drops.get(operation).sum() > 0) {
+                    endpoints.put(operation.label(), stats(latencies.get(operation), errors.get(operation).sum(),
+                            drops.get(operation).sum()));
+                }
+            }
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("finishedAt", Instant.now().toString());
+            report.put("rate", options.rate());
+            report.put("durationSeconds", duration.toSeconds());
+            report.put("fleet", options.fleet());
+            report.put("mix", options.mix());
+            report.put("applicationArgs", options.applicationArgs());
+            report.put("total", stats(total, errors.values().stream().mapToLong(LongAdder::sum).sum(),
+                    drops.values().stream().mapToLong(LongAdder::sum).sum()));
+            report.put("endpoints", endpoints);
+            return report;
+        }
+
+        private Map<String, Object> stats(Histogram histogram, long errorCount, long dropCount) {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("requests", histogram.getTotalCount());
+            stats.put("errors", errorCount);
+            stats.put("dropped", dropCount);
+            stats.put("throughputPerSecond", histogram.getTotalCount() / (double) duration.toSeconds());
+            stats.put("meanMs", histogram.getMean() / 1000.0);
+            stats.put("p50Ms", histogram.getValueAtPercentile(50) / 1000.0);
+            stats.put("p90Ms", histogram.getValueAtPercentile(90) / 1000.0);
+            stats.put("p99Ms", histogram.getValueAtPercentile(99) / 1000.0);
+            stats.put("p999Ms", histogram.getValueAtPercentile(99.9) / 1000.0);
+            stats.put("maxMs", histogram.getMaxValue() / 1000.0);
+            return stats;
+        }
+
+        void print(LoadTestOptions options) {
+            System.out.printf("%n%-36s %9s %7s %9s %9s %9s %9s %9s %9s%n", "endpoint", "requests", "errors",
+                    "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+            for (Operation operation : Operation.values()) {
+                Histogram histogram = latencies.get(operation);
+                if (histogram.getTotalCount() > 0) {
+                    printRow(operation.label(), histogram, errors.get(operation).sum() + drops.get(operation).sum());
+                }
+            }
+            printRow("total", total, errors.values().stream().mapToLong(LongAdder::sum).sum()
+                    + drops.values().stream().mapToLong(LongAdder::sum).sum());
+        }
+
+        private void printRow(String label, Histogram histogram, long failures) {
+            System.out.printf("%-36s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n", label,
+                    histogram.getTotalCount(), failures, histogram.getTotalCount() / (double) duration.toSeconds(),
+                    histogram.getValueAtPercentile(50) / 1000.0, histogram.getValueAtPercentile(90) / 1000.0,
+                    histogram.getValueAtPercentile(99) / 1000.0, histogram.getValueAtPercentile(99.9) / 1000.0,
+                    histogram.getMaxValue() / 1000.0);
+        }
+    }
+}
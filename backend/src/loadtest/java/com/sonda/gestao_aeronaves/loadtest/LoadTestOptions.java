@@ -0,0 +1,72 @@
+package com.sonda.gestao_aeronaves.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Command line options, given as {@code key=value}. Keys starting with {@code spring.},
+ * {@code server.} or {@code aircraft.} are passed on to the application under test.
+ * {@code threads=platform,virtual} runs the test once per request execution mode.
+ */
+record LoadTestOptions(int rate, Duration warmup, Duration duration, int fleet, Map<Operation, Integer> mix,
+        String output, List<String> threads, List<String> applicationArgs) {
+
+    static final String DEFAULT_MIX = "get=40,page=15,search=20,overview=10,create=5,update=7,patch=3";
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new LinkedHashMap<>();
+        List<String> applicationArgs = new ArrayList<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (eq <= 0) {
+                throw new IllegalArgumentException("Expected key=value, got: " + arg);
+            }
+            String key = arg.substring(0, eq);
+            if (key.startsWith("spring.") || key.startsWith("server.") || key.startsWith("aircraft.")) {
+                applicationArgs.add("--" + arg);
+            } else {
+                values.put(key, arg.substring(eq + 1));
+            }
+        }
+        LoadTestOptions options = new LoadTestOptions(
+                Integer.parseInt(values.getOrDefault("rate", "200")),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("warmup", "15"))),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("duration", "60"))),
+                Integer.parseInt(values.getOrDefault("fleet", "10000")),
+                parseMix(values.getOrDefault("mix", DEFAULT_MIX)),
+                values.getOrDefault("output", "target/loadtest-result.json"),
+                parseThreads(values.getOrDefault("threads", "")),
+                List.copyOf(applicationArgs));
+        if (options.rate <= 0 || options.fleet <= 0 || options.duration.isZero()) {
+            throw new IllegalArgumentException("rate, fleet and duration must be positive");
+        }
+        return options;
+    }
+
+    private static List<String> parseThreads(String threads) {
+        List<String> modes = new ArrayList<>();
+        for (String mode : threads.split(",")) {
+            String trimmed = mode.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            if (!trimmed.equals("platform") && !trimmed.equals("virtual")) {
+                throw new IllegalArgumentException("threads must be platform and/or virtual, got: " + trimmed);
+            }
+            modes.add(trimmed);
+        }
+        return List.copyOf(modes);
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            weights.put(Operation.fromKey(parts[0]), Integer.parseInt(parts[1]));
+        }
+        return weights;
+    }
+}
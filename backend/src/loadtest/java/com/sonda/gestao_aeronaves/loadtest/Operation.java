@@ -0,0 +1,71 @@
+package com.sonda.gestao_aeronaves.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * One kind of request in the mix. Reads and updates target random seeded aircraft.
+ */
+enum Operation {
+    LIST("GET /aeronaves"),
+    PAGE("GET /aeronaves/page"),
+    GET("GET /aeronaves/{id}"),
+    SEARCH("GET /aeronaves/find"),
+    OVERVIEW("GET /aeronaves/statistics/overview"),
+    CREATE("POST /aeronaves"),
+    UPDATE("PUT /aeronaves/{id}"),
+    PATCH("PATCH /aeronaves/{id}");
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+    private static final String[] TERMS = { "E19", "A32", "B7", "EMBRAER", "AIRBUS", "padrão", "17" };
+
+    private final String label;
+
+    Operation(String label) {
+        this.label = label;
+    }
+
+    String label() {
+        return label;
+    }
+
+    static Operation fromKey(String key) {
+        return valueOf(key.trim().toUpperCase(Locale.ROOT));
+    }
+
+    HttpRequest request(URI base, int fleet) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long id = 1 + random.nextInt(fleet);
+        HttpRequest.Builder builder = HttpRequest.newBuilder().timeout(TIMEOUT);
+        return switch (this) {
+            case LIST -> builder.uri(base.resolve("/aeronaves")).GET().build();
+            case PAGE -> builder.uri(base.resolve("/aeronaves/page?size=50")).GET().build();
+            case GET -> builder.uri(base.resolve("/aeronaves/" + id)).GET().build();
+            case SEARCH -> builder.uri(base.resolve("/aeronaves/find?term="
+                    + URLEncoder.encode(TERMS[random.nextInt(TERMS.length)], StandardCharsets.UTF_8))).GET().build();
+            case OVERVIEW -> builder.uri(base.resolve("/aeronaves/statistics/overview")).GET().build();
+            case CREATE -> json(builder.uri(base.resolve("/aeronaves")), "POST", body(random, "LT-" + random.nextInt(1_000_000)));
+            case UPDATE -> json(builder.uri(base.resolve("/aeronaves/" + id)), "PUT", body(random, FleetSeeder.name(id)));
+            case PATCH -> json(builder.uri(base.resolve("/aeronaves/" + id)), "PATCH",
+                    "{\"sold\":" + random.nextBoolean() + "}");
+        };
+    }
+
+    private static HttpRequest json(HttpRequest.Builder builder, String method, String body) {
+        return builder.header("Content-Type", "application/json")
+                .method(method, BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static String body(ThreadLocalRandom random, String name) {
+        return "{\"name\":\"" + name + "\",\"brand\":\"" + FleetSeeder.BRANDS[random.nextInt(FleetSeeder.BRANDS.length)]
+                + "\",\"year\":" + (1970 + random.nextInt(55))
+                + ",\"description\":\"Aeronave do teste de carga\",\"sold\":" + random.nextBoolean() + "}";
+    }
+}
@@ -0,0 +1,16 @@
+package com.sonda.gestao_aeronaves.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables the Spring cache abstraction. Cache sizes and TTLs are configured through
+ * {@code spring.cache.caffeine.spec}; the Hibernate second-level cache regions are
+ * configured in {@code application.conf}.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String AIRCRAFT_CACHE = "aircraft";
+}
@@ -0,0 +1,65 @@
+package com.sonda.gestao_aeronaves.config;
+
+import com.sonda.gestao_aeronaves.persistence.sql.BulkheadDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Caps concurrent database work at the Hikari pool size with a {@link BulkheadDataSource}.
+ * It matters most with {@code spring.threads.virtual.enabled=true}, where the number of
+ * requests in flight is no longer bounded by Tomcat's thread pool. The bulkhead is applied
+ * before the SQL statistics proxy, so waiting for a permit is not counted as JDBC time.
+ */
+@Configuration
+@ConditionalOnBooleanProperty(name = "aircraft.db.bulkhead.enabled", matchIfMissing = true)
+public class DatabaseBulkheadConfig {
+
+    @Bean
+    public static BeanPostProcessor databaseBulkheadPostProcessor(
+            @Value("${aircraft.db.bulkhead.max-wait:5s}") Duration maxWait) {
+        return new BulkheadPostProcessor(maxWait);
+    }
+
+    @Bean
+    public MeterBinder databaseBulkheadMetrics(DataSource dataSource) throws SQLException {
+        if (!dataSource.isWrapperFor(BulkheadDataSource.class)) {
+            return registry -> { };
+        }
+        BulkheadDataSource bulkhead = dataSource.unwrap(BulkheadDataSource.class);
+        return registry -> {
+            Gauge.builder("aircraft.db.bulkhead.available", bulkhead, BulkheadDataSource::getAvailablePermits)
+                    .description("Connections that can be checked out without waiting")
+                    .register(registry);
+            Gauge.builder("aircraft.db.bulkhead.waiting", bulkhead, BulkheadDataSource::getQueueLength)
+                    .description("Callers waiting for a connection")
+                    .register(registry);
+        };
+    }
+
+    private record BulkheadPostProcessor(Duration maxWait) implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof HikariDataSource hikari) {
+                return new BulkheadDataSource(hikari, hikari.getMaximumPoolSize(), maxWait);
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
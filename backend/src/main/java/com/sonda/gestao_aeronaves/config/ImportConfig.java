@@ -0,0 +1,27 @@
+package com.sonda.gestao_aeronaves.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Executor for the writer side of bulk imports. It has no queue: when every thread
+ * is busy, a new import is refused instead of waiting with its upload half read.
+ */
+@Configuration
+public class ImportConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutor importExecutor(
+            @Value("${aircraft.import.max-concurrent-jobs:2}") int maxConcurrentJobs) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrentJobs);
+        executor.setMaxPoolSize(maxConcurrentJobs);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("aircraft-import-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
@@ -0,0 +1,76 @@
+package com.sonda.gestao_aeronaves.config;
+
+import com.sonda.gestao_aeronaves.persistence.reactive.ReactiveDatabase;
+import com.sonda.gestao_aeronaves.web.reactive.ReactiveAircraftHandler;
+import com.sonda.gestao_aeronaves.web.reactive.ReactiveReadServer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.codec.json.JacksonJsonDecoder;
+import org.springframework.http.codec.json.JacksonJsonEncoder;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.reactive.CorsWebFilter;
+import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+
+/**
+ * Reactive read API, enabled by the {@code reactive} profile: WebFlux functional
+ * endpoints over R2DBC, served by Reactor Netty on {@code aircraft.reactive.port}.
+ * Writes keep going through the blocking API.
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveReadConfig {
+
+    @Bean
+    public ReactiveDatabase reactiveDatabase(
+            @Value("${aircraft.reactive.r2dbc.url}") String url,
+            @Value("${aircraft.reactive.r2dbc.username:}") String username,
+            @Value("${aircraft.reactive.r2dbc.password:}") String password,
+            @Value("${aircraft.reactive.r2dbc.pool-size:20}") int poolSize) {
+        return new ReactiveDatabase(url, username, password, poolSize);
+    }
+
+    @Bean
+    public RouterFunction<ServerResponse> reactiveAircraftRoutes(ReactiveAircraftHandler handler) {
+        return RouterFunctions.route()
+                .path("/aeronaves", builder -> builder
+                        .GET("", handler::listAll)
+                        .GET("/find", handler::findByTerm)
+                        .GET("/statistics/unsold", handler::countUnsold)
+                        .GET("/statistics/by-decade", handler::listByDecade)
+                        .GET("/statistics/overview", handler::getOverview)
+                        .GET("/statistics/last-week", handler::findLastWeek)
+                        .GET("/statistics/last-week/count", handler::countLastWeek)
+                        .GET("/{id}", handler::getById))
+                .build();
+    }
+
+    @Bean
+    public ReactiveReadServer reactiveReadServer(RouterFunction<ServerResponse> reactiveAircraftRoutes,
+            JsonMapper jsonMapper, @Value("${aircraft.reactive.port:8090}") int port) {
+        CorsConfiguration cors = new CorsConfiguration();
+        cors.addAllowedOrigin("*");
+        cors.addAllowedMethod("GET");
+        cors.setExposedHeaders(List.of(HttpHeaders.ETAG));
+        UrlBasedCorsConfigurationSource corsSource = new UrlBasedCorsConfigurationSource();
+        corsSource.registerCorsConfiguration("/**", cors);
+
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jacksonJsonEncoder(new JacksonJsonEncoder(jsonMapper));
+                    codecs.defaultCodecs().jacksonJsonDecoder(new JacksonJsonDecoder(jsonMapper));
+                })
+                .webFilter(new CorsWebFilter(corsSource))
+                .build();
+        return new ReactiveReadServer(RouterFunctions.toHttpHandler(reactiveAircraftRoutes, strategies), port);
+    }
+}
@@ -0,0 +1,49 @@
+package com.sonda.gestao_aeronaves.config;
+
+import com.sonda.gestao_aeronaves.persistence.sql.RowCountingResultSetProxyLogic;
+import com.sonda.gestao_aeronaves.persistence.sql.SqlStatisticsListener;
+import com.sonda.gestao_aeronaves.web.sql.SqlBudgetFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Wraps the DataSource in a datasource-proxy that counts statements, rows and JDBC time
+ * for {@link com.sonda.gestao_aeronaves.persistence.sql.SqlStatistics}, and registers the
+ * per-request SQL budget. Statements are no longer logged by Hibernate; set
+ * {@code logging.level.org.hibernate.SQL=debug} to see them.
+ */
+@Configuration
+public class SqlStatisticsConfig {
+
+    @Bean
+    public static BeanPostProcessor sqlStatisticsDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(beanName, dataSource)
+                            .listener(new SqlStatisticsListener())
+                            .proxyResultSet(RowCountingResultSetProxyLogic.FACTORY)
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public SqlBudgetFilter sqlBudgetFilter(MeterRegistry registry,
+            @Value("${aircraft.sql.budget.max-statements:10}") long maxStatements,
+            @Value("${aircraft.sql.budget.max-rows:5000}") long maxRows,
+            @Value("${aircraft.sql.budget.max-time:500ms}") Duration maxTime) {
+        return new SqlBudgetFilter(registry, maxStatements, maxRows, maxTime);
+    }
+}
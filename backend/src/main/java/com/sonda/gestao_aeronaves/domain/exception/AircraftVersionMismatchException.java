@@ -0,0 +1,13 @@
+package com.sonda.gestao_aeronaves.domain.exception;
+
+public class AircraftVersionMismatchException extends RuntimeException {
+
+    public AircraftVersionMismatchException(Long id, long expectedVersion, long currentVersion) {
+        super("Aircraft " + id + " is at version " + currentVersion + ", not " + expectedVersion
+                + ". Reload it and try again.");
+    }
+
+    public AircraftVersionMismatchException(String message) {
+        super(message);
+    }
+}
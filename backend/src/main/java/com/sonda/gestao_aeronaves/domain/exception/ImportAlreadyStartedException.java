@@ -0,0 +1,10 @@
+package com.sonda.gestao_aeronaves.domain.exception;
+
+import java.util.UUID;
+
+public class ImportAlreadyStartedException extends RuntimeException {
+
+    public ImportAlreadyStartedException(UUID id) {
+        super("O arquivo da importação " + id + " já foi enviado.");
+    }
+}
@@ -0,0 +1,8 @@
+package com.sonda.gestao_aeronaves.domain.exception;
+
+public class ImportCapacityExceededException extends RuntimeException {
+
+    public ImportCapacityExceededException(int maxConcurrentJobs) {
+        super("Limite de " + maxConcurrentJobs + " importações simultâneas atingido. Tente novamente mais tarde.");
+    }
+}
@@ -0,0 +1,10 @@
+package com.sonda.gestao_aeronaves.domain.exception;
+
+import java.util.UUID;
+
+public class ImportJobNotFoundException extends RuntimeException {
+
+    public ImportJobNotFoundException(UUID id) {
+        super("Import job not found with ID: " + id);
+    }
+}
@@ -1,12 +1,43 @@
 package com.sonda.gestao_aeronaves.mapper;
 
 import com.sonda.gestao_aeronaves.web.dto.AircraftDTO;
+import com.sonda.gestao_aeronaves.web.dto.AircraftPatchDTO;
+import com.sonda.gestao_aeronaves.web.dto.AircraftSummaryDTO;
 import com.sonda.gestao_aeronaves.persistence.entity.Aircraft;
+import com.sonda.gestao_aeronaves.persistence.projection.AircraftSummaryView;
+import com.sonda.gestao_aeronaves.persistence.projection.AircraftView;
+import org.mapstruct.BeanMapping;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.NullValuePropertyMappingStrategy;
+
+import java.util.List;
 
 @Mapper(componentModel = "spring")
 public interface AircraftMapper {
 
     AircraftDTO toDTO(Aircraft entity);
+
+    AircraftDTO toDTO(AircraftView view);
+
+    List<AircraftDTO> toDTOs(List<AircraftView> views);
+
+    List<AircraftSummaryDTO> toSummaryDTOs(List<AircraftSummaryView> views);
+
+    @Mapping(target = "version", ignore = true)
     Aircraft toEntity(AircraftDTO dto);
-}
\ No newline at end of file
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "created", ignore = true)
+    @Mapping(target = "updated", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    void updateEntity(AircraftDTO dto, @MappingTarget Aircraft entity);
+
+    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "created", ignore = true)
+    @Mapping(target = "updated", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    void patchEntity(AircraftPatchDTO patch, @MappingTarget Aircraft entity);
+}
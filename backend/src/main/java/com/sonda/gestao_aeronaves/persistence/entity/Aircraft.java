@@ -3,10 +3,17 @@ package com.sonda.gestao_aeronaves.persistence.entity;
 import com.sonda.gestao_aeronaves.domain.Brand;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "aeronave")
+@DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "aircraft-entity")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -14,7 +21,8 @@ import java.time.LocalDateTime;
 public class Aircraft {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "aeronave_seq")
+    @SequenceGenerator(name = "aeronave_seq", sequenceName = "aeronave_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "nome", nullable = false)
@@ -30,9 +38,14 @@ public class Aircraft {
     @Column(name = "descricao", columnDefinition = "TEXT")
     private String description;
 
-    @Column(name = "vendido")
+    @Column(name = "vendido", nullable = false)
     private boolean sold;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "versao", nullable = false)
+    private long version;
+
     @Column(name = "created", updatable = false)
     private LocalDateTime created;
 
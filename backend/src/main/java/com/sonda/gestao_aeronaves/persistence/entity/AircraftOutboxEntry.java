@@ -0,0 +1,42 @@
+package com.sonda.gestao_aeronaves.persistence.entity;
+
+import com.sonda.gestao_aeronaves.service.event.AircraftChangedEvent;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * One aircraft change waiting to be, or already, relayed to downstream systems.
+ * Written in the transaction that made the change; the ID gives the publication order.
+ */
+@Entity
+@Table(name = "aeronave_outbox")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AircraftOutboxEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "aeronave_outbox_seq")
+    @SequenceGenerator(name = "aeronave_outbox_seq", sequenceName = "aeronave_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "aeronave_id", nullable = false)
+    private Long aircraftId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "tipo", nullable = false)
+    private AircraftChangedEvent.Type type;
+
+    /** Aircraft after the change as JSON; null for DELETED. */
+    @Column(name = "dados", columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "created", nullable = false)
+    private LocalDateTime created;
+
+    @Column(name = "publicado", nullable = false)
+    private boolean published;
+}
@@ -0,0 +1,26 @@
+package com.sonda.gestao_aeronaves.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Marks a deleted aircraft, so clients syncing through {@code /aeronaves/changes}
+ * learn about the deletion. Kept for {@code aircraft.changes.tombstone-retention}.
+ */
+@Entity
+@Table(name = "aeronave_exclusao")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AircraftTombstone {
+
+    @Id
+    @Column(name = "aeronave_id")
+    private Long aircraftId;
+
+    @Column(name = "deleted", nullable = false)
+    private LocalDateTime deleted;
+}
@@ -0,0 +1,19 @@
+package com.sonda.gestao_aeronaves.persistence.projection;
+
+import com.sonda.gestao_aeronaves.domain.Brand;
+
+import java.time.LocalDateTime;
+
+public interface AircraftFacts {
+    Long getId();
+
+    Brand getBrand();
+
+    Integer getYear();
+
+    Boolean getSold();
+
+    LocalDateTime getCreated();
+
+    LocalDateTime getUpdated();
+}
@@ -0,0 +1,12 @@
+package com.sonda.gestao_aeronaves.persistence.projection;
+
+import com.sonda.gestao_aeronaves.domain.Brand;
+
+import java.time.LocalDateTime;
+
+/**
+ * Every column of an aircraft but the description, the only unbounded one.
+ */
+public record AircraftSummaryView(Long id, String name, Brand brand, Integer year, boolean sold, Long version,
+        LocalDateTime created, LocalDateTime updated) {
+}
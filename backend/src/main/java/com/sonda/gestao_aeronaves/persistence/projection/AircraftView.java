@@ -0,0 +1,13 @@
+package com.sonda.gestao_aeronaves.persistence.projection;
+
+import com.sonda.gestao_aeronaves.domain.Brand;
+
+import java.time.LocalDateTime;
+
+/**
+ * Every column of an aircraft, selected by a JPQL constructor expression so no entity
+ * or loaded-state snapshot is created per row.
+ */
+public record AircraftView(Long id, String name, Brand brand, Integer year, String description, boolean sold,
+        Long version, LocalDateTime created, LocalDateTime updated) {
+}
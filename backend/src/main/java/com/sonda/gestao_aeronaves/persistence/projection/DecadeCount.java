@@ -0,0 +1,7 @@
+package com.sonda.gestao_aeronaves.persistence.projection;
+
+public interface DecadeCount {
+    Integer getDecade();
+
+    Long getTotal();
+}
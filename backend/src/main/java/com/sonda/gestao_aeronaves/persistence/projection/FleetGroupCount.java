@@ -0,0 +1,13 @@
+package com.sonda.gestao_aeronaves.persistence.projection;
+
+import com.sonda.gestao_aeronaves.domain.Brand;
+
+public interface FleetGroupCount {
+    Brand getBrand();
+
+    Integer getDecade();
+
+    Boolean getSold();
+
+    Long getTotal();
+}
@@ -0,0 +1,9 @@
+package com.sonda.gestao_aeronaves.persistence.projection;
+
+import java.time.LocalDateTime;
+
+public interface FleetRevision {
+    Long getTotal();
+
+    LocalDateTime getLastUpdated();
+}
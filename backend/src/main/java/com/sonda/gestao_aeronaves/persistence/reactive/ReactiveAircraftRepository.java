@@ -0,0 +1,138 @@
+package com.sonda.gestao_aeronaves.persistence.reactive;
+
+import com.sonda.gestao_aeronaves.domain.Brand;
+import com.sonda.gestao_aeronaves.persistence.entity.Aircraft;
+import io.r2dbc.spi.Readable;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Non-blocking reads of the {@code aeronave} table over R2DBC, for the reactive read API.
+ * Rows are mapped to detached {@link Aircraft} instances so the existing AircraftMapper
+ * produces the same DTOs as the blocking API. Queries stick to SQL understood by both
+ * PostgreSQL and H2.
+ * <p>
+ * Multi-row queries are emitted as the driver reads them, with a fetch size of
+ * {@value #FETCH_SIZE}, so a slow subscriber slows down the reads instead of buffering
+ * the fleet.
+ */
+@Repository
+@Profile("reactive")
+public class ReactiveAircraftRepository {
+
+    static final int FETCH_SIZE = 500;
+
+    private static final String SELECT = "SELECT id, nome, marca, ano, descricao, vendido, versao, created, updated "
+            + "FROM aeronave ";
+    private static final String SEARCH = SELECT
+            + "WHERE nome ILIKE :pattern ESCAPE '\\' OR descricao ILIKE :pattern ESCAPE '\\' "
+            + "OR marca ILIKE :pattern ESCAPE '\\' "
+            + "ORDER BY CASE "
+            + "WHEN LOWER(nome) = :term THEN 0 "
+            + "WHEN nome ILIKE :prefix ESCAPE '\\' THEN 1 "
+            + "WHEN nome ILIKE :pattern ESCAPE '\\' THEN 2 "
+            + "WHEN marca ILIKE :pattern ESCAPE '\\' THEN 3 "
+            + "ELSE 4 END, id "
+            + "LIMIT :limit OFFSET :offset";
+
+    private final DatabaseClient client;
+
+    public ReactiveAircraftRepository(ReactiveDatabase database) {
+        this.client = database.getClient();
+    }
+
+    public Flux<Aircraft> findAll() {
+        return client.sql(SELECT + "ORDER BY id")
+                .filter(statement -> statement.fetchSize(FETCH_SIZE))
+                .map(ReactiveAircraftRepository::toEntity)
+                .all();
+    }
+
+    public Mono<Aircraft> findById(Long id) {
+        return client.sql(SELECT + "WHERE id = :id")
+                .bind("id", id)
+                .map(ReactiveAircraftRepository::toEntity)
+                .one();
+    }
+
+    /**
+     * Case-insensitive search on name, description and brand, ranked like the
+     * PostgreSQL search engine: exact name, name prefix, name, brand, description.
+     * The ILIKE filters are served by the trigram indexes on PostgreSQL.
+     *
+     * @param term   Search term, trimmed.
+     * @param offset Number of ranked results to skip.
+     * @param limit  Maximum number of results.
+     * @return Matching aircraft, best match first.
+     */
+    public Flux<Aircraft> search(String term, int offset, int limit) {
+        String lower = escapeLike(term.toLowerCase());
+        return client.sql(SEARCH)
+                .bind("term", term.toLowerCase())
+                .bind("pattern", "%" + lower + "%")
+                .bind("prefix", lower + "%")
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map(ReactiveAircraftRepository::toEntity)
+                .all();
+    }
+
+    public Flux<Aircraft> findByCreatedAfter(LocalDateTime date) {
+        return client.sql(SELECT + "WHERE created > :date ORDER BY id")
+                .bind("date", date)
+                .filter(statement -> statement.fetchSize(FETCH_SIZE))
+                .map(ReactiveAircraftRepository::toEntity)
+                .all();
+    }
+
+    public Mono<Long> countByCreatedAfter(LocalDateTime date) {
+        return client.sql("SELECT COUNT(*) FROM aeronave WHERE created > :date")
+                .bind("date", date)
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    public Mono<Long> countBySoldFalse() {
+        return client.sql("SELECT COUNT(*) FROM aeronave WHERE vendido = FALSE")
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    /**
+     * @return One row per brand, decade of manufacture and sold status, with its count.
+     */
+    public Flux<GroupCount> countByBrandDecadeAndSold() {
+        return client.sql("SELECT marca, (ano / 10) * 10 AS decade, vendido, COUNT(*) AS total "
+                        + "FROM aeronave GROUP BY marca, (ano / 10) * 10, vendido")
+                .map(row -> new GroupCount(Brand.valueOf(row.get("marca", String.class)),
+                        row.get("decade", Integer.class), Boolean.TRUE.equals(row.get("vendido", Boolean.class)),
+                        row.get("total", Long.class)))
+                .all();
+    }
+
+    private static Aircraft toEntity(Readable row) {
+        Long version = row.get("versao", Long.class);
+        return new Aircraft(
+                row.get("id", Long.class),
+                row.get("nome", String.class),
+                Brand.valueOf(row.get("marca", String.class)),
+                row.get("ano", Integer.class),
+                row.get("descricao", String.class),
+                Boolean.TRUE.equals(row.get("vendido", Boolean.class)),
+                version != null ? version : 0,
+                row.get("created", LocalDateTime.class),
+                row.get("updated", LocalDateTime.class));
+    }
+
+    private static String escapeLike(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    public record GroupCount(Brand brand, int decade, boolean sold, long total) {
+    }
+}
@@ -0,0 +1,53 @@
+package com.sonda.gestao_aeronaves.persistence.reactive;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.util.StringUtils;
+
+/**
+ * R2DBC connection pool of the reactive read API.
+ * <p>
+ * The pool is deliberately not exposed as a {@code ConnectionFactory} bean: Spring Boot's
+ * DataSource auto-configuration backs off when one exists, and the blocking JPA write
+ * path must keep its Hikari pool.
+ */
+public class ReactiveDatabase implements DisposableBean {
+
+    private final ConnectionPool pool;
+    private final DatabaseClient client;
+
+    /**
+     * @param url      R2DBC URL, e.g. {@code r2dbc:postgresql://localhost:5432/postgres}.
+     * @param username User, or blank to take it from the URL.
+     * @param password Password, or blank to take it from the URL.
+     * @param maxSize  Maximum number of pooled connections.
+     */
+    public ReactiveDatabase(String url, String username, String password, int maxSize) {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(url).mutate();
+        if (StringUtils.hasText(username)) {
+            options.option(ConnectionFactoryOptions.USER, username);
+        }
+        if (StringUtils.hasText(password)) {
+            options.option(ConnectionFactoryOptions.PASSWORD, password);
+        }
+        this.pool = new ConnectionPool(ConnectionPoolConfiguration
+                .builder(ConnectionFactories.get(options.build()))
+                .initialSize(Math.min(2, maxSize))
+                .maxSize(maxSize)
+                .build());
+        this.client = DatabaseClient.create(pool);
+    }
+
+    public DatabaseClient getClient() {
+        return client;
+    }
+
+    @Override
+    public void destroy() {
+        pool.dispose();
+    }
+}
@@ -0,0 +1,39 @@
+package com.sonda.gestao_aeronaves.persistence.repository;
+
+import com.sonda.gestao_aeronaves.persistence.entity.AircraftOutboxEntry;
+import com.sonda.gestao_aeronaves.service.event.AircraftChangedEvent;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface AircraftOutboxRepository extends JpaRepository<AircraftOutboxEntry, Long> {
+
+    /**
+     * Oldest entries not yet relayed, locked until the transaction ends so that only
+     * one relay publishes them at a time.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM AircraftOutboxEntry o WHERE o.published = false ORDER BY o.id")
+    List<AircraftOutboxEntry> lockUnpublished(Limit limit);
+
+    /**
+     * Deletes relayed entries older than {@code before} that were superseded by a later
+     * change of the same aircraft, and relayed deletions older than {@code before}
+     * (together with everything before them). The latest state of every existing
+     * aircraft is always kept.
+     */
+    @Modifying
+    @Query("DELETE FROM AircraftOutboxEntry o WHERE o.published = true AND o.created < :before AND " +
+           "(o.type = :deleted OR EXISTS (SELECT 1 FROM AircraftOutboxEntry n " +
+           "WHERE n.aircraftId = o.aircraftId AND n.id > o.id))")
+    int compact(@Param("before") LocalDateTime before, @Param("deleted") AircraftChangedEvent.Type deleted);
+}
@@ -2,26 +2,128 @@ package com.sonda.gestao_aeronaves.persistence.repository;
 
 import com.sonda.gestao_aeronaves.persistence.entity.Aircraft;
 import com.sonda.gestao_aeronaves.domain.Brand;
+import com.sonda.gestao_aeronaves.persistence.projection.AircraftFacts;
+import com.sonda.gestao_aeronaves.persistence.projection.AircraftSearchRow;
+import com.sonda.gestao_aeronaves.persistence.projection.AircraftSummaryView;
+import com.sonda.gestao_aeronaves.persistence.projection.AircraftView;
+import com.sonda.gestao_aeronaves.persistence.projection.DecadeCount;
+import com.sonda.gestao_aeronaves.persistence.projection.FleetGroupCount;
+import com.sonda.gestao_aeronaves.persistence.projection.FleetRevision;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
-public interface AircraftRepository extends JpaRepository<Aircraft, Long> {
+public interface AircraftRepository extends JpaRepository<Aircraft, Long>, JpaSpecificationExecutor<Aircraft> {
 
-    @Query("SELECT a FROM Aircraft a WHERE " +
-           "UPPER(a.name) LIKE UPPER(CONCAT('%', :term, '%')) OR " +
-           "UPPER(a.description) LIKE UPPER(CONCAT('%', :term, '%')) OR " +
-           "UPPER(CAST(a.brand AS string)) LIKE UPPER(CONCAT('%', :term, '%'))")
-    List<Aircraft> findByTerm(@Param("term") String term);
+    /**
+     * Read paths select straight into projection records, so no entity or loaded-state
+     * snapshot is created per row; AircraftMapper turns them into DTOs.
+     */
+    String SELECT_VIEW = "SELECT new com.sonda.gestao_aeronaves.persistence.projection.AircraftView(a.id, " +
+                         "a.name, a.brand, a.year, a.description, a.sold, a.version, a.created, a.updated) " +
+                         "FROM Aircraft a ";
+    String SELECT_SUMMARY = "SELECT new com.sonda.gestao_aeronaves.persistence.projection.AircraftSummaryView(" +
+                            "a.id, a.name, a.brand, a.year, a.sold, a.version, a.created, a.updated) " +
+                            "FROM Aircraft a ";
+
+    /** Match and ranking of the native pg_trgm search, shared by the two search queries. */
+    String SEARCH_MATCH = "a.nome ILIKE '%' || :term || '%' OR " +
+                          "a.descricao ILIKE '%' || :term || '%' OR " +
+                          "a.marca ILIKE '%' || :term || '%' ";
+
+    String SEARCH_ORDER = "ORDER BY CASE " +
+                          "WHEN a.nome ILIKE :term THEN 0 " +
+                          "WHEN a.nome ILIKE :term || '%' THEN 1 " +
+                          "WHEN a.nome ILIKE '%' || :term || '%' THEN 2 " +
+                          "WHEN a.marca ILIKE '%' || :term || '%' THEN 3 " +
+                          "ELSE 4 END, similarity(a.nome, :term) DESC, a.id ";
+
+    @Query(SELECT_VIEW)
+    List<AircraftView> findAllViews();
+
+    @Query(SELECT_SUMMARY)
+    List<AircraftSummaryView> findAllSummaries();
+
+    @Query(SELECT_VIEW + "WHERE a.id IN :ids")
+    List<AircraftView> findViewsById(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Ranked search served by pg_trgm GIN indexes (PostgreSQL only).
+     * The term must already have LIKE wildcards escaped.
+     */
+    @Query(value = "SELECT a.id FROM aeronave a WHERE " + SEARCH_MATCH + SEARCH_ORDER +
+                   "LIMIT :limit OFFSET :offset",
+           nativeQuery = true)
+    List<Long> searchRankedIds(@Param("term") String term, @Param("offset") int offset, @Param("limit") int limit);
+
+    /**
+     * Same ranking as {@link #searchRankedIds}, restricted to the given IDs.
+     */
+    @Query(value = "SELECT a.id FROM aeronave a WHERE a.id IN (:ids) AND (" + SEARCH_MATCH + ") " + SEARCH_ORDER,
+           nativeQuery = true)
+    List<Long> searchRankedIdsWithin(@Param("term") String term, @Param("ids") Collection<Long> ids);
 
     long countBySoldFalse();
 
-    List<Aircraft> findByCreatedAfter(LocalDateTime data);
+    @Query(SELECT_VIEW + "WHERE a.created > :date")
+    List<AircraftView> findByCreatedAfter(@Param("date") LocalDateTime date);
+
+    long countByCreatedAfter(LocalDateTime data);
+
+    @Query("SELECT a.id FROM Aircraft a WHERE a.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 
     List<Aircraft> findByBrand(Brand brand);
-}
\ No newline at end of file
+
+    @Query("SELECT (a.year / 10) * 10 AS decade, COUNT(a) AS total FROM Aircraft a " +
+           "GROUP BY (a.year / 10) * 10")
+    List<DecadeCount> countByDecade();
+
+    @Query("SELECT a.brand AS brand, (a.year / 10) * 10 AS decade, a.sold AS sold, COUNT(a) AS total " +
+           "FROM Aircraft a GROUP BY a.brand, (a.year / 10) * 10, a.sold")
+    List<FleetGroupCount> countByBrandDecadeAndSold();
+
+    @Query("SELECT COUNT(a) AS total, MAX(a.updated) AS lastUpdated FROM Aircraft a")
+    FleetRevision findFleetRevision();
+
+    /** Served by the index on {@code updated}, so the cost follows the number of changes. */
+    @Query("SELECT a FROM Aircraft a WHERE a.updated > :since ORDER BY a.updated, a.id")
+    List<Aircraft> findUpdatedAfter(@Param("since") LocalDateTime since);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("SELECT a FROM Aircraft a WHERE a.id > :afterId ORDER BY a.id")
+    List<Aircraft> findPageAfter(@Param("afterId") Long afterId, Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("SELECT a FROM Aircraft a ORDER BY a.id")
+    Stream<Aircraft> streamAll();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT a.id AS id, a.brand AS brand, a.year AS year, a.sold AS sold, a.created AS created, " +
+           "a.updated AS updated FROM Aircraft a")
+    Stream<AircraftFacts> streamFacts();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT a.id AS id, a.name AS name, a.brand AS brand, a.description AS description " +
+           "FROM Aircraft a")
+    Stream<AircraftSearchRow> streamSearchRows();
+}
@@ -0,0 +1,50 @@
+package com.sonda.gestao_aeronaves.persistence.repository;
+
+import com.sonda.gestao_aeronaves.persistence.entity.Aircraft;
+import com.sonda.gestao_aeronaves.service.statistics.FleetFilter;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.PredicateSpecification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Criteria predicates over {@link Aircraft}, shared by the repository counts and by
+ * queries that build their own criteria, such as the export scroll.
+ */
+public final class AircraftSpecifications {
+
+    private AircraftSpecifications() {
+    }
+
+    /**
+     * @param filter Filters to apply; null fields do not filter.
+     * @return Predicate matching the aircraft that pass every filter.
+     */
+    public static PredicateSpecification<Aircraft> matching(FleetFilter filter) {
+        return (aircraft, builder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (filter.getBrand() != null) {
+                predicates.add(builder.equal(aircraft.get("brand"), filter.getBrand()));
+            }
+            if (filter.getSold() != null) {
+                predicates.add(builder.equal(aircraft.get("sold"), filter.getSold()));
+            }
+            if (filter.getYearFrom() != null) {
+                predicates.add(builder.greaterThanOrEqualTo(aircraft.<Integer>get("year"), filter.getYearFrom()));
+            }
+            if (filter.getYearTo() != null) {
+                predicates.add(builder.lessThanOrEqualTo(aircraft.<Integer>get("year"), filter.getYearTo()));
+            }
+            if (filter.getCreatedFrom() != null) {
+                predicates.add(builder.greaterThanOrEqualTo(aircraft.<LocalDateTime>get("created"),
+                        filter.getCreatedFrom()));
+            }
+            if (filter.getCreatedTo() != null) {
+                predicates.add(builder.lessThan(aircraft.<LocalDateTime>get("created"), filter.getCreatedTo()));
+            }
+            return builder.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+}
@@ -0,0 +1,22 @@
+package com.sonda.gestao_aeronaves.persistence.repository;
+
+import com.sonda.gestao_aeronaves.persistence.entity.AircraftTombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface AircraftTombstoneRepository extends JpaRepository<AircraftTombstone, Long> {
+
+    @Query("SELECT t.aircraftId FROM AircraftTombstone t WHERE t.deleted > :since ORDER BY t.aircraftId")
+    List<Long> findIdsDeletedAfter(@Param("since") LocalDateTime since);
+
+    @Modifying
+    @Query("DELETE FROM AircraftTombstone t WHERE t.deleted < :before")
+    int deleteOlderThan(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,239 @@
+package com.sonda.gestao_aeronaves.persistence.repository;
+
+import com.sonda.gestao_aeronaves.domain.Brand;
+import com.sonda.gestao_aeronaves.service.statistics.FleetAggregation;
+import com.sonda.gestao_aeronaves.service.statistics.FleetDimension;
+import com.sonda.gestao_aeronaves.service.statistics.FleetFilter;
+import com.sonda.gestao_aeronaves.service.statistics.FleetMetric;
+import com.sonda.gestao_aeronaves.web.dto.FleetAggregationDTO;
+import com.sonda.gestao_aeronaves.web.dto.FleetGroupDTO;
+import com.sonda.gestao_aeronaves.web.dto.FleetGroupingDTO;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Repository;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Fleet aggregations computed by the database in a single statement. PostgreSQL runs
+ * one {@code GROUP BY GROUPING SETS} query and tells the sets apart with
+ * {@code GROUPING()}; H2, which has neither, runs a {@code UNION ALL} of one
+ * {@code GROUP BY} per set tagged with the set index.
+ */
+@Repository
+public class FleetAggregationRepository {
+
+    private static final Comparator<Object> NULLS_LAST = Comparator.nullsLast(FleetAggregationRepository::compare);
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private volatile Boolean groupingSets;
+
+    public FleetAggregationRepository(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    public FleetAggregationDTO aggregate(FleetAggregation aggregation) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource();
+        String where = where(aggregation.getFilter(), parameters);
+        List<List<FleetDimension>> groupings = aggregation.getGroupings();
+        List<List<FleetGroupDTO>> groups = new ArrayList<>();
+        groupings.forEach(grouping -> groups.add(new ArrayList<>()));
+
+        if (supportsGroupingSets()) {
+            List<FleetDimension> dimensions = List.copyOf(aggregation.getDimensions());
+            Map<Integer, Integer> setByMask = new LinkedHashMap<>();
+            for (int set = 0; set < groupings.size(); set++) {
+                setByMask.put(groupingMask(dimensions, groupings.get(set)), set);
+            }
+            jdbc.query(groupingSetsQuery(dimensions, groupings, where), parameters, (RowCallbackHandler) rs -> {
+                int set = setByMask.get(rs.getInt("grouping_id"));
+                groups.get(set).add(group(rs, groupings.get(set), aggregation.getMetrics()));
+            });
+        } else {
+            String sql = unionQuery(aggregation.getDimensions(), groupings, where);
+            jdbc.query(sql, parameters, (RowCallbackHandler) rs -> {
+                int set = rs.getInt("grouping_set");
+                groups.get(set).add(group(rs, groupings.get(set), aggregation.getMetrics()));
+            });
+        }
+
+        List<FleetGroupingDTO> result = new ArrayList<>();
+        for (int set = 0; set < groupings.size(); set++) {
+            List<FleetDimension> grouping = groupings.get(set);
+            groups.get(set).sort(byKey(grouping));
+            result.add(new FleetGroupingDTO(grouping.stream().map(FleetDimension::getName).toList(), groups.get(set)));
+        }
+        return new FleetAggregationDTO(result);
+    }
+
+    private boolean supportsGroupingSets() {
+        if (groupingSets == null) {
+            try {
+                String product = JdbcUtils.extractDatabaseMetaData(jdbc.getJdbcTemplate().getDataSource(),
+                        DatabaseMetaData::getDatabaseProductName);
+                groupingSets = "PostgreSQL".equals(JdbcUtils.commonDatabaseName(product));
+            } catch (MetaDataAccessException ex) {
+                throw new IllegalStateException("Could not detect the database product", ex);
+            }
+        }
+        return groupingSets;
+    }
+
+    private static String groupingSetsQuery(List<FleetDimension> dimensions, List<List<FleetDimension>> groupings,
+            String where) {
+        StringBuilder sql = new StringBuilder("SELECT ");
+        List<String> expressions = new ArrayList<>();
+        for (FleetDimension dimension : dimensions) {
+            String expression = expression(dimension, true);
+            expressions.add(expression);
+            sql.append(expression).append(" AS ").append(column(dimension)).append(", ");
+        }
+        sql.append("GROUPING(").append(String.join(", ", expressions)).append(") AS grouping_id, ")
+                .append("COUNT(*) AS total, MIN(ano) AS min_year, MAX(ano) AS max_year FROM aeronave")
+                .append(where)
+                .append(" GROUP BY GROUPING SETS (");
+        for (int set = 0; set < groupings.size(); set++) {
+            sql.append(set > 0 ? ", (" : "(");
+            sql.append(String.join(", ", groupings.get(set).stream().map(d -> expression(d, true)).toList()));
+            sql.append(")");
+        }
+        return sql.append(")").toString();
+    }
+
+    private static String unionQuery(Set<FleetDimension> dimensions, List<List<FleetDimension>> groupings,
+            String where) {
+        List<String> selects = new ArrayList<>();
+        for (int set = 0; set < groupings.size(); set++) {
+            List<FleetDimension> grouping = groupings.get(set);
+            StringBuilder sql = new StringBuilder("SELECT ").append(set).append(" AS grouping_set, ");
+            for (FleetDimension dimension : dimensions) {
+                String value = grouping.contains(dimension)
+                        ? expression(dimension, false)
+                        : "CAST(NULL AS " + type(dimension) + ")";
+                sql.append(value).append(" AS ").append(column(dimension)).append(", ");
+            }
+            sql.append("COUNT(*) AS total, MIN(ano) AS min_year, MAX(ano) AS max_year FROM aeronave")
+                    .append(where)
+                    .append(" GROUP BY ")
+                    .append(String.join(", ", grouping.stream().map(d -> expression(d, false)).toList()));
+            selects.add(sql.toString());
+        }
+        return String.join(" UNION ALL ", selects);
+    }
+
+    /**
+     * The value GROUPING() returns for a set: one bit per selected dimension, the first one
+     * most significant, set when the dimension is not part of the set.
+     */
+    private static int groupingMask(List<FleetDimension> dimensions, List<FleetDimension> grouping) {
+        int mask = 0;
+        for (FleetDimension dimension : dimensions) {
+            mask = (mask << 1) | (grouping.contains(dimension) ? 0 : 1);
+        }
+        return mask;
+    }
+
+    private static String expression(FleetDimension dimension, boolean postgres) {
+        return switch (dimension) {
+            case BRAND -> "marca";
+            case DECADE -> "(ano / 10) * 10";
+            case YEAR -> "ano";
+            case SOLD -> "vendido";
+            case CREATED_DAY -> "CAST(created AS DATE)";
+            case CREATED_WEEK -> postgres
+                    ? "CAST(DATE_TRUNC('week', created) AS DATE)"
+                    : "CAST(DATE_TRUNC('ISO_WEEK', created) AS DATE)";
+            case CREATED_MONTH -> "CAST(DATE_TRUNC('MONTH', created) AS DATE)";
+        };
+    }
+
+    private static String type(FleetDimension dimension) {
+        return switch (dimension) {
+            case BRAND -> "VARCHAR(50)";
+            case DECADE, YEAR -> "INTEGER";
+            case SOLD -> "BOOLEAN";
+            case CREATED_DAY, CREATED_WEEK, CREATED_MONTH -> "DATE";
+        };
+    }
+
+    private static String column(FleetDimension dimension) {
+        return "dim_" + dimension.name().toLowerCase();
+    }
+
+    private static String where(FleetFilter filter, MapSqlParameterSource parameters) {
+        StringBuilder where = new StringBuilder(" WHERE 1 = 1");
+        if (filter.getBrand() != null) {
+            where.append(" AND marca = :brand");
+            parameters.addValue("brand", filter.getBrand().name());
+        }
+        if (filter.getSold() != null) {
+            where.append(" AND vendido = :sold");
+            parameters.addValue("sold", filter.getSold());
+        }
+        if (filter.getYearFrom() != null) {
+            where.append(" AND ano >= :yearFrom");
+            parameters.addValue("yearFrom", filter.getYearFrom());
+        }
+        if (filter.getYearTo() != null) {
+            where.append(" AND ano <= :yearTo");
+            parameters.addValue("yearTo", filter.getYearTo());
+        }
+        if (filter.getCreatedFrom() != null) {
+            where.append(" AND created >= :createdFrom");
+            parameters.addValue("createdFrom", filter.getCreatedFrom());
+        }
+        if (filter.getCreatedTo() != null) {
+            where.append(" AND created < :createdTo");
+            parameters.addValue("createdTo", filter.getCreatedTo());
+        }
+        return where.toString();
+    }
+
+    private static FleetGroupDTO group(ResultSet rs, List<FleetDimension> grouping, Set<FleetMetric> metrics)
+            throws SQLException {
+        Map<String, Object> key = new LinkedHashMap<>();
+        for (FleetDimension dimension : grouping) {
+            key.put(dimension.getName(), value(rs, dimension));
+        }
+        return new FleetGroupDTO(key,
+                metrics.contains(FleetMetric.COUNT) ? rs.getLong("total") : null,
+                metrics.contains(FleetMetric.MIN_YEAR) ? rs.getInt("min_year") : null,
+                metrics.contains(FleetMetric.MAX_YEAR) ? rs.getInt("max_year") : null);
+    }
+
+    private static Object value(ResultSet rs, FleetDimension dimension) throws SQLException {
+        String column = column(dimension);
+        return switch (dimension) {
+            case BRAND -> Brand.valueOf(rs.getString(column));
+            case DECADE, YEAR -> rs.getInt(column);
+            case SOLD -> rs.getBoolean(column);
+            case CREATED_DAY, CREATED_WEEK, CREATED_MONTH -> rs.getObject(column, LocalDate.class);
+        };
+    }
+
+    private static Comparator<FleetGroupDTO> byKey(List<FleetDimension> grouping) {
+        Comparator<FleetGroupDTO> comparator = null;
+        for (FleetDimension dimension : grouping) {
+            Comparator<FleetGroupDTO> next = Comparator.comparing(g -> g.getKey().get(dimension.getName()), NULLS_LAST);
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        return comparator;
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static int compare(Object left, Object right) {
+        return ((Comparable) left).compareTo(right);
+    }
+}
@@ -0,0 +1,52 @@
+package com.sonda.gestao_aeronaves.persistence.sql;
+
+import net.ttddyy.dsproxy.proxy.ResultSetProxyLogic;
+import net.ttddyy.dsproxy.proxy.ResultSetProxyLogicFactory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.ResultSet;
+
+/**
+ * ResultSet proxy logic that counts rows for {@link SqlStatistics} on every successful
+ * {@link ResultSet#next()} and passes every other call straight through. A method
+ * listener would see the same calls, but datasource-proxy builds an execution context
+ * and a stopwatch for each one, including every column getter, which cost more than
+ * the rows being read.
+ */
+public class RowCountingResultSetProxyLogic implements ResultSetProxyLogic {
+
+    public static final ResultSetProxyLogicFactory FACTORY =
+            (resultSet, connectionInfo, proxyConfig) -> new RowCountingResultSetProxyLogic(resultSet);
+
+    private final ResultSet resultSet;
+
+    public RowCountingResultSetProxyLogic(ResultSet resultSet) {
+        this.resultSet = resultSet;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        return switch (method.getName()) {
+            case "next" -> {
+                boolean next = resultSet.next();
+                if (next && SqlStatistics.isActive()) {
+                    SqlStatistics.recordRow();
+                }
+                yield next;
+            }
+            case "getTarget" -> resultSet;
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            default -> invoke(method, args);
+        };
+    }
+
+    private Object invoke(Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(resultSet, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+}
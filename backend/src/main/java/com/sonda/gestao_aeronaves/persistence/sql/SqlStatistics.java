@@ -0,0 +1,108 @@
+package com.sonda.gestao_aeronaves.persistence.sql;
+
+import java.time.Duration;
+
+/**
+ * JDBC work done by the current thread while a scope is open: statements executed,
+ * rows read and time spent waiting on the driver.
+ * <p>
+ * A scope is opened with {@link #start()} and must be closed on the same thread,
+ * usually with try-with-resources. Scopes nest, and work is counted in every open scope
+ * of the thread. Outside a scope, {@link SqlStatisticsListener} records nothing.
+ * A JDBC batch counts as one statement, since it is one round trip to the database.
+ */
+public final class SqlStatistics implements AutoCloseable {
+
+    private static final ThreadLocal<SqlStatistics> CURRENT = new ThreadLocal<>();
+
+    private final SqlStatistics parent;
+    private long statements;
+    private long rows;
+    private long nanos;
+
+    private SqlStatistics(SqlStatistics parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * Opens a scope on the current thread.
+     *
+     * @return The new scope, to be closed when the measured work ends.
+     */
+    public static SqlStatistics start() {
+        SqlStatistics statistics = new SqlStatistics(CURRENT.get());
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    /**
+     * Runs the work inside a new scope.
+     *
+     * @param work Work to measure.
+     * @return What the work did.
+     */
+    public static SqlStatistics capture(Runnable work) {
+        try (SqlStatistics statistics = start()) {
+            work.run();
+            return statistics;
+        }
+    }
+
+    /**
+     * @return The innermost open scope of the current thread, or null if there is none.
+     */
+    public static SqlStatistics current() {
+        return CURRENT.get();
+    }
+
+    static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    static void recordStatement(long elapsedNanos) {
+        for (SqlStatistics statistics = CURRENT.get(); statistics != null; statistics = statistics.parent) {
+            statistics.statements++;
+            statistics.nanos += elapsedNanos;
+        }
+    }
+
+    static void recordRow() {
+        for (SqlStatistics statistics = CURRENT.get(); statistics != null; statistics = statistics.parent) {
+            statistics.rows++;
+        }
+    }
+
+    public long getStatements() {
+        return statements;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public Duration getTime() {
+        return Duration.ofNanos(nanos);
+    }
+
+    /**
+     * Closes the scope, making its parent current again.
+     *
+     * @throws IllegalStateException if an inner scope is still open.
+     */
+    @Override
+    public void close() {
+        if (CURRENT.get() != this) {
+            throw new IllegalStateException("SQL statistics scopes must be closed in reverse order");
+        }
+        if (parent == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(parent);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return statements + " statements, " + rows + " rows, " + getTime().toMillis() + " ms";
+    }
+}
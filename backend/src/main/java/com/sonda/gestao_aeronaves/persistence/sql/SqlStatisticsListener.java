@@ -0,0 +1,33 @@
+package com.sonda.gestao_aeronaves.persistence.sql;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+/**
+ * datasource-proxy listener that feeds {@link SqlStatistics}. Statements are timed
+ * with {@link System#nanoTime()}, since the proxy itself only reports milliseconds;
+ * rows are counted by {@link RowCountingResultSetProxyLogic}. When no scope is open on
+ * the thread, both callbacks return after a single ThreadLocal read.
+ */
+public class SqlStatisticsListener implements QueryExecutionListener {
+
+    private static final String START = SqlStatisticsListener.class.getName() + ".start";
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (SqlStatistics.isActive()) {
+            execInfo.addCustomValue(START, System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long start = execInfo.getCustomValue(START, Long.class);
+        if (start != null) {
+            SqlStatistics.recordStatement(System.nanoTime() - start);
+        }
+    }
+}
@@ -1,19 +1,55 @@
 package com.sonda.gestao_aeronaves.service;
 
+import com.sonda.gestao_aeronaves.config.CacheConfig;
 import com.sonda.gestao_aeronaves.web.dto.AircraftDTO;
+import com.sonda.gestao_aeronaves.web.dto.AircraftPatchDTO;
+import com.sonda.gestao_aeronaves.web.dto.AircraftSummaryDTO;
+import com.sonda.gestao_aeronaves.web.dto.CursorPageDTO;
+import com.sonda.gestao_aeronaves.web.dto.FleetAggregationDTO;
+import com.sonda.gestao_aeronaves.web.dto.FleetStatisticsDTO;
+import com.sonda.gestao_aeronaves.domain.Brand;
 import com.sonda.gestao_aeronaves.domain.exception.AircraftNotFoundException;
+import com.sonda.gestao_aeronaves.domain.exception.AircraftVersionMismatchException;
 import com.sonda.gestao_aeronaves.persistence.entity.Aircraft;
+import com.sonda.gestao_aeronaves.persistence.projection.AircraftView;
+import com.sonda.gestao_aeronaves.persistence.projection.DecadeCount;
+import com.sonda.gestao_aeronaves.persistence.projection.FleetGroupCount;
+import com.sonda.gestao_aeronaves.persistence.projection.FleetRevision;
 import com.sonda.gestao_aeronaves.persistence.repository.AircraftRepository;
+import com.sonda.gestao_aeronaves.persistence.repository.AircraftSpecifications;
+import com.sonda.gestao_aeronaves.persistence.repository.FleetAggregationRepository;
 import com.sonda.gestao_aeronaves.mapper.AircraftMapper;
+import com.sonda.gestao_aeronaves.service.event.AircraftChangedEvent;
+import com.sonda.gestao_aeronaves.service.search.SearchResultCache;
+import com.sonda.gestao_aeronaves.service.statistics.FleetAggregation;
+import com.sonda.gestao_aeronaves.service.statistics.FleetFilter;
+import com.sonda.gestao_aeronaves.service.statistics.FleetSnapshot;
+import com.sonda.gestao_aeronaves.service.statistics.FleetStatistics;
+import jakarta.persistence.EntityManager;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Service class for Aircraft business logic.
@@ -21,47 +57,166 @@ import java.util.stream.Collectors;
  */
 @Service
 @RequiredArgsConstructor
+@Timed(value = "aircraft.service", histogram = true)
 public class AircraftService {
 
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private static final int STREAM_CLEAR_INTERVAL = 500;
+    private static final String CURSOR_PREFIX = "id:";
+
     private final AircraftRepository repository;
     private final AircraftMapper mapper;
+    private final EntityManager entityManager;
+    private final FleetStatistics statistics;
+    private final FleetSnapshot snapshot;
+    private final FleetAggregationRepository aggregationRepository;
+    private final SearchResultCache search;
+    private final ApplicationEventPublisher events;
 
     /**
-     * Retrieves all aircraft.
+     * Retrieves all aircraft, selected straight into projections.
      * 
      * @return List of AircraftDTO.
      */
     @Transactional(readOnly = true)
     public List<AircraftDTO> findAll() {
-        return repository.findAll().stream()
+        return mapper.toDTOs(repository.findAllViews());
+    }
+
+    /**
+     * Retrieves all aircraft without their description, for list views.
+     * 
+     * @return List of AircraftSummaryDTO.
+     */
+    @Transactional(readOnly = true)
+    public List<AircraftSummaryDTO> findAllSummaries() {
+        return mapper.toSummaryDTOs(repository.findAllSummaries());
+    }
+
+    /**
+     * Retrieves one page of aircraft ordered by ID, using keyset pagination.
+     * 
+     * @param cursor Opaque token returned by the previous page, or null for the first page.
+     * @param size   Page size (1 to {@value #MAX_PAGE_SIZE}).
+     * @return Page of AircraftDTO with the cursor of the next page.
+     * @throws IllegalArgumentException if the cursor or the size is invalid.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<AircraftDTO> findPage(String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("O tamanho da página deve estar entre 1 e " + MAX_PAGE_SIZE + ".");
+        }
+        List<Aircraft> rows = repository.findPageAfter(decodeCursor(cursor), Limit.of(size + 1));
+        boolean hasMore = rows.size() > size;
+        List<AircraftDTO> items = rows.stream()
+                .limit(size)
                 .map(mapper::toDTO)
                 .collect(Collectors.toList());
+        String nextCursor = hasMore ? encodeCursor(items.get(items.size() - 1).getId()) : null;
+        return new CursorPageDTO<>(items, nextCursor, hasMore);
     }
 
     /**
-     * Finds aircraft matching a term.
+     * Streams all aircraft ordered by ID through a forward-only cursor.
+     * Entities are released from the persistence context as they are consumed,
+     * so memory does not grow with the size of the table, and are kept out of the
+     * second-level cache. The cache mode is set on the session: the rows are loaded while
+     * the stream is consumed, after the query has already restored its own cache mode.
      * 
-     * @param term Search term.
-     * @return List of matching AircraftDTO.
+     * @param consumer Receives each AircraftDTO as it is read.
      */
     @Transactional(readOnly = true)
-    public List<AircraftDTO> findByTerm(String term) {
+    public void streamAll(Consumer<AircraftDTO> consumer) {
+        Session session = entityManager.unwrap(Session.class);
+        CacheMode cacheMode = session.getCacheMode();
+        session.setCacheMode(CacheMode.IGNORE);
+        try (Stream<Aircraft> rows = repository.streamAll()) {
+            Iterator<Aircraft> iterator = rows.iterator();
+            int count = 0;
+            while (iterator.hasNext()) {
+                consumer.accept(mapper.toDTO(iterator.next()));
+                if (++count % STREAM_CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            }
+        } finally {
+            session.setCacheMode(cacheMode);
+        }
+    }
+
+    /**
+     * Finds aircraft matching a term, best match first.
+     * A numeric term also matches the aircraft with that ID, which is listed first; the
+     * ranked hits then start one position later, on this page and on every following one.
+     * 
+     * @param term Search term (name, description, brand or ID).
+     * @param page Zero-based page of the ranked results.
+     * @param size Page size (1 to {@value #MAX_PAGE_SIZE}).
+     * @return List of matching AircraftDTO, or all aircraft when the term is blank.
+     * @throws IllegalArgumentException if the page or the size is invalid.
+     */
+    @Transactional(readOnly = true)
+    public List<AircraftDTO> findByTerm(String term, int page, int size) {
         if (!StringUtils.hasText(term)) {
             return findAll();
         }
-        return repository.findByTerm(term)
-                .stream()
-                .map(mapper::toDTO)
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Página deve ser >= 0 e tamanho entre 1 e " + MAX_PAGE_SIZE + ".");
+        }
+        int offset = pageOffset(page, size);
+        String trimmed = term.trim();
+        Long parsed = parseId(trimmed);
+        Long idMatch = parsed != null && repository.existsById(parsed) ? parsed : null;
+        int shift = idMatch != null ? 1 : 0;
+        List<Long> ids = new ArrayList<>(size);
+        if (idMatch != null && page == 0) {
+            ids.add(idMatch);
+        }
+        int limit = page == 0 ? size - shift : size;
+        if (limit > 0) {
+            search.search(trimmed, Math.max(0, offset - shift), limit).stream()
+                    .filter(id -> !id.equals(idMatch))
+                    .forEach(ids::add);
+        }
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, AircraftDTO> byId = repository.findViewsById(ids).stream()
+                .collect(Collectors.toMap(AircraftView::id, mapper::toDTO));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .limit(size)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * @return Offset of the first result of the page, checked so that the end of the page
+     *         ({@code offset + size}) is still an {@code int}.
+     * @throws IllegalArgumentException if the page lies beyond that range.
+     */
+    private static int pageOffset(int page, int size) {
+        try {
+            return Math.addExact(Math.multiplyExact(page, size), size) - size;
+        } catch (ArithmeticException ex) {
+            throw new IllegalArgumentException("Página " + page + " fora do intervalo de resultados.");
+        }
+    }
+
     /**
      * Finds an aircraft by ID.
+     * Read through the aircraft cache, which is kept in sync by AircraftCacheSynchronizer.
+     * The load runs inside the cache's atomic computation ({@code sync}), so an eviction of
+     * the same ID waits for it and a row read before a commit cannot outlive the eviction.
      * 
      * @param id The ID.
      * @return AircraftDTO.
      * @throws AircraftNotFoundException if not found.
      */
+    @Cacheable(cacheNames = CacheConfig.AIRCRAFT_CACHE, key = "#id", sync = true)
     @Transactional(readOnly = true)
     public AircraftDTO findById(Long id) {
         Aircraft entity = repository.findById(id)
@@ -79,50 +234,118 @@ public class AircraftService {
     public AircraftDTO save(AircraftDTO dto) {
         validateYear(dto.getYear());
         Aircraft entity = mapper.toEntity(dto);
-        Aircraft saved = repository.save(entity);
-        return mapper.toDTO(saved);
+        AircraftDTO saved = mapper.toDTO(repository.save(entity));
+        events.publishEvent(AircraftChangedEvent.created(saved));
+        return saved;
     }
 
     /**
      * Updates an existing aircraft.
+     * The aircraft is loaded once and modified in place, so only one UPDATE is issued.
      * 
-     * @param id  ID to update.
-     * @param dto New data.
+     * @param id              ID to update.
+     * @param dto             New data.
+     * @param expectedVersion Version the client last read, or null to skip the check.
      * @return Updated AircraftDTO.
-     * @throws AircraftNotFoundException if not found.
+     * @throws AircraftNotFoundException        if not found.
+     * @throws AircraftVersionMismatchException if the aircraft is at another version.
      */
     @Transactional
-    public AircraftDTO update(Long id, AircraftDTO dto) {
-        if (!repository.existsById(id)) {
-            throw new AircraftNotFoundException("Aircraft not found for update with ID: " + id);
-        }
+    public AircraftDTO update(Long id, AircraftDTO dto, Long expectedVersion) {
         validateYear(dto.getYear());
-        Aircraft entity = mapper.toEntity(dto);
-        entity.setId(id);
-        return mapper.toDTO(repository.save(entity));
+        Aircraft entity = repository.findById(id)
+                .orElseThrow(() -> new AircraftNotFoundException("Aircraft not found for update with ID: " + id));
+        checkVersion(entity, expectedVersion);
+        mapper.updateEntity(dto, entity);
+        return flushAndPublishUpdate(entity);
+    }
+
+    /**
+     * Partially updates an aircraft. Only the fields present in the patch are changed,
+     * and only the changed columns are written.
+     * 
+     * @param id              ID to update.
+     * @param patch           Fields to change.
+     * @param expectedVersion Version the client last read, or null to skip the check.
+     * @return Updated AircraftDTO.
+     * @throws AircraftNotFoundException        if not found.
+     * @throws AircraftVersionMismatchException if the aircraft is at another version.
+     */
+    @Transactional
+    public AircraftDTO patch(Long id, AircraftPatchDTO patch, Long expectedVersion) {
+        if (patch.getYear() != null) {
+            validateYear(patch.getYear());
+        }
+        Aircraft entity = repository.findById(id)
+                .orElseThrow(() -> new AircraftNotFoundException("Aircraft not found for update with ID: " + id));
+        checkVersion(entity, expectedVersion);
+        mapper.patchEntity(patch, entity);
+        return flushAndPublishUpdate(entity);
     }
 
     /**
      * Deletes an aircraft.
+     * The aircraft is loaded once (usually from the second-level cache) and removed,
+     * without the separate existence check.
      * 
-     * @param id ID to delete.
-     * @throws AircraftNotFoundException if not found.
+     * @param id              ID to delete.
+     * @param expectedVersion Version the client last read, or null to skip the check.
+     * @throws AircraftNotFoundException        if not found.
+     * @throws AircraftVersionMismatchException if the aircraft is at another version.
      */
     @Transactional
-    public void delete(Long id) {
-        if (!repository.existsById(id)) {
-            throw new AircraftNotFoundException("Aircraft not found for deletion with ID: " + id);
+    public void delete(Long id, Long expectedVersion) {
+        Aircraft entity = repository.findById(id)
+                .orElseThrow(() -> new AircraftNotFoundException("Aircraft not found for deletion with ID: " + id));
+        checkVersion(entity, expectedVersion);
+        repository.delete(entity);
+        events.publishEvent(AircraftChangedEvent.deleted(id));
+    }
+
+    /**
+     * Returns the row count and the latest modification of the fleet, which change
+     * whenever an aircraft is created, updated or deleted.
+     * Answered from the in-memory fleet snapshot once it is initialized, without
+     * opening a transaction; the database answers otherwise.
+     * 
+     * @return Current fleet revision.
+     */
+    public FleetRevision getFleetRevision() {
+        if (snapshot.isReady()) {
+            return snapshot.getRevision();
         }
-        repository.deleteById(id);
+        return repository.findFleetRevision();
+    }
+
+    /**
+     * Fails fast when the client edits a stale copy. The version column still guards
+     * the UPDATE itself against a concurrent write between this check and the flush.
+     */
+    private static void checkVersion(Aircraft entity, Long expectedVersion) {
+        if (expectedVersion != null && expectedVersion != entity.getVersion()) {
+            throw new AircraftVersionMismatchException(entity.getId(), expectedVersion, entity.getVersion());
+        }
+    }
+
+    /** Flushes so the returned DTO carries the new {@code updated} timestamp. */
+    private AircraftDTO flushAndPublishUpdate(Aircraft entity) {
+        repository.flush();
+        AircraftDTO updated = mapper.toDTO(entity);
+        events.publishEvent(AircraftChangedEvent.updated(updated));
+        return updated;
     }
 
     /**
      * Counts unsold aircraft.
+     * Answered from the in-memory statistics once they are initialized.
      * 
      * @return Count.
      */
     @Transactional(readOnly = true)
     public long countUnsold() {
+        if (statistics.isReady()) {
+            return statistics.countUnsold();
+        }
         return repository.countBySoldFalse();
     }
 
@@ -134,27 +357,135 @@ public class AircraftService {
     @Transactional(readOnly = true)
     public List<AircraftDTO> findLastWeek() {
         LocalDateTime oneWeekAgo = LocalDateTime.now().minusWeeks(1);
-        return repository.findByCreatedAfter(oneWeekAgo).stream()
-                .map(mapper::toDTO)
-                .collect(Collectors.toList());
+        return mapper.toDTOs(repository.findByCreatedAfter(oneWeekAgo));
+    }
+
+    /**
+     * Counts aircraft created in the last week.
+     * Answered from the in-memory statistics once they are initialized.
+     * 
+     * @return Count.
+     */
+    @Transactional(readOnly = true)
+    public long countLastWeek() {
+        LocalDateTime oneWeekAgo = LocalDateTime.now().minusWeeks(1);
+        if (statistics.isReady()) {
+            return statistics.countCreatedSince(oneWeekAgo);
+        }
+        return repository.countByCreatedAfter(oneWeekAgo);
     }
 
     /**
      * Groups aircraft count by decade.
+     * Answered from the in-memory statistics once they are initialized.
      * 
      * @return Map of Decade -> Count.
      */
     @Transactional(readOnly = true)
     public Map<Integer, Long> listByDecade() {
-        return repository.findAll().stream()
-                .collect(Collectors.groupingBy(
-                        a -> (a.getYear() / 10) * 10,
-                        Collectors.counting()));
+        if (statistics.isReady()) {
+            return statistics.countByDecade();
+        }
+        return repository.countByDecade().stream()
+                .collect(Collectors.toMap(DecadeCount::getDecade, DecadeCount::getTotal,
+                        Long::sum, TreeMap::new));
+    }
+
+    /**
+     * Counts the aircraft matching a filter.
+     * Answered from the in-memory fleet snapshot once it is initialized.
+     * 
+     * @param filter Filters to apply.
+     * @return Count.
+     */
+    @Transactional(readOnly = true)
+    public long count(FleetFilter filter) {
+        if (snapshot.isReady()) {
+            return snapshot.count(filter);
+        }
+        return repository.count(AircraftSpecifications.matching(filter));
+    }
+
+    /**
+     * Groups the aircraft matching a filter by each of the requested grouping sets.
+     * Answered from the in-memory fleet snapshot once it is initialized, unless the
+     * grouping sets have too many possible groups; the database answers otherwise.
+     * 
+     * @param aggregation Grouping sets, metrics and filter.
+     * @return Groups of every grouping set.
+     */
+    @Transactional(readOnly = true)
+    public FleetAggregationDTO aggregate(FleetAggregation aggregation) {
+        if (snapshot.isReady()) {
+            return snapshot.aggregate(aggregation)
+                    .orElseGet(() -> aggregationRepository.aggregate(aggregation));
+        }
+        return aggregationRepository.aggregate(aggregation);
+    }
+
+    /**
+     * Builds the fleet statistics grouped by decade, brand, sold status and
+     * brand x decade, from the in-memory statistics or from a single grouped query.
+     * 
+     * @return FleetStatisticsDTO.
+     */
+    @Transactional(readOnly = true)
+    public FleetStatisticsDTO getOverview() {
+        if (statistics.isReady()) {
+            return statistics.getOverview();
+        }
+        long total = 0;
+        long unsold = 0;
+        Map<Integer, Long> byDecade = new TreeMap<>();
+        Map<Brand, Long> byBrand = new EnumMap<>(Brand.class);
+        Map<Boolean, Long> bySold = new TreeMap<>();
+        Map<Brand, Map<Integer, Long>> byBrandAndDecade = new EnumMap<>(Brand.class);
+
+        for (FleetGroupCount group : repository.countByBrandDecadeAndSold()) {
+            long count = group.getTotal();
+            total += count;
+            if (!group.getSold()) {
+                unsold += count;
+            }
+            byDecade.merge(group.getDecade(), count, Long::sum);
+            byBrand.merge(group.getBrand(), count, Long::sum);
+            bySold.merge(group.getSold(), count, Long::sum);
+            byBrandAndDecade.computeIfAbsent(group.getBrand(), b -> new TreeMap<>())
+                    .merge(group.getDecade(), count, Long::sum);
+        }
+        return new FleetStatisticsDTO(total, unsold, byDecade, byBrand, bySold, byBrandAndDecade);
+    }
+
+    private Long parseId(String term) {
+        if (term.length() > 18 || !term.chars().allMatch(Character::isDigit)) {
+            return null;
+        }
+        return Long.parseLong(term);
+    }
+
+    private String encodeCursor(Long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((CURSOR_PREFIX + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Long decodeCursor(String cursor) {
+        if (!StringUtils.hasText(cursor)) {
+            return 0L;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (decoded.startsWith(CURSOR_PREFIX)) {
+                return Long.parseLong(decoded.substring(CURSOR_PREFIX.length()));
+            }
+        } catch (IllegalArgumentException ignored) {
+            // NumberFormatException is also an IllegalArgumentException
+        }
+        throw new IllegalArgumentException("Cursor de paginação inválido.");
     }
 
     private void validateYear(Integer year) {
-        if (year != null && year > java.time.Year.now().getValue()) {
-            throw new IllegalArgumentException("O ano de fabricação não pode ser maior que o ano atual.");
+        if (AircraftValidator.isFutureYear(year)) {
+            throw new IllegalArgumentException(AircraftValidator.FUTURE_YEAR_MESSAGE);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.sonda.gestao_aeronaves.service;
+
+import com.sonda.gestao_aeronaves.web.dto.AircraftDTO;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Validates aircraft that do not arrive through a {@code @Valid} request body,
+ * such as batch items and imported rows, with the same rules as the single-item API.
+ */
+@Component
+@RequiredArgsConstructor
+public class AircraftValidator {
+
+    public static final String FUTURE_YEAR_MESSAGE = "O ano de fabricação não pode ser maior que o ano atual.";
+
+    private final Validator validator;
+
+    /**
+     * @param dto Aircraft to validate.
+     * @return Violation messages in the {@code field: message} format; empty when valid.
+     */
+    public List<String> validate(AircraftDTO dto) {
+        List<String> errors = new ArrayList<>();
+        validator.validate(dto).forEach(violation ->
+                errors.add(violation.getPropertyPath() + ": " + violation.getMessage()));
+        if (isFutureYear(dto.getYear())) {
+            errors.add("year: " + FUTURE_YEAR_MESSAGE);
+        }
+        return errors;
+    }
+
+    public static boolean isFutureYear(Integer year) {
+        return year != null && year > Year.now().getValue();
+    }
+}
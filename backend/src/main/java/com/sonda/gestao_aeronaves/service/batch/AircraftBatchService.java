@@ -0,0 +1,241 @@
+package com.sonda.gestao_aeronaves.service.batch;
+
+import com.sonda.gestao_aeronaves.mapper.AircraftMapper;
+import com.sonda.gestao_aeronaves.persistence.entity.Aircraft;
+import com.sonda.gestao_aeronaves.persistence.repository.AircraftRepository;
+import com.sonda.gestao_aeronaves.service.AircraftValidator;
+import com.sonda.gestao_aeronaves.service.event.AircraftChangedEvent;
+import com.sonda.gestao_aeronaves.web.dto.AircraftDTO;
+import com.sonda.gestao_aeronaves.web.dto.BatchItemResultDTO;
+import com.sonda.gestao_aeronaves.web.dto.BatchItemResultDTO.Status;
+import com.sonda.gestao_aeronaves.web.dto.BatchResultDTO;
+import jakarta.persistence.EntityManager;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk create, update and delete of aircraft.
+ * <p>
+ * Every item is validated up front. Valid items are then written in chunks of
+ * {@value #CHUNK_SIZE}, each chunk in its own transaction, so Hibernate can send them
+ * as JDBC batches. If a chunk fails, it is rolled back and its items are retried one
+ * by one, so a single bad row only fails itself. The result reports the outcome of
+ * every item, in request order.
+ * <p>
+ * An update that carries a version only applies to the aircraft at that version; an
+ * item whose aircraft has moved on, or is changed concurrently, is reported as
+ * {@link Status#CONFLICT}.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Timed(value = "aircraft.service", histogram = true)
+public class AircraftBatchService {
+
+    public static final int MAX_ITEMS = 50_000;
+    public static final int CHUNK_SIZE = 500;
+
+    private final AircraftRepository repository;
+    private final AircraftMapper mapper;
+    private final AircraftValidator validator;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher events;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * Creates aircraft in bulk. IDs sent by the client are ignored.
+     *
+     * @param items Aircraft to create.
+     * @return Outcome of every item.
+     * @throws IllegalArgumentException if the batch is empty or too large.
+     */
+    public BatchResultDTO createAll(List<AircraftDTO> items) {
+        checkSize(items);
+        BatchItemResultDTO[] results = new BatchItemResultDTO[items.size()];
+        List<Integer> valid = validate(items, results, false);
+        writeInChunks(valid, results, chunk -> createChunk(items, chunk, results),
+                index -> null);
+        return BatchResultDTO.of(Arrays.asList(results));
+    }
+
+    /**
+     * Updates aircraft in bulk. Every item must carry the ID of the aircraft it replaces,
+     * and may carry the version it was read at.
+     *
+     * @param items Aircraft to update.
+     * @return Outcome of every item.
+     * @throws IllegalArgumentException if the batch is empty or too large.
+     */
+    public BatchResultDTO updateAll(List<AircraftDTO> items) {
+        checkSize(items);
+        BatchItemResultDTO[] results = new BatchItemResultDTO[items.size()];
+        List<Integer> valid = validate(items, results, true);
+        writeInChunks(valid, results, chunk -> updateChunk(items, chunk, results),
+                index -> items.get(index).getId());
+        return BatchResultDTO.of(Arrays.asList(results));
+    }
+
+    /**
+     * Deletes aircraft in bulk.
+     *
+     * @param ids IDs to delete.
+     * @return Outcome of every item.
+     * @throws IllegalArgumentException if the batch is empty or too large.
+     */
+    public BatchResultDTO deleteAll(List<Long> ids) {
+        checkSize(ids);
+        BatchItemResultDTO[] results = new BatchItemResultDTO[ids.size()];
+        List<Integer> valid = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            if (ids.get(i) == null) {
+                results[i] = result(i, null, Status.REJECTED, List.of("id: ID is required"));
+            } else {
+                valid.add(i);
+            }
+        }
+        writeInChunks(valid, results, chunk -> deleteChunk(ids, chunk, results), ids::get);
+        return BatchResultDTO.of(Arrays.asList(results));
+    }
+
+    private List<Integer> validate(List<AircraftDTO> items, BatchItemResultDTO[] results, boolean requireId) {
+        List<Integer> valid = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            AircraftDTO item = items.get(i);
+            if (item == null) {
+                results[i] = result(i, null, Status.REJECTED, List.of("Item is required"));
+                continue;
+            }
+            List<String> errors = validator.validate(item);
+            if (requireId && item.getId() == null) {
+                errors.add(0, "id: ID is required");
+            }
+            if (errors.isEmpty()) {
+                valid.add(i);
+            } else {
+                results[i] = result(i, item.getId(), Status.REJECTED, errors);
+            }
+        }
+        return valid;
+    }
+
+    private void createChunk(List<AircraftDTO> items, List<Integer> chunk, BatchItemResultDTO[] results) {
+        List<Aircraft> entities = chunk.stream()
+                .map(index -> {
+                    Aircraft entity = mapper.toEntity(items.get(index));
+                    entity.setId(null);
+                    return entity;
+                })
+                .collect(Collectors.toList());
+        repository.saveAll(entities);
+        entityManager.flush();
+        for (int i = 0; i < chunk.size(); i++) {
+            AircraftDTO saved = mapper.toDTO(entities.get(i));
+            results[chunk.get(i)] = result(chunk.get(i), saved.getId(), Status.CREATED, List.of());
+            events.publishEvent(AircraftChangedEvent.created(saved));
+        }
+        entityManager.clear();
+    }
+
+    private void updateChunk(List<AircraftDTO> items, List<Integer> chunk, BatchItemResultDTO[] results) {
+        Set<Long> ids = chunk.stream().map(index -> items.get(index).getId()).collect(Collectors.toSet());
+        Map<Long, Aircraft> existing = repository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Aircraft::getId, Function.identity()));
+        List<Integer> applied = new ArrayList<>(chunk.size());
+        for (Integer index : chunk) {
+            AircraftDTO item = items.get(index);
+            Aircraft entity = existing.get(item.getId());
+            if (entity == null) {
+                results[index] = result(index, item.getId(), Status.NOT_FOUND,
+                        List.of("Aircraft not found with ID: " + item.getId()));
+            } else if (item.getVersion() != null && item.getVersion() != entity.getVersion()) {
+                results[index] = result(index, item.getId(), Status.CONFLICT,
+                        List.of("version: Aircraft is at version " + entity.getVersion()
+                                + ", not " + item.getVersion()));
+            } else {
+                mapper.updateEntity(item, entity);
+                applied.add(index);
+            }
+        }
+        entityManager.flush();
+        for (Integer index : applied) {
+            AircraftDTO updated = mapper.toDTO(existing.get(items.get(index).getId()));
+            results[index] = result(index, updated.getId(), Status.UPDATED, List.of());
+            events.publishEvent(AircraftChangedEvent.updated(updated));
+        }
+        entityManager.clear();
+    }
+
+    private void deleteChunk(List<Long> ids, List<Integer> chunk, BatchItemResultDTO[] results) {
+        Set<Long> requested = chunk.stream().map(ids::get).collect(Collectors.toSet());
+        Set<Long> existing = new HashSet<>(repository.findExistingIds(requested));
+        if (!existing.isEmpty()) {
+            repository.deleteAllByIdInBatch(existing);
+        }
+        Set<Long> published = new HashSet<>();
+        for (Integer index : chunk) {
+            Long id = ids.get(index);
+            if (existing.contains(id)) {
+                results[index] = result(index, id, Status.DELETED, List.of());
+                if (published.add(id)) {
+                    events.publishEvent(AircraftChangedEvent.deleted(id));
+                }
+            } else {
+                results[index] = result(index, id, Status.NOT_FOUND, List.of("Aircraft not found with ID: " + id));
+            }
+        }
+    }
+
+    private void writeInChunks(List<Integer> indexes, BatchItemResultDTO[] results, ChunkWriter writer,
+            Function<Integer, Long> idOf) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        for (int from = 0; from < indexes.size(); from += CHUNK_SIZE) {
+            List<Integer> chunk = indexes.subList(from, Math.min(from + CHUNK_SIZE, indexes.size()));
+            try {
+                transaction.executeWithoutResult(status -> writer.write(chunk));
+            } catch (RuntimeException ex) {
+                log.warn("Batch chunk of {} items failed, retrying one by one: {}", chunk.size(), ex.getMessage());
+                for (Integer index : chunk) {
+                    try {
+                        transaction.executeWithoutResult(status -> writer.write(List.of(index)));
+                    } catch (OptimisticLockingFailureException itemEx) {
+                        results[index] = result(index, idOf.apply(index), Status.CONFLICT,
+                                List.of("version: Aircraft was changed by another operation"));
+                    } catch (RuntimeException itemEx) {
+                        results[index] = result(index, idOf.apply(index), Status.FAILED,
+                                List.of(String.valueOf(itemEx.getMessage())));
+                    }
+                }
+            }
+        }
+    }
+
+    private static void checkSize(List<?> items) {
+        if (items == null || items.isEmpty() || items.size() > MAX_ITEMS) {
+            throw new IllegalArgumentException("O lote deve conter entre 1 e " + MAX_ITEMS + " itens.");
+        }
+    }
+
+    private static BatchItemResultDTO result(int index, Long id, Status status, List<String> errors) {
+        return new BatchItemResultDTO(index, id, status, errors);
+    }
+
+    @FunctionalInterface
+    private interface ChunkWriter {
+        void write(List<Integer> chunk);
+    }
+}
@@ -0,0 +1,39 @@
+package com.sonda.gestao_aeronaves.service.cache;
+
+import com.sonda.gestao_aeronaves.config.CacheConfig;
+import com.sonda.gestao_aeronaves.service.event.AircraftChangedEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Objects;
+
+/**
+ * Keeps the aircraft read-through cache exact: created aircraft are put in the cache,
+ * updated and deleted ones are evicted. Runs after commit so a rolled back write never
+ * reaches the cache.
+ * <p>
+ * A cache miss may read the old row just before the commit. AircraftService.findById
+ * therefore loads inside the cache's atomic computation, and Caffeine makes the eviction
+ * of that key wait for the load to finish, so the stale value is removed rather than
+ * stored after the eviction.
+ */
+@Component
+public class AircraftCacheSynchronizer {
+
+    private final Cache cache;
+
+    public AircraftCacheSynchronizer(CacheManager cacheManager) {
+        this.cache = Objects.requireNonNull(cacheManager.getCache(CacheConfig.AIRCRAFT_CACHE));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAircraftChanged(AircraftChangedEvent event) {
+        if (event.getType() == AircraftChangedEvent.Type.CREATED) {
+            cache.put(event.getId(), event.getAircraft());
+        } else {
+            cache.evict(event.getId());
+        }
+    }
+}
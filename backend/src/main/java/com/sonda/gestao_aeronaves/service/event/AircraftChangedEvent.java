@@ -0,0 +1,38 @@
+package com.sonda.gestao_aeronaves.service.event;
+
+import com.sonda.gestao_aeronaves.web.dto.AircraftDTO;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published by AircraftService whenever an aircraft is created, updated or deleted.
+ * Listeners that keep derived state should use the AFTER_COMMIT phase so rolled back
+ * changes are never observed.
+ */
+@Getter
+@AllArgsConstructor
+public class AircraftChangedEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final Type type;
+    private final Long id;
+    /** State after the change; null for DELETED. */
+    private final AircraftDTO aircraft;
+
+    public static AircraftChangedEvent created(AircraftDTO aircraft) {
+        return new AircraftChangedEvent(Type.CREATED, aircraft.getId(), aircraft);
+    }
+
+    public static AircraftChangedEvent updated(AircraftDTO aircraft) {
+        return new AircraftChangedEvent(Type.UPDATED, aircraft.getId(), aircraft);
+    }
+
+    public static AircraftChangedEvent deleted(Long id) {
+        return new AircraftChangedEvent(Type.DELETED, id, null);
+    }
+}
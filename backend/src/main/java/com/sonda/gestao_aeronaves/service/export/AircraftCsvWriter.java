@@ -0,0 +1,70 @@
+package com.sonda.gestao_aeronaves.service.export;
+
+import com.sonda.gestao_aeronaves.web.dto.AircraftDTO;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes aircraft as RFC 4180 CSV. The header uses the AircraftDTO field names,
+ * which the import endpoint also accepts.
+ */
+class AircraftCsvWriter {
+
+    static final String HEADER = "id,name,brand,year,description,sold,created,updated";
+
+    private final Writer out;
+
+    AircraftCsvWriter(Writer out) {
+        this.out = out;
+    }
+
+    void writeHeader() throws IOException {
+        out.write(HEADER);
+        out.write("\r\n");
+    }
+
+    void write(AircraftDTO dto) throws IOException {
+        field(dto.getId());
+        out.write(',');
+        field(dto.getName());
+        out.write(',');
+        field(dto.getBrand());
+        out.write(',');
+        field(dto.getYear());
+        out.write(',');
+        field(dto.getDescription());
+        out.write(',');
+        field(dto.isSold());
+        out.write(',');
+        field(dto.getCreated());
+        out.write(',');
+        field(dto.getUpdated());
+        out.write("\r\n");
+    }
+
+    private void field(Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        if (!needsQuotes(text)) {
+            out.write(text);
+            return;
+        }
+        out.write('"');
+        out.write(text.replace("\"", "\"\""));
+        out.write('"');
+    }
+
+    private static boolean needsQuotes(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return !text.isEmpty() && (Character.isWhitespace(text.charAt(0))
+                || Character.isWhitespace(text.charAt(text.length() - 1)));
+    }
+}
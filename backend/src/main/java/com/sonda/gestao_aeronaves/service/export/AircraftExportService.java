@@ -0,0 +1,123 @@
+package com.sonda.gestao_aeronaves.service.export;
+
+import com.sonda.gestao_aeronaves.mapper.AircraftMapper;
+import com.sonda.gestao_aeronaves.persistence.entity.Aircraft;
+import com.sonda.gestao_aeronaves.persistence.repository.AircraftSpecifications;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.CacheMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.query.SelectionQuery;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.databind.SequenceWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Exports the fleet straight from a database cursor to an output stream.
+ * <p>
+ * Rows are read through a forward-only Hibernate scroll with a JDBC fetch size of
+ * {@value #FETCH_SIZE}, inside a read-only transaction (PostgreSQL only honours the
+ * fetch size with auto-commit off). Entities are loaded read-only, bypass the
+ * second-level cache and are cleared from the session every {@value #CLEAR_INTERVAL}
+ * rows, so memory does not grow with the size of the fleet.
+ */
+@Service
+@RequiredArgsConstructor
+@Timed(value = "aircraft.service", histogram = true)
+public class AircraftExportService {
+
+    static final int FETCH_SIZE = 500;
+    static final int CLEAR_INTERVAL = 500;
+
+    private final EntityManager entityManager;
+    private final AircraftMapper mapper;
+    private final JsonMapper jsonMapper;
+
+    /**
+     * Writes the aircraft matching a filter, ordered by ID. The stream is flushed but not closed.
+     * The rows bypass the second-level cache. The cache mode is set on the session, since
+     * a scroll loads its rows after the query has restored its own cache mode.
+     * 
+     * @param filter Filters to apply.
+     * @param format Output format.
+     * @param out    Destination stream.
+     * @return Number of aircraft written.
+     * @throws IOException if writing to the stream fails.
+     */
+    @Transactional(readOnly = true)
+    public long export(ExportFilter filter, ExportFormat format, OutputStream out) throws IOException {
+        Session session = entityManager.unwrap(Session.class);
+        CacheMode cacheMode = session.getCacheMode();
+        session.setCacheMode(CacheMode.IGNORE);
+        try {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            long count = format == ExportFormat.CSV ? exportCsv(filter, writer) : exportNdjson(filter, writer);
+            writer.flush();
+            return count;
+        } finally {
+            session.setCacheMode(cacheMode);
+        }
+    }
+
+    private long exportCsv(ExportFilter filter, Writer writer) throws IOException {
+        AircraftCsvWriter csv = new AircraftCsvWriter(writer);
+        csv.writeHeader();
+        Session session = entityManager.unwrap(Session.class);
+        long count = 0;
+        try (ScrollableResults<Aircraft> rows = scroll(session, filter)) {
+            while (rows.next()) {
+                csv.write(mapper.toDTO(rows.get()));
+                if (++count % CLEAR_INTERVAL == 0) {
+                    session.clear();
+                }
+            }
+        }
+        return count;
+    }
+
+    private long exportNdjson(ExportFilter filter, Writer writer) throws IOException {
+        Session session = entityManager.unwrap(Session.class);
+        long count = 0;
+        try (ScrollableResults<Aircraft> rows = scroll(session, filter);
+                SequenceWriter json = jsonMapper.writer()
+                        .without(StreamWriteFeature.AUTO_CLOSE_TARGET)
+                        .writeValues(writer)) {
+            while (rows.next()) {
+                json.write(mapper.toDTO(rows.get()));
+                writer.write('\n');
+                if (++count % CLEAR_INTERVAL == 0) {
+                    session.clear();
+                }
+            }
+        }
+        return count;
+    }
+
+    private static ScrollableResults<Aircraft> scroll(Session session, ExportFilter filter) {
+        CriteriaBuilder builder = session.getCriteriaBuilder();
+        CriteriaQuery<Aircraft> criteria = builder.createQuery(Aircraft.class);
+        Root<Aircraft> aircraft = criteria.from(Aircraft.class);
+        criteria.where(AircraftSpecifications.matching(filter.toFleetFilter()).toPredicate(aircraft, builder))
+                .orderBy(builder.asc(aircraft.get("id")));
+
+        SelectionQuery<Aircraft> query = session.createSelectionQuery(criteria);
+        return query.setFetchSize(FETCH_SIZE)
+                .setReadOnly(true)
+                .scroll(ScrollMode.FORWARD_ONLY);
+    }
+}
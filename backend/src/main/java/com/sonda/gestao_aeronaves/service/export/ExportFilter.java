@@ -0,0 +1,41 @@
+package com.sonda.gestao_aeronaves.service.export;
+
+import com.sonda.gestao_aeronaves.domain.Brand;
+import com.sonda.gestao_aeronaves.service.statistics.FleetFilter;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Optional filters of an export. Null fields do not filter.
+ * The creation range includes {@code createdFrom} and excludes {@code createdTo}.
+ */
+@Getter
+public class ExportFilter {
+
+    private final Brand brand;
+    private final Boolean sold;
+    private final LocalDateTime createdFrom;
+    private final LocalDateTime createdTo;
+
+    public ExportFilter(Brand brand, Boolean sold, LocalDateTime createdFrom, LocalDateTime createdTo) {
+        if (createdFrom != null && createdTo != null && !createdFrom.isBefore(createdTo)) {
+            throw new IllegalArgumentException("createdFrom deve ser anterior a createdTo.");
+        }
+        this.brand = brand;
+        this.sold = sold;
+        this.createdFrom = createdFrom;
+        this.createdTo = createdTo;
+    }
+
+    public static ExportFilter none() {
+        return new ExportFilter(null, null, null, null);
+    }
+
+    /**
+     * @return The same filters as a fleet filter, without a year range.
+     */
+    public FleetFilter toFleetFilter() {
+        return new FleetFilter(brand, sold, null, null, createdFrom, createdTo);
+    }
+}
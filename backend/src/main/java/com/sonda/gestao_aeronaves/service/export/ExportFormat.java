@@ -0,0 +1,38 @@
+package com.sonda.gestao_aeronaves.service.export;
+
+import org.springframework.http.MediaType;
+
+import java.util.Locale;
+
+public enum ExportFormat {
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    ExportFormat(String mediaType, String extension) {
+        this.mediaType = MediaType.parseMediaType(mediaType);
+        this.extension = extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static ExportFormat fromParameter(String value) {
+        if (value != null) {
+            String requested = value.trim().toLowerCase(Locale.ROOT);
+            for (ExportFormat format : values()) {
+                if (format.extension.equals(requested)) {
+                    return format;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Formato de exportação não suportado. Use csv ou ndjson.");
+    }
+}
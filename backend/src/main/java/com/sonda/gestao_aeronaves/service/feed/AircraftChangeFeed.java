@@ -0,0 +1,115 @@
+package com.sonda.gestao_aeronaves.service.feed;
+
+import com.sonda.gestao_aeronaves.service.event.AircraftChangedEvent;
+import com.sonda.gestao_aeronaves.service.statistics.FleetStatistics;
+import com.sonda.gestao_aeronaves.web.dto.AircraftChangeDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory feed of committed aircraft changes, numbered from 1.
+ * <p>
+ * The latest {@code aircraft.events.buffer-size} changes are kept in a ring buffer so a
+ * reconnecting client can resume after the last change it saw. A client that fell
+ * further behind gets a gap and must reload. Readers wait on a condition, so publishing a
+ * change never blocks on slow readers.
+ */
+@Component
+public class AircraftChangeFeed {
+
+    private final FleetStatistics statistics;
+    private final ChangeEvent[] ring;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition appended = lock.newCondition();
+    private long last;
+
+    public AircraftChangeFeed(FleetStatistics statistics, @Value("${aircraft.events.buffer-size:1024}") int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("O tamanho do buffer de eventos deve ser positivo.");
+        }
+        this.statistics = statistics;
+        this.ring = new ChangeEvent[bufferSize];
+    }
+
+    /**
+     * Appends a committed change. Runs after FleetSnapshot has applied it (see the
+     * order of its listener), so the attached statistics already include the change.
+     * They are read from the incremental counters, so a batch of changes costs no scan
+     * of the fleet on the committing thread.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAircraftChanged(AircraftChangedEvent event) {
+        boolean ready = statistics.isReady();
+        AircraftChangeDTO change = new AircraftChangeDTO(event.getType(), event.getId(), event.getAircraft(),
+                ready ? statistics.getOverview() : null,
+                ready ? statistics.countCreatedSince(LocalDateTime.now().minusWeeks(1)) : null);
+        lock.lock();
+        try {
+            last++;
+            ring[(int) (last % ring.length)] = new ChangeEvent(last, change);
+            appended.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return Number of the latest change, 0 if there is none yet.
+     */
+    public long lastSequence() {
+        lock.lock();
+        try {
+            return last;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the changes after {@code after}, waiting up to {@code timeout} for one if
+     * there is none yet.
+     *
+     * @param after   Number of the last change the reader has seen.
+     * @param timeout Maximum wait.
+     * @return The changes, possibly none, or a gap if some of them were already dropped.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    public Batch awaitAfter(long after, Duration timeout) throws InterruptedException {
+        lock.lock();
+        try {
+            long remaining = timeout.toNanos();
+            while (last <= after && remaining > 0) {
+                remaining = appended.awaitNanos(remaining);
+            }
+            if (after > last || last - after > ring.length) {
+                return new Batch(List.of(), true, last);
+            }
+            List<ChangeEvent> events = new ArrayList<>((int) (last - after));
+            for (long sequence = after + 1; sequence <= last; sequence++) {
+                events.add(ring[(int) (sequence % ring.length)]);
+            }
+            return new Batch(events, false, last);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public record ChangeEvent(long sequence, AircraftChangeDTO change) {
+    }
+
+    /**
+     * @param events Changes in order.
+     * @param gap    True if changes were missed: the reader must reload and go on from {@code last}.
+     * @param last   Number of the latest change.
+     */
+    public record Batch(List<ChangeEvent> events, boolean gap, long last) {
+    }
+}
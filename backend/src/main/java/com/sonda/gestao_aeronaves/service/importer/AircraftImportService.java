@@ -0,0 +1,358 @@
+package com.sonda.gestao_aeronaves.service.importer;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sonda.gestao_aeronaves.domain.Brand;
+import com.sonda.gestao_aeronaves.domain.exception.ImportAlreadyStartedException;
+import com.sonda.gestao_aeronaves.domain.exception.ImportCapacityExceededException;
+import com.sonda.gestao_aeronaves.domain.exception.ImportJobNotFoundException;
+import com.sonda.gestao_aeronaves.service.batch.AircraftBatchService;
+import com.sonda.gestao_aeronaves.web.dto.AircraftDTO;
+import com.sonda.gestao_aeronaves.web.dto.BatchItemResultDTO;
+import com.sonda.gestao_aeronaves.web.dto.BatchResultDTO;
+import com.sonda.gestao_aeronaves.web.dto.ImportJobDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streaming bulk import of aircraft from CSV or NDJSON.
+ * <p>
+ * The request thread parses the upload one row at a time and hands chunks of
+ * {@value #CHUNK_SIZE} rows to a writer thread through a queue of
+ * {@value #QUEUE_CAPACITY} chunks. When the writer falls behind, the queue fills up
+ * and the reader blocks, which in turn stops reading from the socket. Memory therefore
+ * stays bounded by the queue, whatever the size of the file. The writer persists each
+ * chunk through {@link AircraftBatchService}, which validates rows with the
+ * AircraftDTO constraints and maps them with AircraftMapper.
+ * <p>
+ * An import takes two requests: {@link #createJob()} registers the job and hands its ID
+ * back at once, then {@link #upload} streams the file into it. Clients can poll the job
+ * with that ID while the upload is still being read. Progress and rejected rows are
+ * exposed as an {@link ImportJobDTO}.
+ */
+@Slf4j
+@Service
+public class AircraftImportService {
+
+    static final int CHUNK_SIZE = AircraftBatchService.CHUNK_SIZE;
+    static final int QUEUE_CAPACITY = 4;
+
+    private static final List<ImportRow> END = new ArrayList<>(0);
+    private static final Map<String, String> COLUMN_ALIASES = Map.of(
+            "name", "name", "nome", "name",
+            "brand", "brand", "marca", "brand",
+            "year", "year", "ano", "year",
+            "description", "description", "descricao", "description",
+            "sold", "sold", "vendido", "sold");
+
+    private final AircraftBatchService batchService;
+    private final JsonMapper jsonMapper;
+    private final ThreadPoolTaskExecutor executor;
+    private final Cache<UUID, ImportJob> jobs = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofHours(24))
+            .maximumSize(1000)
+            .build();
+
+    public AircraftImportService(AircraftBatchService batchService, JsonMapper jsonMapper,
+            @Qualifier("importExecutor") ThreadPoolTaskExecutor executor) {
+        this.batchService = batchService;
+        this.jsonMapper = jsonMapper;
+        this.executor = executor;
+    }
+
+    /**
+     * Registers an import whose file is sent afterwards with {@link #upload}.
+     *
+     * @return The PENDING job.
+     */
+    public ImportJobDTO createJob() {
+        ImportJob job = new ImportJob();
+        jobs.put(job.getId(), job);
+        return job.toDTO();
+    }
+
+    /**
+     * Imports aircraft from the file of a job. Returns once the whole stream has been
+     * read; the last chunks may still be being written, so the job can still be RUNNING.
+     *
+     * @param id         Job created by {@link #createJob()}.
+     * @param body       Upload body.
+     * @param format     Format of the body.
+     * @param totalBytes Length of the body, or -1 if unknown.
+     * @return Job state when the upload has been read.
+     * @throws ImportJobNotFoundException if the job does not exist or has expired.
+     * @throws ImportAlreadyStartedException if the file of the job was already sent.
+     * @throws ImportCapacityExceededException if too many imports are running.
+     */
+    public ImportJobDTO upload(UUID id, InputStream body, ImportFormat format, long totalBytes) {
+        ImportJob job = find(id);
+        if (!job.start(format, totalBytes)) {
+            throw new ImportAlreadyStartedException(id);
+        }
+        BlockingQueue<List<ImportRow>> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        try {
+            executor.execute(() -> consume(job, queue));
+        } catch (TaskRejectedException ex) {
+            job.fail("Limite de importações simultâneas atingido.");
+            throw new ImportCapacityExceededException(executor.getMaxPoolSize());
+        }
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new CountingInputStream(body, job), StandardCharsets.UTF_8))) {
+            if (format == ImportFormat.CSV) {
+                produceCsv(reader, job, queue);
+            } else {
+                produceNdjson(reader, job, queue);
+            }
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Import {} failed while reading the upload: {}", job.getId(), ex.getMessage());
+            job.fail("Erro ao ler o arquivo: " + ex.getMessage());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            job.fail("Importação interrompida.");
+        } finally {
+            try {
+                enqueue(queue, END, job);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return job.toDTO();
+    }
+
+    /**
+     * @param id Job ID.
+     * @return Current state of the job.
+     * @throws ImportJobNotFoundException if the job does not exist or has expired.
+     */
+    public ImportJobDTO getJob(UUID id) {
+        return find(id).toDTO();
+    }
+
+    private ImportJob find(UUID id) {
+        ImportJob job = jobs.getIfPresent(id);
+        if (job == null) {
+            throw new ImportJobNotFoundException(id);
+        }
+        return job;
+    }
+
+    private void produceCsv(BufferedReader reader, ImportJob job, BlockingQueue<List<ImportRow>> queue)
+            throws IOException, InterruptedException {
+        CsvRecordReader csv = new CsvRecordReader(reader, ',');
+        List<String> header = csv.next();
+        if (header == null) {
+            job.fail("Arquivo vazio.");
+            return;
+        }
+        Map<String, Integer> columns = resolveColumns(header);
+
+        List<ImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+        List<String> record;
+        while (!job.isFailed() && (record = csv.next()) != null) {
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+            job.rowRead();
+            try {
+                chunk.add(new ImportRow(csv.getRecordLine(), toDTO(record, columns)));
+            } catch (IllegalArgumentException ex) {
+                job.reject(csv.getRecordLine(), List.of(ex.getMessage()));
+                continue;
+            }
+            if (chunk.size() == CHUNK_SIZE) {
+                enqueue(queue, chunk, job);
+                chunk = new ArrayList<>(CHUNK_SIZE);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            enqueue(queue, chunk, job);
+        }
+    }
+
+    private void produceNdjson(BufferedReader reader, ImportJob job, BlockingQueue<List<ImportRow>> queue)
+            throws IOException, InterruptedException {
+        List<ImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+        String text;
+        long line = 0;
+        while (!job.isFailed() && (text = reader.readLine()) != null) {
+            line++;
+            if (text.isBlank()) {
+                continue;
+            }
+            job.rowRead();
+            try {
+                chunk.add(new ImportRow(line, jsonMapper.readValue(text, AircraftDTO.class)));
+            } catch (JacksonException ex) {
+                job.reject(line, List.of("JSON inválido: " + ex.getOriginalMessage()));
+                continue;
+            }
+            if (chunk.size() == CHUNK_SIZE) {
+                enqueue(queue, chunk, job);
+                chunk = new ArrayList<>(CHUNK_SIZE);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            enqueue(queue, chunk, job);
+        }
+    }
+
+    private void consume(ImportJob job, BlockingQueue<List<ImportRow>> queue) {
+        try {
+            while (true) {
+                List<ImportRow> chunk = queue.take();
+                if (chunk == END) {
+                    break;
+                }
+                if (job.isFailed()) {
+                    continue;
+                }
+                try {
+                    write(job, chunk);
+                } catch (RuntimeException ex) {
+                    log.error("Import {} failed while writing", job.getId(), ex);
+                    job.fail("Erro ao gravar as aeronaves: " + ex.getMessage());
+                }
+            }
+            job.complete();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            job.fail("Importação interrompida.");
+        }
+    }
+
+    private void write(ImportJob job, List<ImportRow> chunk) {
+        BatchResultDTO result = batchService.createAll(chunk.stream().map(ImportRow::dto).toList());
+        for (BatchItemResultDTO item : result.getItems()) {
+            if (!item.isSuccess()) {
+                job.reject(chunk.get(item.getIndex()).line(), item.getErrors());
+            }
+        }
+        job.imported(result.getSucceeded());
+    }
+
+    /** Blocks while the queue is full, giving up only if the job has failed meanwhile. */
+    private static void enqueue(BlockingQueue<List<ImportRow>> queue, List<ImportRow> chunk, ImportJob job)
+            throws InterruptedException {
+        while (!queue.offer(chunk, 1, TimeUnit.SECONDS)) {
+            if (job.isFailed() && chunk != END) {
+                return;
+            }
+        }
+    }
+
+    private static Map<String, Integer> resolveColumns(List<String> header) {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT)
+                    .replace("ç", "c").replace("ã", "a");
+            String column = COLUMN_ALIASES.get(name);
+            if (column != null) {
+                columns.putIfAbsent(column, i);
+            }
+        }
+        for (String required : List.of("name", "brand", "year", "description")) {
+            if (!columns.containsKey(required)) {
+                throw new IllegalArgumentException("Coluna obrigatória ausente no cabeçalho: " + required);
+            }
+        }
+        return columns;
+    }
+
+    private static AircraftDTO toDTO(List<String> record, Map<String, Integer> columns) {
+        AircraftDTO dto = new AircraftDTO();
+        dto.setName(field(record, columns, "name"));
+        dto.setDescription(field(record, columns, "description"));
+
+        String brand = field(record, columns, "brand");
+        if (brand != null) {
+            try {
+                dto.setBrand(Brand.valueOf(brand.toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException ex) {
+                throw new IllegalArgumentException("brand: Marca inválida. Use: EMBRAER, BOEING ou AIRBUS.");
+            }
+        }
+        String year = field(record, columns, "year");
+        if (year != null) {
+            try {
+                dto.setYear(Integer.parseInt(year));
+            } catch (NumberFormatException ex) {
+                throw new IllegalArgumentException("year: Ano inválido: " + year);
+            }
+        }
+        dto.setSold(parseSold(field(record, columns, "sold")));
+        return dto;
+    }
+
+    private static String field(List<String> record, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static boolean parseSold(String value) {
+        if (value == null) {
+            return false;
+        }
+        return switch (value.toLowerCase(Locale.ROOT)) {
+            case "true", "1", "sim", "s", "yes", "y" -> true;
+            case "false", "0", "nao", "não", "n", "no" -> false;
+            default -> throw new IllegalArgumentException("sold: Valor inválido: " + value);
+        };
+    }
+
+    private record ImportRow(long line, AircraftDTO dto) {
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+        private final ImportJob job;
+
+        CountingInputStream(InputStream in, ImportJob job) {
+            super(in);
+            this.job = job;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                job.addBytesRead(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                job.addBytesRead(n);
+            }
+            return n;
+        }
+    }
+}
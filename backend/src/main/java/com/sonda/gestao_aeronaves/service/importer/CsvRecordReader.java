@@ -0,0 +1,102 @@
+package com.sonda.gestao_aeronaves.service.importer;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal RFC 4180 reader that returns one record at a time, so arbitrarily large
+ * files can be read with constant memory. Supports quoted fields containing the
+ * delimiter, doubled quotes and line breaks, and both LF and CRLF line endings.
+ */
+public class CsvRecordReader {
+
+    private final Reader reader;
+    private final char delimiter;
+    private int line = 1;
+    private int recordLine;
+    private int pushedBack = -2;
+
+    public CsvRecordReader(Reader reader, char delimiter) {
+        this.reader = reader;
+        this.delimiter = delimiter;
+    }
+
+    /** @return Line number on which the last record returned by {@link #next()} started. */
+    public int getRecordLine() {
+        return recordLine;
+    }
+
+    /**
+     * @return Fields of the next record, or null at end of input.
+     * @throws IOException if reading fails or a quoted field is not closed.
+     */
+    public List<String> next() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+        recordLine = line;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean fieldWasQuoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IOException("Campo entre aspas não fechado iniciado na linha " + recordLine);
+                }
+                if (c == '"') {
+                    int peek = read();
+                    if (peek == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        unread(peek);
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty() && !fieldWasQuoted) {
+                quoted = true;
+                fieldWasQuoted = true;
+            } else if (c == delimiter) {
+                fields.add(field.toString());
+                field.setLength(0);
+                fieldWasQuoted = false;
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    int peek = read();
+                    if (peek != '\n') {
+                        unread(peek);
+                    }
+                }
+                if (c != -1) {
+                    line++;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != -2) {
+            int c = pushedBack;
+            pushedBack = -2;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private void unread(int c) {
+        pushedBack = c;
+    }
+}
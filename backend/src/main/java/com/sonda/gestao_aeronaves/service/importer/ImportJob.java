@@ -0,0 +1,104 @@
+package com.sonda.gestao_aeronaves.service.importer;
+
+import com.sonda.gestao_aeronaves.web.dto.ImportJobDTO;
+import com.sonda.gestao_aeronaves.web.dto.ImportJobDTO.Status;
+import com.sonda.gestao_aeronaves.web.dto.ImportRejectDTO;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of one import, updated by the reading and the writing threads and read by
+ * clients polling the job. Only the first {@value #MAX_REJECTS} rejected rows are kept.
+ * <p>
+ * A job is created PENDING, before its file is sent, and starts RUNNING when the upload
+ * begins; the format and size are only known then.
+ */
+class ImportJob {
+
+    static final int MAX_REJECTS = 1000;
+
+    @Getter
+    private final UUID id = UUID.randomUUID();
+    private final AtomicLong bytesRead = new AtomicLong();
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong imported = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final List<ImportRejectDTO> rejects = new ArrayList<>();
+
+    private volatile Status status = Status.PENDING;
+    private volatile ImportFormat format;
+    private volatile long totalBytes = -1;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String error;
+
+    /**
+     * @return False if the upload of this job had already begun.
+     */
+    synchronized boolean start(ImportFormat format, long totalBytes) {
+        if (status != Status.PENDING) {
+            return false;
+        }
+        this.format = format;
+        this.totalBytes = totalBytes;
+        startedAt = LocalDateTime.now();
+        status = Status.RUNNING;
+        return true;
+    }
+
+    void addBytesRead(long bytes) {
+        bytesRead.addAndGet(bytes);
+    }
+
+    void rowRead() {
+        rowsRead.incrementAndGet();
+    }
+
+    void imported(long count) {
+        imported.addAndGet(count);
+    }
+
+    void reject(long line, List<String> errors) {
+        rejected.incrementAndGet();
+        synchronized (rejects) {
+            if (rejects.size() < MAX_REJECTS) {
+                rejects.add(new ImportRejectDTO(line, errors));
+            }
+        }
+    }
+
+    boolean isFailed() {
+        return status == Status.FAILED;
+    }
+
+    synchronized void fail(String message) {
+        if (status == Status.RUNNING) {
+            error = message;
+            finishedAt = LocalDateTime.now();
+            status = Status.FAILED;
+        }
+    }
+
+    synchronized void complete() {
+        if (status == Status.RUNNING) {
+            finishedAt = LocalDateTime.now();
+            status = Status.COMPLETED;
+        }
+    }
+
+    ImportJobDTO toDTO() {
+        List<ImportRejectDTO> rejectsCopy;
+        synchronized (rejects) {
+            rejectsCopy = List.copyOf(rejects);
+        }
+        long rejectedCount = rejected.get();
+        return new ImportJobDTO(id, status, format != null ? format.name() : null, bytesRead.get(), totalBytes, rowsRead.get(),
+                imported.get(), rejectedCount, startedAt, finishedAt, error, rejectsCopy,
+                rejectedCount > rejectsCopy.size());
+    }
+}
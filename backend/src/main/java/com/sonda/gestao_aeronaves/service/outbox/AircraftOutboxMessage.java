@@ -0,0 +1,19 @@
+package com.sonda.gestao_aeronaves.service.outbox;
+
+import com.sonda.gestao_aeronaves.service.event.AircraftChangedEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * An aircraft change as delivered to an {@link AircraftOutboxSink}.
+ * Delivery is at least once: consumers should ignore sequences they have already seen.
+ *
+ * @param sequence   Position in the change log, increasing with the commit order of each aircraft.
+ * @param aircraftId Aircraft that changed.
+ * @param type       Kind of change.
+ * @param aircraft   Aircraft after the change as JSON ({@code AircraftDTO}); null for DELETED.
+ * @param created    When the change was made.
+ */
+public record AircraftOutboxMessage(long sequence, Long aircraftId, AircraftChangedEvent.Type type,
+        String aircraft, LocalDateTime created) {
+}
@@ -0,0 +1,97 @@
+package com.sonda.gestao_aeronaves.service.outbox;
+
+import com.sonda.gestao_aeronaves.persistence.entity.AircraftOutboxEntry;
+import com.sonda.gestao_aeronaves.persistence.repository.AircraftOutboxRepository;
+import com.sonda.gestao_aeronaves.service.event.AircraftChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Relays the outbox to the configured {@link AircraftOutboxSink}.
+ * <p>
+ * Each batch is read in ID order and locked, handed to the sink, and marked as
+ * published in the same transaction. If the sink fails, the transaction rolls back and
+ * the same batch is retried on the next run, so delivery is at least once and the
+ * changes of an aircraft always arrive in order. The lock keeps a second instance from
+ * relaying the same entries concurrently.
+ */
+@Slf4j
+@Component
+public class AircraftOutboxRelay {
+
+    private final AircraftOutboxRepository repository;
+    private final AircraftOutboxSink sink;
+    private final TransactionTemplate transaction;
+    private final int batchSize;
+    private final Duration retention;
+
+    public AircraftOutboxRelay(AircraftOutboxRepository repository, AircraftOutboxSink sink,
+            PlatformTransactionManager transactionManager,
+            @Value("${aircraft.outbox.batch-size:500}") int batchSize,
+            @Value("${aircraft.outbox.retention:P7D}") Duration retention) {
+        this.repository = repository;
+        this.sink = sink;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.retention = retention;
+    }
+
+    /**
+     * Relays batches until the outbox is drained or the sink fails.
+     *
+     * @return Number of changes delivered.
+     */
+    @Scheduled(fixedDelayString = "${aircraft.outbox.relay-interval:PT1S}")
+    public int relay() {
+        int delivered = 0;
+        try {
+            int relayed;
+            do {
+                relayed = transaction.execute(status -> relayBatch());
+                delivered += relayed;
+            } while (relayed == batchSize);
+        } catch (RuntimeException e) {
+            log.warn("Outbox relay failed after {} changes, retrying on the next run: {}", delivered, e.getMessage());
+        }
+        return delivered;
+    }
+
+    /**
+     * Deletes relayed entries older than {@code aircraft.outbox.retention} that are no
+     * longer the latest change of their aircraft.
+     *
+     * @return Number of entries deleted.
+     */
+    @Scheduled(fixedDelayString = "${aircraft.outbox.compaction-interval:PT1H}",
+            initialDelayString = "${aircraft.outbox.compaction-interval:PT1H}")
+    public int compact() {
+        LocalDateTime before = LocalDateTime.now().minus(retention);
+        int deleted = transaction.execute(status -> repository.compact(before, AircraftChangedEvent.Type.DELETED));
+        if (deleted > 0) {
+            log.info("Outbox compaction removed {} entries older than {}", deleted, before);
+        }
+        return deleted;
+    }
+
+    private int relayBatch() {
+        List<AircraftOutboxEntry> batch = repository.lockUnpublished(Limit.of(batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        sink.publish(batch.stream()
+                .map(entry -> new AircraftOutboxMessage(entry.getId(), entry.getAircraftId(), entry.getType(),
+                        entry.getPayload(), entry.getCreated()))
+                .toList());
+        batch.forEach(entry -> entry.setPublished(true));
+        return batch.size();
+    }
+}
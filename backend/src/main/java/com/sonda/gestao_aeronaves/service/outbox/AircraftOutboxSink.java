@@ -0,0 +1,19 @@
+package com.sonda.gestao_aeronaves.service.outbox;
+
+import java.util.List;
+
+/**
+ * Destination of the relayed aircraft changes.
+ * Selected with {@code aircraft.outbox.sink}.
+ */
+public interface AircraftOutboxSink {
+
+    /**
+     * Delivers a batch of changes, in order. Returning normally acknowledges the whole
+     * batch; throwing makes the relay deliver it again later, so a sink may see a
+     * message more than once but never out of order for the same aircraft.
+     *
+     * @param messages Changes ordered by sequence.
+     */
+    void publish(List<AircraftOutboxMessage> messages);
+}
@@ -0,0 +1,35 @@
+package com.sonda.gestao_aeronaves.service.outbox;
+
+import com.sonda.gestao_aeronaves.persistence.entity.AircraftOutboxEntry;
+import com.sonda.gestao_aeronaves.service.event.AircraftChangedEvent;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+
+/**
+ * Records every aircraft change in the outbox, in the transaction that made it.
+ * <p>
+ * Entries are persisted just before commit, after the services are done with the
+ * persistence context, and are flushed with the rest of the transaction. They share
+ * a pooled sequence, so Hibernate sends all of a transaction's entries as one JDBC
+ * batch. A rolled back change leaves no entry; a committed one always does.
+ */
+@Component
+@RequiredArgsConstructor
+public class AircraftOutboxWriter {
+
+    private final EntityManager entityManager;
+    private final JsonMapper jsonMapper;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onAircraftChanged(AircraftChangedEvent event) {
+        String payload = event.getAircraft() != null ? jsonMapper.writeValueAsString(event.getAircraft()) : null;
+        entityManager.persist(new AircraftOutboxEntry(null, event.getId(), event.getType(), payload,
+                LocalDateTime.now(), false));
+    }
+}
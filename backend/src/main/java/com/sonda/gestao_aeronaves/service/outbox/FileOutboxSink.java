@@ -0,0 +1,68 @@
+package com.sonda.gestao_aeronaves.service.outbox;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends the relayed changes to a newline-delimited JSON file, one change per line.
+ * A batch is acknowledged only after it reached the disk. Enabled with
+ * {@code aircraft.outbox.sink=file}; the file is {@code aircraft.outbox.file}.
+ */
+@Component
+@ConditionalOnProperty(name = "aircraft.outbox.sink", havingValue = "file")
+public class FileOutboxSink implements AircraftOutboxSink {
+
+    private final Path file;
+    private final JsonMapper jsonMapper;
+
+    public FileOutboxSink(@Value("${aircraft.outbox.file:outbox/aeronaves.ndjson}") Path file, JsonMapper jsonMapper) {
+        this.file = file;
+        this.jsonMapper = jsonMapper;
+    }
+
+    @Override
+    public synchronized void publish(List<AircraftOutboxMessage> messages) {
+        StringBuilder lines = new StringBuilder(messages.size() * 256);
+        for (AircraftOutboxMessage message : messages) {
+            ObjectNode line = jsonMapper.createObjectNode()
+                    .put("sequence", message.sequence())
+                    .put("aircraftId", message.aircraftId())
+                    .put("type", message.type().name())
+                    .put("created", message.created().toString());
+            if (message.aircraft() != null) {
+                line.set("aircraft", jsonMapper.readTree(message.aircraft()));
+            } else {
+                line.putNull("aircraft");
+            }
+            lines.append(jsonMapper.writeValueAsString(line)).append('\n');
+        }
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not append to outbox file " + file, e);
+        }
+    }
+}
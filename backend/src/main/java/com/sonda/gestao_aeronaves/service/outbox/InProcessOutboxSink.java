@@ -0,0 +1,26 @@
+package com.sonda.gestao_aeronaves.service.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Publishes every relayed change as an {@link AircraftOutboxMessage} application event,
+ * for consumers running in the same process ({@code @EventListener}).
+ * This is the default sink.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "aircraft.outbox.sink", havingValue = "in-process", matchIfMissing = true)
+public class InProcessOutboxSink implements AircraftOutboxSink {
+
+    private final ApplicationEventPublisher events;
+
+    @Override
+    public void publish(List<AircraftOutboxMessage> messages) {
+        messages.forEach(events::publishEvent);
+    }
+}
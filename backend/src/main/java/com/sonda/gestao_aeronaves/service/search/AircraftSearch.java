@@ -0,0 +1,31 @@
+package com.sonda.gestao_aeronaves.service.search;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Ranked text search over aircraft name, description and brand.
+ * Matches on the name rank first, then brand, then description.
+ */
+public interface AircraftSearch {
+
+    /**
+     * @param term   Search term, already trimmed and non-blank.
+     * @param offset Number of ranked results to skip.
+     * @param limit  Maximum number of results.
+     * @return IDs of the matching aircraft, best match first.
+     */
+    List<Long> search(String term, int offset, int limit);
+
+    /**
+     * Ranks a known superset of the matches instead of searching the whole fleet. Every
+     * aircraft matching a term also matches any part of it, so the IDs that matched a
+     * prefix of {@code term} are such a superset.
+     *
+     * @param term       Search term, already trimmed and non-blank.
+     * @param candidates IDs that may match; IDs that no longer exist are ignored.
+     * @return IDs of the matching candidates, best match first, in the same order
+     *         {@link #search} would return them.
+     */
+    List<Long> searchWithin(String term, Collection<Long> candidates);
+}
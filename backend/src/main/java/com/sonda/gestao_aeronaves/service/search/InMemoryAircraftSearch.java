@@ -0,0 +1,311 @@
+package com.sonda.gestao_aeronaves.service.search;
+
+import com.sonda.gestao_aeronaves.persistence.projection.AircraftSearchRow;
+import com.sonda.gestao_aeronaves.persistence.repository.AircraftRepository;
+import com.sonda.gestao_aeronaves.service.event.AircraftChangedEvent;
+import com.sonda.gestao_aeronaves.web.dto.AircraftDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * In-process inverted index of character trigrams over name, brand and description.
+ * <p>
+ * Every field is normalized (upper case, accents removed) and split into trigrams;
+ * each trigram maps to the sorted list of document slots containing it. A query
+ * intersects the posting lists of its own trigrams and then confirms the substring
+ * match on the few remaining candidates, so no full scan is needed for terms of
+ * three or more characters. Updated and deleted documents leave a dead slot that is
+ * reclaimed when the index is compacted.
+ * <p>
+ * Built at startup and kept current from committed {@link AircraftChangedEvent}s.
+ * This is the default engine and behaves the same on PostgreSQL and H2.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "aircraft.search.engine", havingValue = "memory", matchIfMissing = true)
+public class InMemoryAircraftSearch implements AircraftSearch {
+
+    private static final int GRAM = 3;
+    private static final int RANKS = 5;
+    private static final int COMPACTION_MIN_DEAD = 1024;
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    private final AircraftRepository repository;
+    private final PlatformTransactionManager transactionManager;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Index index = new Index();
+
+    /**
+     * Loads the index from the database. Writers wait for the load to finish, and
+     * because every change is applied as the full state of one aircraft, changes
+     * that committed while the rows were being read are simply re-applied afterwards.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        lock.writeLock().lock();
+        try {
+            Index loaded = new Index();
+            TransactionTemplate template = new TransactionTemplate(transactionManager);
+            template.setReadOnly(true);
+            template.executeWithoutResult(status -> {
+                try (Stream<AircraftSearchRow> rows = repository.streamSearchRows()) {
+                    rows.forEach(row -> loaded.upsert(row.getId(), row.getName(),
+                            row.getBrand() != null ? row.getBrand().name() : null, row.getDescription()));
+                }
+            });
+            index = loaded;
+            log.info("Search index built with {} aircraft and {} trigrams", loaded.slotById.size(),
+                    loaded.postings.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Ordered before {@link SearchResultCache}, which must not move on before the index does. */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.LOWEST_PRECEDENCE - 1)
+    public void onAircraftChanged(AircraftChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (event.getType() == AircraftChangedEvent.Type.DELETED) {
+                index.remove(event.getId());
+            } else {
+                AircraftDTO dto = event.getAircraft();
+                index.upsert(dto.getId(), dto.getName(),
+                        dto.getBrand() != null ? dto.getBrand().name() : null, dto.getDescription());
+            }
+            if (index.dead >= COMPACTION_MIN_DEAD && index.dead * 3 > index.docs.size()) {
+                index = index.compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Long> search(String term, int offset, int limit) {
+        String query = normalize(term);
+        lock.readLock().lock();
+        try {
+            return index.search(query, offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Long> searchWithin(String term, Collection<Long> candidates) {
+        String query = normalize(term);
+        lock.readLock().lock();
+        try {
+            return index.searchWithin(query, candidates);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(value, Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toUpperCase(Locale.ROOT);
+    }
+
+    private static Set<String> trigrams(String value, Set<String> into) {
+        for (int i = 0; i + GRAM <= value.length(); i++) {
+            into.add(value.substring(i, i + GRAM));
+        }
+        return into;
+    }
+
+    private record Doc(long id, String name, String brand, String description) {
+
+        /** @return 0 (best) to 4, or -1 when the query does not match. */
+        int rank(String query) {
+            if (name.equals(query)) {
+                return 0;
+            }
+            if (name.startsWith(query)) {
+                return 1;
+            }
+            if (name.contains(query)) {
+                return 2;
+            }
+            if (brand.contains(query)) {
+                return 3;
+            }
+            return description.contains(query) ? 4 : -1;
+        }
+    }
+
+    /** Growable, sorted list of document slots. */
+    private static final class Postings {
+        private int[] slots = new int[4];
+        private int size;
+
+        void add(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+
+        boolean contains(int slot) {
+            return Arrays.binarySearch(slots, 0, size, slot) >= 0;
+        }
+    }
+
+    private static final class Index {
+        private final List<Doc> docs = new ArrayList<>();
+        private final Map<Long, Integer> slotById = new HashMap<>();
+        private final Map<String, Postings> postings = new HashMap<>();
+        private int dead;
+
+        void upsert(Long id, String name, String brand, String description) {
+            remove(id);
+            Doc doc = new Doc(id, normalize(name), normalize(brand), normalize(description));
+            int slot = docs.size();
+            docs.add(doc);
+            slotById.put(id, slot);
+            Set<String> grams = new LinkedHashSet<>();
+            trigrams(doc.name(), grams);
+            trigrams(doc.brand(), grams);
+            trigrams(doc.description(), grams);
+            grams.forEach(gram -> postings.computeIfAbsent(gram, g -> new Postings()).add(slot));
+        }
+
+        void remove(Long id) {
+            Integer slot = slotById.remove(id);
+            if (slot != null) {
+                docs.set(slot, null);
+                dead++;
+            }
+        }
+
+        Index compact() {
+            Index compacted = new Index();
+            docs.stream()
+                    .filter(doc -> doc != null)
+                    .forEach(doc -> compacted.upsert(doc.id(), doc.name(), doc.brand(), doc.description()));
+            return compacted;
+        }
+
+        List<Long> search(String query, int offset, int limit) {
+            if (query.isEmpty() || limit <= 0) {
+                return List.of();
+            }
+            List<List<Long>> ranked = ranks();
+            if (query.length() < GRAM) {
+                for (Doc doc : docs) {
+                    collect(doc, query, ranked);
+                }
+            } else {
+                Postings[] lists = trigrams(query, new LinkedHashSet<>()).stream()
+                        .map(postings::get)
+                        .toArray(Postings[]::new);
+                if (Arrays.stream(lists).anyMatch(list -> list == null)) {
+                    return List.of();
+                }
+                Arrays.sort(lists, Comparator.comparingInt(list -> list.size));
+                Postings smallest = lists[0];
+                for (int i = 0; i < smallest.size; i++) {
+                    int slot = smallest.slots[i];
+                    if (containedInAll(lists, slot)) {
+                        collect(docs.get(slot), query, ranked);
+                    }
+                }
+            }
+
+            return page(ranked, offset, limit);
+        }
+
+        List<Long> searchWithin(String query, Collection<Long> candidates) {
+            if (query.isEmpty()) {
+                return List.of();
+            }
+            List<List<Long>> ranked = ranks();
+            for (Long id : candidates) {
+                Integer slot = slotById.get(id);
+                if (slot != null) {
+                    collect(docs.get(slot), query, ranked);
+                }
+            }
+            return page(ranked, 0, candidates.size());
+        }
+
+        private static List<List<Long>> ranks() {
+            List<List<Long>> ranked = new ArrayList<>(RANKS);
+            for (int i = 0; i < RANKS; i++) {
+                ranked.add(new ArrayList<>());
+            }
+            return ranked;
+        }
+
+        private static List<Long> page(List<List<Long>> ranked, int offset, int limit) {
+            List<Long> page = new ArrayList<>(limit);
+            int skip = offset;
+            for (List<Long> ids : ranked) {
+                if (skip >= ids.size()) {
+                    skip -= ids.size();
+                    continue;
+                }
+                ids.sort(null);
+                for (int i = skip; i < ids.size() && page.size() < limit; i++) {
+                    page.add(ids.get(i));
+                }
+                skip = 0;
+                if (page.size() == limit) {
+                    break;
+                }
+            }
+            return page;
+        }
+
+        private static boolean containedInAll(Postings[] lists, int slot) {
+            for (int i = 1; i < lists.length; i++) {
+                if (!lists[i].contains(slot)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static void collect(Doc doc, String query, List<List<Long>> ranked) {
+            if (doc == null) {
+                return;
+            }
+            int rank = doc.rank(query);
+            if (rank >= 0) {
+                ranked.get(rank).add(doc.id());
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.sonda.gestao_aeronaves.service.search;
+
+import com.sonda.gestao_aeronaves.persistence.repository.AircraftRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Search executed by PostgreSQL with ILIKE predicates served by pg_trgm GIN indexes.
+ * Enabled with {@code aircraft.search.engine=postgres}.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "aircraft.search.engine", havingValue = "postgres")
+public class PostgresAircraftSearch implements AircraftSearch {
+
+    private final AircraftRepository repository;
+
+    @Override
+    public List<Long> search(String term, int offset, int limit) {
+        return repository.searchRankedIds(escapeLike(term), offset, limit);
+    }
+
+    @Override
+    public List<Long> searchWithin(String term, Collection<Long> candidates) {
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+        return repository.searchRankedIdsWithin(escapeLike(term), candidates);
+    }
+
+    private static String escapeLike(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
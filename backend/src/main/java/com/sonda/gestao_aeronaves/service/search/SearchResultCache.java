@@ -0,0 +1,155 @@
+package com.sonda.gestao_aeronaves.service.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sonda.gestao_aeronaves.service.event.AircraftChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches the ranked IDs of each search term in front of the {@link AircraftSearch} engine.
+ * <p>
+ * The first {@code max-results} IDs of a term are kept in a Caffeine cache (W-TinyLFU,
+ * bounded by an estimate of its memory footprint), and pages inside them are answered
+ * without searching. Each entry records the generation it was computed in; every committed
+ * aircraft change bumps the generation, so an entry computed before a change is never
+ * served after it. A term that misses is answered from a complete entry for one of its
+ * prefixes when there is one: the aircraft matching {@code EMBR} are a subset of those
+ * matching {@code EMB}, so only those are ranked again.
+ * <p>
+ * Published metrics: {@code cache.gets} (hits and misses), {@code cache.evictions},
+ * {@code cache.size} for {@code cache=aircraft.search}, with the same tag keys Spring Boot
+ * gives the caches of its cache managers ({@code cache}, {@code cache.manager},
+ * {@code name}), since Prometheus drops a meter whose keys differ from an existing one
+ * of the same name; plus
+ * {@code aircraft.search.cache.prefix.hits} and {@code aircraft.search.cache.bytes}.
+ */
+@Component
+public class SearchResultCache {
+
+    static final String CACHE_NAME = "aircraft.search";
+    /** Value of the {@code cache.manager} tag; this cache has no Spring cache manager. */
+    static final String CACHE_MANAGER = "searchResultCache";
+
+    /** Rough per-entry cost of the map node, key, entry and array headers. */
+    private static final int ENTRY_OVERHEAD_BYTES = 160;
+
+    private final AircraftSearch search;
+    private final int maxResults;
+    private final Cache<String, Entry> cache;
+    private final AtomicLong generation = new AtomicLong();
+    private final Counter prefixHits;
+
+    public SearchResultCache(AircraftSearch search, MeterRegistry registry,
+            @Value("${aircraft.search.cache.max-size:16MB}") DataSize maxSize,
+            @Value("${aircraft.search.cache.max-results:1000}") int maxResults) {
+        if (maxResults < 1) {
+            throw new IllegalArgumentException("aircraft.search.cache.max-results deve ser positivo.");
+        }
+        this.search = search;
+        this.maxResults = maxResults;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((String term, Entry entry) -> entry.bytes(term))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME,
+                Tags.of("cache.manager", CACHE_MANAGER, "name", CACHE_NAME));
+        this.prefixHits = Counter.builder("aircraft.search.cache.prefix.hits")
+                .description("Search terms answered by ranking the cached results of a prefix")
+                .register(registry);
+        // Caffeine settles the weighted size on its maintenance executor; run that pending
+        // work first so a scrape right after a write does not read the old size.
+        Gauge.builder("aircraft.search.cache.bytes", cache, c -> {
+                    c.cleanUp();
+                    return c.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0)).orElse(0L);
+                })
+                .description("Estimated memory held by cached search results")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    /**
+     * Same contract as {@link AircraftSearch#search}, served from the cache when possible.
+     */
+    public List<Long> search(String term, int offset, int limit) {
+        String key = term.toUpperCase(Locale.ROOT);
+        long current = generation.get();
+        Entry entry = cache.getIfPresent(key);
+        if (entry == null || entry.generation != current) {
+            entry = load(term, key, current);
+        }
+        if (entry.complete || offset <= entry.ids.length - limit) {
+            return entry.page(offset, limit);
+        }
+        return search.search(term, offset, limit);
+    }
+
+    /**
+     * Runs after the search index has applied the change (see {@link InMemoryAircraftSearch}),
+     * so any search that reads the new generation also reads the new index.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onAircraftChanged(AircraftChangedEvent event) {
+        generation.incrementAndGet();
+    }
+
+    /** Prefixes are probed quietly, so they do not count as misses in the hit ratio. */
+    private Entry load(String term, String key, long current) {
+        Entry loaded = null;
+        for (int length = key.length() - 1; length > 0 && loaded == null; length--) {
+            Entry prefix = cache.policy().getIfPresentQuietly(key.substring(0, length));
+            if (prefix != null && prefix.generation == current && prefix.complete) {
+                loaded = Entry.of(current, search.searchWithin(term, prefix.idList()), Integer.MAX_VALUE);
+                prefixHits.increment();
+            }
+        }
+        if (loaded == null) {
+            loaded = Entry.of(current, search.search(term, 0, maxResults + 1), maxResults);
+        }
+        cache.put(key, loaded);
+        return loaded;
+    }
+
+    private record Entry(long generation, long[] ids, boolean complete) {
+
+        static Entry of(long generation, List<Long> ranked, int maxResults) {
+            boolean complete = ranked.size() <= maxResults;
+            long[] ids = ranked.stream()
+                    .limit(maxResults)
+                    .mapToLong(Long::longValue)
+                    .toArray();
+            return new Entry(generation, ids, complete);
+        }
+
+        List<Long> page(int offset, int limit) {
+            if (offset >= ids.length) {
+                return List.of();
+            }
+            return Arrays.stream(ids, offset, offset + Math.min(limit, ids.length - offset)).boxed().toList();
+        }
+
+        List<Long> idList() {
+            return Arrays.stream(ids).boxed().toList();
+        }
+
+        int bytes(String term) {
+            return ENTRY_OVERHEAD_BYTES + 2 * term.length() + 8 * ids.length;
+        }
+    }
+}
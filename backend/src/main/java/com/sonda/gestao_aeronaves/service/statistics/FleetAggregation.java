@@ -0,0 +1,84 @@
+package com.sonda.gestao_aeronaves.service.statistics;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A fleet aggregation: the aircraft matching {@link #getFilter()} are grouped once per
+ * grouping set, like SQL {@code GROUPING SETS}, and {@link #getMetrics()} are computed
+ * for every group.
+ */
+@Getter
+public class FleetAggregation {
+
+    public static final int MAX_GROUPINGS = 8;
+
+    private final List<List<FleetDimension>> groupings;
+    private final Set<FleetMetric> metrics;
+    private final FleetFilter filter;
+
+    public FleetAggregation(List<List<FleetDimension>> groupings, Set<FleetMetric> metrics, FleetFilter filter) {
+        if (groupings.isEmpty()) {
+            throw new IllegalArgumentException("Informe ao menos um agrupamento em groupBy.");
+        }
+        if (groupings.size() > MAX_GROUPINGS) {
+            throw new IllegalArgumentException("Informe no máximo " + MAX_GROUPINGS + " agrupamentos em groupBy.");
+        }
+        if (metrics.isEmpty()) {
+            throw new IllegalArgumentException("Informe ao menos uma métrica em metrics.");
+        }
+        for (List<FleetDimension> grouping : groupings) {
+            if (grouping.isEmpty() || Set.copyOf(grouping).size() != grouping.size()) {
+                throw new IllegalArgumentException("Cada agrupamento deve ter dimensões distintas.");
+            }
+        }
+        this.groupings = List.copyOf(new LinkedHashSet<>(groupings));
+        this.metrics = EnumSet.copyOf(metrics);
+        this.filter = filter;
+    }
+
+    /**
+     * Parses the request form: each {@code groupBy} value is one grouping set, with its
+     * dimensions separated by commas, e.g. {@code groupBy=brand,sold&groupBy=decade}.
+     * Without {@code metrics} every metric is computed.
+     *
+     * @throws IllegalArgumentException if a name is unknown or a grouping is invalid.
+     */
+    public static FleetAggregation parse(String[] groupBy, String metrics, FleetFilter filter) {
+        List<List<FleetDimension>> groupings = new ArrayList<>();
+        if (groupBy != null) {
+            for (String grouping : groupBy) {
+                groupings.add(names(grouping).stream().map(FleetDimension::fromName).toList());
+            }
+        }
+        Set<FleetMetric> parsedMetrics = metrics == null
+                ? EnumSet.allOf(FleetMetric.class)
+                : EnumSet.noneOf(FleetMetric.class);
+        if (metrics != null) {
+            names(metrics).forEach(name -> parsedMetrics.add(FleetMetric.fromName(name)));
+        }
+        return new FleetAggregation(groupings, parsedMetrics, filter);
+    }
+
+    /** @return The dimensions used by any grouping set, in declaration order. */
+    public Set<FleetDimension> getDimensions() {
+        Set<FleetDimension> dimensions = EnumSet.noneOf(FleetDimension.class);
+        groupings.forEach(dimensions::addAll);
+        return dimensions;
+    }
+
+    private static List<String> names(String value) {
+        List<String> names = new ArrayList<>();
+        for (String name : value.split(",")) {
+            if (!name.isBlank()) {
+                names.add(name.trim());
+            }
+        }
+        return names;
+    }
+}
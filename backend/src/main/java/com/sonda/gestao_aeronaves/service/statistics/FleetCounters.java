@@ -0,0 +1,124 @@
+package com.sonda.gestao_aeronaves.service.statistics;
+
+import com.sonda.gestao_aeronaves.domain.Brand;
+import com.sonda.gestao_aeronaves.web.dto.FleetStatisticsDTO;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Counters behind the fixed statistics endpoints: total, unsold, brand x decade and the
+ * creations of the last week. {@link FleetSnapshot} adjusts them with the previous and new
+ * state of every aircraft it applies, so each read costs the size of the answer, not of
+ * the fleet.
+ * <p>
+ * Writers hold the snapshot's write lock; readers only its read lock, so the methods are
+ * synchronized for the pruning of the recent creations, which also happens on reads.
+ */
+final class FleetCounters {
+
+    private final Map<Brand, NavigableMap<Integer, Long>> byBrandAndDecade = new EnumMap<>(Brand.class);
+    /** Creation times, in epoch microseconds, of the aircraft created in the last week. */
+    private final NavigableMap<Long, Integer> recent = new TreeMap<>();
+    private long total;
+    private long unsold;
+    private long recentCount;
+
+    synchronized void add(Brand brand, int year, boolean sold, long createdMicros) {
+        total++;
+        if (!sold) {
+            unsold++;
+        }
+        byBrandAndDecade.computeIfAbsent(brand, b -> new TreeMap<>()).merge(decade(year), 1L, Long::sum);
+        if (createdMicros > windowStart()) {
+            recent.merge(createdMicros, 1, Integer::sum);
+            recentCount++;
+        }
+    }
+
+    synchronized void remove(Brand brand, int year, boolean sold, long createdMicros) {
+        total--;
+        if (!sold) {
+            unsold--;
+        }
+        NavigableMap<Integer, Long> decades = byBrandAndDecade.get(brand);
+        if (decades != null) {
+            decades.computeIfPresent(decade(year), (decade, count) -> count > 1 ? count - 1 : null);
+            if (decades.isEmpty()) {
+                byBrandAndDecade.remove(brand);
+            }
+        }
+        if (recent.containsKey(createdMicros)) {
+            recent.computeIfPresent(createdMicros, (created, count) -> count > 1 ? count - 1 : null);
+            recentCount--;
+        }
+    }
+
+    synchronized long total() {
+        return total;
+    }
+
+    synchronized long unsold() {
+        return unsold;
+    }
+
+    /**
+     * Drops the creations up to {@code since} and counts the rest, so the cost is the
+     * number of creations that left the window. Callers always ask for the same sliding
+     * window, which only moves forward.
+     */
+    synchronized long countCreatedSince(LocalDateTime since) {
+        long sinceMicros = micros(since);
+        while (!recent.isEmpty() && recent.firstKey() <= sinceMicros) {
+            recentCount -= recent.pollFirstEntry().getValue();
+        }
+        return recentCount;
+    }
+
+    synchronized Map<Integer, Long> byDecade() {
+        Map<Integer, Long> byDecade = new TreeMap<>();
+        byBrandAndDecade.values()
+                .forEach(decades -> decades.forEach((decade, count) -> byDecade.merge(decade, count, Long::sum)));
+        return byDecade;
+    }
+
+    synchronized FleetStatisticsDTO overview() {
+        Map<Brand, Long> byBrand = new EnumMap<>(Brand.class);
+        Map<Brand, Map<Integer, Long>> copy = new EnumMap<>(Brand.class);
+        byBrandAndDecade.forEach((brand, decades) -> {
+            byBrand.put(brand, decades.values().stream().mapToLong(Long::longValue).sum());
+            copy.put(brand, new TreeMap<>(decades));
+        });
+        Map<Boolean, Long> bySold = new TreeMap<>();
+        if (total > unsold) {
+            bySold.put(true, total - unsold);
+        }
+        if (unsold > 0) {
+            bySold.put(false, unsold);
+        }
+        return new FleetStatisticsDTO(total, unsold, byDecade(), byBrand, bySold, copy);
+    }
+
+    boolean sameAs(FleetCounters other) {
+        FleetStatisticsDTO mine = overview();
+        FleetStatisticsDTO theirs = other.overview();
+        return mine.getTotal() == theirs.getTotal() && mine.getUnsold() == theirs.getUnsold()
+                && mine.getByBrandAndDecade().equals(theirs.getByBrandAndDecade());
+    }
+
+    private static int decade(int year) {
+        return Math.floorDiv(year, 10) * 10;
+    }
+
+    private static long windowStart() {
+        return micros(LocalDateTime.now().minusWeeks(1));
+    }
+
+    private static long micros(LocalDateTime value) {
+        return value.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + value.getNano() / 1_000;
+    }
+}
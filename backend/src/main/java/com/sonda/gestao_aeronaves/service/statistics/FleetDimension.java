@@ -0,0 +1,41 @@
+package com.sonda.gestao_aeronaves.service.statistics;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Properties a fleet aggregation can group by. The creation buckets are identified by
+ * their first day: the day itself, the Monday of its ISO week or the first of its month.
+ */
+public enum FleetDimension {
+    BRAND("brand"),
+    DECADE("decade"),
+    YEAR("year"),
+    SOLD("sold"),
+    CREATED_DAY("createdDay"),
+    CREATED_WEEK("createdWeek"),
+    CREATED_MONTH("createdMonth");
+
+    private final String name;
+
+    FleetDimension(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the name is not a dimension.
+     */
+    public static FleetDimension fromName(String name) {
+        for (FleetDimension dimension : values()) {
+            if (dimension.name.equals(name)) {
+                return dimension;
+            }
+        }
+        throw new IllegalArgumentException("Agrupamento inválido: " + name + ". Use: "
+                + Arrays.stream(values()).map(FleetDimension::getName).collect(Collectors.joining(", ")) + ".");
+    }
+}
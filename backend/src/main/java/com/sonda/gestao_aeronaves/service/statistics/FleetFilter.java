@@ -0,0 +1,50 @@
+package com.sonda.gestao_aeronaves.service.statistics;
+
+import com.sonda.gestao_aeronaves.domain.Brand;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Optional filters of a fleet query. Null fields do not filter.
+ * The year range includes both ends; the creation range includes {@code createdFrom}
+ * and excludes {@code createdTo}.
+ */
+@Getter
+public class FleetFilter {
+
+    private final Brand brand;
+    private final Boolean sold;
+    private final Integer yearFrom;
+    private final Integer yearTo;
+    private final LocalDateTime createdFrom;
+    private final LocalDateTime createdTo;
+
+    public FleetFilter(Brand brand, Boolean sold, Integer yearFrom, Integer yearTo,
+            LocalDateTime createdFrom, LocalDateTime createdTo) {
+        if (yearFrom != null && yearTo != null && yearFrom > yearTo) {
+            throw new IllegalArgumentException("yearFrom não pode ser maior que yearTo.");
+        }
+        if (createdFrom != null && createdTo != null && !createdFrom.isBefore(createdTo)) {
+            throw new IllegalArgumentException("createdFrom deve ser anterior a createdTo.");
+        }
+        this.brand = brand;
+        this.sold = sold;
+        this.yearFrom = yearFrom;
+        this.yearTo = yearTo;
+        this.createdFrom = createdFrom;
+        this.createdTo = createdTo;
+    }
+
+    public static FleetFilter none() {
+        return new FleetFilter(null, null, null, null, null, null);
+    }
+
+    public static FleetFilter unsold() {
+        return new FleetFilter(null, false, null, null, null, null);
+    }
+
+    public static FleetFilter createdSince(LocalDateTime since) {
+        return new FleetFilter(null, null, null, null, since, null);
+    }
+}
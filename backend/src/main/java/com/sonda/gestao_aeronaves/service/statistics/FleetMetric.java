@@ -0,0 +1,36 @@
+package com.sonda.gestao_aeronaves.service.statistics;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Values a fleet aggregation can compute for each group.
+ */
+public enum FleetMetric {
+    COUNT("count"),
+    MIN_YEAR("minYear"),
+    MAX_YEAR("maxYear");
+
+    private final String name;
+
+    FleetMetric(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the name is not a metric.
+     */
+    public static FleetMetric fromName(String name) {
+        for (FleetMetric metric : values()) {
+            if (metric.name.equals(name)) {
+                return metric;
+            }
+        }
+        throw new IllegalArgumentException("Métrica inválida: " + name + ". Use: "
+                + Arrays.stream(values()).map(FleetMetric::getName).collect(Collectors.joining(", ")) + ".");
+    }
+}
@@ -0,0 +1,1012 @@
+package com.sonda.gestao_aeronaves.service.statistics;
+
+import com.sonda.gestao_aeronaves.domain.Brand;
+import com.sonda.gestao_aeronaves.persistence.projection.AircraftFacts;
+import com.sonda.gestao_aeronaves.persistence.projection.FleetRevision;
+import com.sonda.gestao_aeronaves.persistence.repository.AircraftRepository;
+import com.sonda.gestao_aeronaves.service.event.AircraftChangedEvent;
+import com.sonda.gestao_aeronaves.web.dto.AircraftDTO;
+import com.sonda.gestao_aeronaves.web.dto.FleetAggregationDTO;
+import com.sonda.gestao_aeronaves.web.dto.FleetGroupDTO;
+import com.sonda.gestao_aeronaves.web.dto.FleetGroupingDTO;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Column-oriented copy of the fleet facts used by statistics: one slot per aircraft in
+ * parallel primitive arrays ({@code int} year, {@code byte} brand ordinal, {@code long}
+ * creation time) and bitsets for {@code sold} and for live slots, about 21 bytes per
+ * aircraft and no object per row.
+ * <p>
+ * Queries take a {@link FleetFilter} and count the matching slots, optionally grouped
+ * by brand, year, decade or sold status. A scan works a column at a time on blocks of
+ * 64 slots, turning each predicate into a bit mask that is ANDed with the live and sold
+ * bitsets, so plain counts are a popcount and a filter on {@code sold} alone reads only
+ * the bitsets.
+ * <p>
+ * {@link #aggregate} groups by any {@link FleetDimension}s and answers every grouping set
+ * in the same pass. Each set maps its groups to a dense range of counters (the product of
+ * the ranges of its dimensions); when the sets would need more than {@value #MAX_GROUPS}
+ * counters in total it declines, and the caller asks the database instead.
+ * <p>
+ * Scans are fork/join tasks on a dedicated pool of {@code aircraft.statistics.parallelism}
+ * threads (one per core by default), split down to chunks of {@value #CHUNK} slots. Every
+ * thread accumulates into its own primitive arrays, which are merged once the scan ends,
+ * so no counter is shared between threads.
+ * <p>
+ * Built at startup and kept current from committed {@link AircraftChangedEvent}s. An
+ * update overwrites the slot in place; a delete only clears its live bit, and dead slots
+ * are reclaimed when the snapshot is compacted.
+ * <p>
+ * A periodic reconciliation rebuilds the columns from the database and logs any drift it
+ * corrects. Changes committed while the rows are being read are replayed on top of the
+ * rebuilt columns; replay is safe because every change is applied as the full state of
+ * one aircraft, not as a delta.
+ * <p>
+ * The snapshot also keeps the fleet revision (row count and latest {@code updated}), so
+ * conditional requests on the fleet are answered without a query, and the
+ * {@link FleetCounters} behind {@link FleetStatistics}, adjusted on every slot write so
+ * the fixed statistics endpoints never scan.
+ */
+@Slf4j
+@Component
+public class FleetSnapshot implements DisposableBean {
+
+    static final int CHUNK = 1 << 16;
+    static final int MAX_GROUPS = 1 << 18;
+
+    private static final int COMPACTION_MIN_DEAD = 1024;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final Brand[] BRANDS = Brand.values();
+    /** Creation time of rows without one; no {@code createdFrom} matches it. */
+    private static final long NO_TIMESTAMP = Long.MIN_VALUE;
+    private static final long MICROS_PER_DAY = 86_400_000_000L;
+    /** Longest creation range, in days, whose day-to-bucket table is built for a scan. */
+    private static final int MAX_DAY_TABLE = 1 << 20;
+
+    private final AircraftRepository repository;
+    private final PlatformTransactionManager transactionManager;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ForkJoinPool pool;
+
+    private Columns columns = new Columns(INITIAL_CAPACITY);
+    /** Changes committed during a rebuild, to replay on the rebuilt columns; guarded by the write lock. */
+    private List<AircraftChangedEvent> pending;
+    private volatile boolean ready;
+
+    public FleetSnapshot(AircraftRepository repository, PlatformTransactionManager transactionManager,
+            @Value("${aircraft.statistics.parallelism:0}") int parallelism) {
+        this.repository = repository;
+        this.transactionManager = transactionManager;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+        ready = true;
+        lock.readLock().lock();
+        try {
+            log.info("Fleet snapshot built with {} aircraft in {} KB", columns.size, columns.bytes() / 1024);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${aircraft.statistics.reconcile-interval:PT5M}",
+            initialDelayString = "${aircraft.statistics.reconcile-interval:PT5M}")
+    public void reconcile() {
+        FleetCounters previous = rebuild().counters;
+        FleetCounters current = readCounters(counters -> counters);
+        if (!previous.sameAs(current)) {
+            log.warn("Fleet snapshot drift corrected: total {} -> {}, unsold {} -> {}",
+                    previous.total(), current.total(), previous.unsold(), current.unsold());
+        }
+    }
+
+    /**
+     * Runs before the other listeners, so the change feed publishes statistics that
+     * already include the change.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAircraftChanged(AircraftChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            apply(columns, event);
+            if (pending != null) {
+                pending.add(event);
+            }
+            if (columns.dead >= COMPACTION_MIN_DEAD && columns.dead * 3 > columns.size) {
+                columns = columns.compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return Row count and latest modification of the fleet, in the form of
+     *         {@link com.sonda.gestao_aeronaves.persistence.repository.AircraftRepository#findFleetRevision()}.
+     */
+    public FleetRevision getRevision() {
+        lock.readLock().lock();
+        try {
+            return new Revision((long) (columns.size - columns.dead), columns.lastUpdated);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long count(FleetFilter filter) {
+        Query query = new Query(filter);
+        lock.readLock().lock();
+        try {
+            if (query.soldOnly()) {
+                return columns.countBits(query.sold);
+            }
+            return scan(columns, query, CountBy.NONE, 1)[0];
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Map<Brand, Long> countByBrand(FleetFilter filter) {
+        long[] counts = group(filter, CountBy.BRAND);
+        Map<Brand, Long> byBrand = new EnumMap<>(Brand.class);
+        for (int ordinal = 0; ordinal < BRANDS.length; ordinal++) {
+            if (counts[ordinal] > 0) {
+                byBrand.put(BRANDS[ordinal], counts[ordinal]);
+            }
+        }
+        return byBrand;
+    }
+
+    public Map<Boolean, Long> countBySold(FleetFilter filter) {
+        long[] counts = group(filter, CountBy.SOLD);
+        Map<Boolean, Long> bySold = new TreeMap<>();
+        if (counts[1] > 0) {
+            bySold.put(true, counts[1]);
+        }
+        if (counts[0] > 0) {
+            bySold.put(false, counts[0]);
+        }
+        return bySold;
+    }
+
+    public Map<Integer, Long> countByYear(FleetFilter filter) {
+        Map<Integer, Long> byYear = new TreeMap<>();
+        forEachYear(filter, (year, count) -> byYear.put(year, count));
+        return byYear;
+    }
+
+    public Map<Integer, Long> countByDecade(FleetFilter filter) {
+        Map<Integer, Long> byDecade = new TreeMap<>();
+        forEachYear(filter, (year, count) -> byDecade.merge(Math.floorDiv(year, 10) * 10, count, Long::sum));
+        return byDecade;
+    }
+
+    /**
+     * Groups the aircraft matching the filter once per grouping set of the aggregation.
+     *
+     * @return The groups, or empty when the grouping sets have too many possible groups
+     *         to be counted in memory.
+     */
+    public Optional<FleetAggregationDTO> aggregate(FleetAggregation aggregation) {
+        Query query = new Query(aggregation.getFilter());
+        List<GroupingKey> sets = new ArrayList<>();
+        Accumulator total;
+        lock.readLock().lock();
+        try {
+            Columns current = columns;
+            long groups = 0;
+            for (List<FleetDimension> grouping : aggregation.getGroupings()) {
+                GroupingKey set = new GroupingKey(current, grouping, (int) groups);
+                groups += set.groups;
+                if (groups > MAX_GROUPS) {
+                    return Optional.empty();
+                }
+                sets.add(set);
+            }
+            int size = (int) groups;
+            GroupingKey[] keys = sets.toArray(GroupingKey[]::new);
+            PerThread<Accumulator> accumulators = new PerThread<>(() -> new Accumulator(size));
+            run(current.size, (from, to) -> current.aggregate(query, keys, accumulators.get(), from, to));
+            total = accumulators.merge(Accumulator::merge);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return Optional.of(toDTO(sets, total, aggregation.getMetrics()));
+    }
+
+    /** Reads the counters of the current columns, which a rebuild may swap. */
+    <T> T readCounters(Function<FleetCounters, T> reader) {
+        lock.readLock().lock();
+        try {
+            return reader.apply(columns.counters);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        pool.shutdown();
+    }
+
+    /** Years are counted first and folded into decades afterwards, so the scan does no division. */
+    private void forEachYear(FleetFilter filter, YearCount consumer) {
+        long[] counts;
+        int minYear;
+        Query query = new Query(filter);
+        lock.readLock().lock();
+        try {
+            Columns current = columns;
+            minYear = current.minYear;
+            counts = current.size == 0 ? new long[0]
+                    : scan(current, query, CountBy.YEAR, current.maxYear - current.minYear + 1);
+        } finally {
+            lock.readLock().unlock();
+        }
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                consumer.accept(minYear + i, counts[i]);
+            }
+        }
+    }
+
+    private long[] group(FleetFilter filter, CountBy countBy) {
+        Query query = new Query(filter);
+        lock.readLock().lock();
+        try {
+            return scan(columns, query, countBy, countBy == CountBy.SOLD ? 2 : BRANDS.length);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Loads the columns from the database and swaps them in. Writers do not wait for the
+     * load: the changes they commit meanwhile are replayed on the loaded columns.
+     *
+     * @return The columns that were replaced.
+     */
+    private Columns rebuild() {
+        lock.writeLock().lock();
+        try {
+            pending = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        Columns loaded;
+        try {
+            loaded = load();
+        } catch (RuntimeException ex) {
+            lock.writeLock().lock();
+            try {
+                pending = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw ex;
+        }
+        lock.writeLock().lock();
+        try {
+            pending.forEach(event -> apply(loaded, event));
+            pending = null;
+            Columns previous = columns;
+            columns = loaded;
+            return previous;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Columns load() {
+        Columns loaded = new Columns(INITIAL_CAPACITY);
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        template.executeWithoutResult(status -> {
+            try (Stream<AircraftFacts> rows = repository.streamFacts()) {
+                rows.forEach(row -> {
+                    loaded.upsert(row.getId(), row.getBrand(), row.getYear(), row.getSold(), row.getCreated());
+                    loaded.touch(row.getUpdated());
+                });
+            }
+        });
+        return loaded;
+    }
+
+    private static void apply(Columns target, AircraftChangedEvent event) {
+        if (event.getType() == AircraftChangedEvent.Type.DELETED) {
+            target.delete(event.getId());
+        } else {
+            AircraftDTO dto = event.getAircraft();
+            target.upsert(dto.getId(), dto.getBrand(), dto.getYear(), dto.isSold(), dto.getCreated());
+            target.touch(dto.getUpdated());
+        }
+    }
+
+    /** Counts the matching slots per bucket. Callers hold the read lock for the whole scan. */
+    private long[] scan(Columns columns, Query query, CountBy countBy, int buckets) {
+        PerThread<long[]> counts = new PerThread<>(() -> new long[buckets]);
+        run(columns.size, (from, to) -> columns.count(query, countBy, counts.get(), from, to));
+        return counts.merge((left, right) -> {
+            for (int i = 0; i < left.length; i++) {
+                left[i] += right[i];
+            }
+            return left;
+        });
+    }
+
+    /**
+     * Runs a scan over {@code [0, size)}, on the calling thread when it fits in one chunk.
+     * The pool threads see the arrays through the happens-before edge of submitting the
+     * task, and the caller sees their accumulators through the one of joining it.
+     */
+    private void run(int size, RangeScan scan) {
+        if (size <= CHUNK) {
+            scan.scan(0, size);
+        } else {
+            pool.invoke(new ScanTask(scan, 0, size));
+        }
+    }
+
+    private static FleetAggregationDTO toDTO(List<GroupingKey> sets, Accumulator total, Set<FleetMetric> metrics) {
+        List<FleetGroupingDTO> groupings = new ArrayList<>();
+        for (GroupingKey set : sets) {
+            List<FleetGroupDTO> groups = new ArrayList<>();
+            for (int group = 0; group < set.groups; group++) {
+                int slot = set.offset + group;
+                if (total.counts[slot] == 0) {
+                    continue;
+                }
+                Map<String, Object> key = new LinkedHashMap<>();
+                for (DimensionKey dimension : set.dimensions) {
+                    key.put(dimension.dimension.getName(), dimension.value(group / dimension.stride % dimension.size));
+                }
+                groups.add(new FleetGroupDTO(key,
+                        metrics.contains(FleetMetric.COUNT) ? total.counts[slot] : null,
+                        metrics.contains(FleetMetric.MIN_YEAR) ? total.minYears[slot] : null,
+                        metrics.contains(FleetMetric.MAX_YEAR) ? total.maxYears[slot] : null));
+            }
+            groupings.add(new FleetGroupingDTO(
+                    set.grouping.stream().map(FleetDimension::getName).toList(), groups));
+        }
+        return new FleetAggregationDTO(groupings);
+    }
+
+    /** Local date-times encoded as microseconds on the UTC timeline, which keeps their order. */
+    private static long epochMicros(LocalDateTime value) {
+        return value.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + value.getNano() / 1_000;
+    }
+
+    private static boolean bit(long[] bits, int index) {
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    private static void setBit(long[] bits, int index, boolean value) {
+        if (value) {
+            bits[index >>> 6] |= 1L << index;
+        } else {
+            bits[index >>> 6] &= ~(1L << index);
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static final class Revision implements FleetRevision {
+        private final Long total;
+        private final LocalDateTime lastUpdated;
+    }
+
+    @FunctionalInterface
+    private interface YearCount {
+        void accept(int year, long count);
+    }
+
+    @FunctionalInterface
+    private interface RangeScan {
+        /** Scans {@code [from, to)}, where {@code from} is a multiple of 64. */
+        void scan(int from, int to);
+    }
+
+    private enum CountBy {
+        NONE,
+        BRAND,
+        YEAR,
+        SOLD
+    }
+
+    /** A {@link FleetFilter} in the encoding of the columns; absent bounds never exclude. */
+    private static final class Query {
+        private final int brand;
+        private final int sold;
+        private final int yearFrom;
+        private final int yearTo;
+        private final long createdFrom;
+        private final long createdTo;
+
+        Query(FleetFilter filter) {
+            brand = filter.getBrand() != null ? filter.getBrand().ordinal() : -1;
+            sold = filter.getSold() == null ? -1 : filter.getSold() ? 1 : 0;
+            yearFrom = filter.getYearFrom() != null ? filter.getYearFrom() : Integer.MIN_VALUE;
+            yearTo = filter.getYearTo() != null ? filter.getYearTo() : Integer.MAX_VALUE;
+            createdFrom = filter.getCreatedFrom() != null ? epochMicros(filter.getCreatedFrom()) : Long.MIN_VALUE;
+            createdTo = filter.getCreatedTo() != null ? epochMicros(filter.getCreatedTo()) : Long.MAX_VALUE;
+        }
+
+        boolean filtersYear() {
+            return yearFrom != Integer.MIN_VALUE || yearTo != Integer.MAX_VALUE;
+        }
+
+        boolean filtersCreated() {
+            return createdFrom != Long.MIN_VALUE || createdTo != Long.MAX_VALUE;
+        }
+
+        boolean soldOnly() {
+            return brand < 0 && !filtersYear() && !filtersCreated();
+        }
+    }
+
+    private static final class Columns {
+        private long[] ids;
+        private int[] years;
+        private byte[] brands;
+        private long[] created;
+        private long[] sold;
+        private long[] live;
+        private final SlotMap slots;
+        private final FleetCounters counters;
+        private int size;
+        private int dead;
+        private int minYear = Integer.MAX_VALUE;
+        private int maxYear = Integer.MIN_VALUE;
+        private long minCreated = Long.MAX_VALUE;
+        private long maxCreated = Long.MIN_VALUE;
+        /** Latest {@code updated} seen; a delete leaves it as is, the row count changes instead. */
+        private LocalDateTime lastUpdated;
+
+        /** The capacity is rounded up to whole words, so a scan can always read 64 rows. */
+        Columns(int requested) {
+            this(requested, new FleetCounters());
+        }
+
+        private Columns(int requested, FleetCounters counters) {
+            this.counters = counters;
+            int capacity = words(requested) << 6;
+            ids = new long[capacity];
+            years = new int[capacity];
+            brands = new byte[capacity];
+            created = new long[capacity];
+            sold = new long[words(capacity)];
+            live = new long[words(capacity)];
+            slots = new SlotMap(capacity);
+        }
+
+        /**
+         * Keeps the creation time already known when the new state does not carry one. The
+         * counters drop the previous state of a live slot before they count the new one.
+         */
+        void upsert(long id, Brand brand, int year, boolean isSold, LocalDateTime createdAt) {
+            int slot = slots.get(id);
+            if (slot < 0) {
+                if (size == ids.length) {
+                    grow();
+                }
+                slot = size++;
+                slots.put(id, slot);
+                ids[slot] = id;
+                created[slot] = NO_TIMESTAMP;
+            } else if (!bit(live, slot)) {
+                dead--;
+                created[slot] = NO_TIMESTAMP;
+            } else {
+                counters.remove(BRANDS[brands[slot]], years[slot], bit(sold, slot), created[slot]);
+            }
+            years[slot] = year;
+            brands[slot] = (byte) brand.ordinal();
+            if (createdAt != null) {
+                created[slot] = epochMicros(createdAt);
+                minCreated = Math.min(minCreated, created[slot]);
+                maxCreated = Math.max(maxCreated, created[slot]);
+            }
+            setBit(sold, slot, isSold);
+            setBit(live, slot, true);
+            minYear = Math.min(minYear, year);
+            maxYear = Math.max(maxYear, year);
+            counters.add(brand, year, isSold, created[slot]);
+        }
+
+        void delete(long id) {
+            int slot = slots.get(id);
+            if (slot >= 0 && bit(live, slot)) {
+                setBit(live, slot, false);
+                dead++;
+                counters.remove(BRANDS[brands[slot]], years[slot], bit(sold, slot), created[slot]);
+            }
+        }
+
+        void touch(LocalDateTime updated) {
+            if (updated != null && (lastUpdated == null || updated.isAfter(lastUpdated))) {
+                lastUpdated = updated;
+            }
+        }
+
+        /** The counters only see live slots, so the compacted columns share them. */
+        Columns compact() {
+            Columns compacted = new Columns(Math.max(INITIAL_CAPACITY, size - dead), counters);
+            compacted.lastUpdated = lastUpdated;
+            for (int slot = 0; slot < size; slot++) {
+                if (bit(live, slot)) {
+                    int target = compacted.size++;
+                    compacted.slots.put(ids[slot], target);
+                    compacted.ids[target] = ids[slot];
+                    compacted.years[target] = years[slot];
+                    compacted.brands[target] = brands[slot];
+                    compacted.created[target] = created[slot];
+                    setBit(compacted.sold, target, bit(sold, slot));
+                    setBit(compacted.live, target, true);
+                    compacted.minYear = Math.min(compacted.minYear, years[slot]);
+                    compacted.maxYear = Math.max(compacted.maxYear, years[slot]);
+                    if (created[slot] != NO_TIMESTAMP) {
+                        compacted.minCreated = Math.min(compacted.minCreated, created[slot]);
+                        compacted.maxCreated = Math.max(compacted.maxCreated, created[slot]);
+                    }
+                }
+            }
+            return compacted;
+        }
+
+        /** Counts live slots by sold status, 64 at a time; {@code -1} counts all of them. */
+        long countBits(int soldValue) {
+            long count = 0;
+            for (int word = 0; word < words(size); word++) {
+                long bits = live[word];
+                if (soldValue == 1) {
+                    bits &= sold[word];
+                } else if (soldValue == 0) {
+                    bits &= ~sold[word];
+                }
+                count += Long.bitCount(bits);
+            }
+            return count;
+        }
+
+        /**
+         * Counts the matching rows of {@code [from, to)} into {@code counts}, where {@code from}
+         * is a multiple of 64.
+         */
+        void count(Query query, CountBy countBy, long[] counts, int from, int to) {
+            for (int word = from >>> 6; word < words(to); word++) {
+                long mask = matches(query, word);
+                int base = word << 6;
+                switch (countBy) {
+                    case NONE -> counts[0] += Long.bitCount(mask);
+                    case SOLD -> {
+                        counts[1] += Long.bitCount(mask & sold[word]);
+                        counts[0] += Long.bitCount(mask & ~sold[word]);
+                    }
+                    case BRAND -> {
+                        if (mask == -1L) {
+                            for (int row = base; row < base + 64; row++) {
+                                counts[brands[row]]++;
+                            }
+                        } else {
+                            for (long bits = mask; bits != 0; bits &= bits - 1) {
+                                counts[brands[base + Long.numberOfTrailingZeros(bits)]]++;
+                            }
+                        }
+                    }
+                    case YEAR -> {
+                        if (mask == -1L) {
+                            for (int row = base; row < base + 64; row++) {
+                                counts[years[row] - minYear]++;
+                            }
+                        } else {
+                            for (long bits = mask; bits != 0; bits &= bits - 1) {
+                                counts[years[base + Long.numberOfTrailingZeros(bits)] - minYear]++;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        /** Adds the matching rows of {@code [from, to)} to their group in every grouping set. */
+        void aggregate(Query query, GroupingKey[] sets, Accumulator accumulator, int from, int to) {
+            for (int word = from >>> 6; word < words(to); word++) {
+                int base = word << 6;
+                for (long bits = matches(query, word); bits != 0; bits &= bits - 1) {
+                    int row = base + Long.numberOfTrailingZeros(bits);
+                    boolean isSold = (sold[word] & (bits & -bits)) != 0;
+                    for (GroupingKey set : sets) {
+                        accumulator.add(set.slot(this, row, isSold), years[row]);
+                    }
+                }
+            }
+        }
+
+        /**
+         * The live rows of a 64-row word that match the query. Each predicate is evaluated
+         * over one column for the 64 rows into a bit mask, without branching per row.
+         */
+        private long matches(Query query, int word) {
+            long mask = live[word];
+            if (query.sold == 1) {
+                mask &= sold[word];
+            } else if (query.sold == 0) {
+                mask &= ~sold[word];
+            }
+            int base = word << 6;
+            if (mask != 0 && query.brand >= 0) {
+                mask &= brandMask(base, (byte) query.brand);
+            }
+            if (mask != 0 && query.filtersYear()) {
+                mask &= yearMask(base, query.yearFrom, query.yearTo);
+            }
+            if (mask != 0 && query.filtersCreated()) {
+                mask &= createdMask(base, query.createdFrom, query.createdTo);
+            }
+            return mask;
+        }
+
+        private long brandMask(int base, byte brand) {
+            long mask = 0;
+            for (int i = 0; i < 64; i++) {
+                mask |= (brands[base + i] == brand ? 1L : 0L) << i;
+            }
+            return mask;
+        }
+
+        private long yearMask(int base, int from, int to) {
+            long mask = 0;
+            for (int i = 0; i < 64; i++) {
+                int year = years[base + i];
+                mask |= (year >= from & year <= to ? 1L : 0L) << i;
+            }
+            return mask;
+        }
+
+        private long createdMask(int base, long from, long to) {
+            long mask = 0;
+            for (int i = 0; i < 64; i++) {
+                long value = created[base + i];
+                mask |= (value >= from & value < to ? 1L : 0L) << i;
+            }
+            return mask;
+        }
+
+        long bytes() {
+            return 8L * ids.length + 4L * years.length + brands.length + 8L * created.length
+                    + 8L * (sold.length + live.length) + slots.bytes();
+        }
+
+        private void grow() {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            years = Arrays.copyOf(years, capacity);
+            brands = Arrays.copyOf(brands, capacity);
+            created = Arrays.copyOf(created, capacity);
+            sold = Arrays.copyOf(sold, words(capacity));
+            live = Arrays.copyOf(live, words(capacity));
+        }
+
+        private static int words(int bits) {
+            return (bits + 63) >>> 6;
+        }
+    }
+
+    /**
+     * Splits a scan in halves on word boundaries until each part fits in a chunk. The
+     * pool steals the halves, so idle threads take work from busy ones.
+     */
+    private static final class ScanTask extends RecursiveAction {
+        private final RangeScan scan;
+        private final int from;
+        private final int to;
+
+        ScanTask(RangeScan scan, int from, int to) {
+            this.scan = scan;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK) {
+                scan.scan(from, to);
+                return;
+            }
+            int middle = ((from + to) >>> 1) & ~63;
+            invokeAll(new ScanTask(scan, from, middle), new ScanTask(scan, middle, to));
+        }
+    }
+
+    /**
+     * One accumulator per thread taking part in a scan, created on first use, so the
+     * threads never write to shared counters. {@link #merge} is called after the scan joined.
+     */
+    private static final class PerThread<A> {
+        private final Map<Thread, A> values = new ConcurrentHashMap<>();
+        private final Supplier<A> initial;
+
+        PerThread(Supplier<A> initial) {
+            this.initial = initial;
+        }
+
+        A get() {
+            return values.computeIfAbsent(Thread.currentThread(), thread -> initial.get());
+        }
+
+        A merge(BinaryOperator<A> merger) {
+            return values.values().stream().reduce(merger).orElseGet(initial);
+        }
+    }
+
+    /** Count, minimum and maximum year of every group of every grouping set. */
+    private static final class Accumulator {
+        private final long[] counts;
+        private final int[] minYears;
+        private final int[] maxYears;
+
+        Accumulator(int groups) {
+            counts = new long[groups];
+            minYears = new int[groups];
+            maxYears = new int[groups];
+            Arrays.fill(minYears, Integer.MAX_VALUE);
+            Arrays.fill(maxYears, Integer.MIN_VALUE);
+        }
+
+        void add(int slot, int year) {
+            counts[slot]++;
+            minYears[slot] = Math.min(minYears[slot], year);
+            maxYears[slot] = Math.max(maxYears[slot], year);
+        }
+
+        Accumulator merge(Accumulator other) {
+            for (int slot = 0; slot < counts.length; slot++) {
+                counts[slot] += other.counts[slot];
+                minYears[slot] = Math.min(minYears[slot], other.minYears[slot]);
+                maxYears[slot] = Math.max(maxYears[slot], other.maxYears[slot]);
+            }
+            return this;
+        }
+    }
+
+    /**
+     * Maps a row to its counter for one grouping set: the dimension indexes are combined
+     * as a mixed-radix number, the first dimension most significant, and shifted by the
+     * offset of the set among all counters.
+     */
+    private static final class GroupingKey {
+        private final List<FleetDimension> grouping;
+        private final DimensionKey[] dimensions;
+        private final int offset;
+        private final long groups;
+
+        GroupingKey(Columns columns, List<FleetDimension> grouping, int offset) {
+            this.grouping = grouping;
+            this.offset = offset;
+            this.dimensions = new DimensionKey[grouping.size()];
+            long stride = 1;
+            for (int i = grouping.size() - 1; i >= 0; i--) {
+                DimensionKey dimension = new DimensionKey(columns, grouping.get(i), stride);
+                dimensions[i] = dimension;
+                stride = Math.min(stride * dimension.size, (long) MAX_GROUPS + 1);
+            }
+            this.groups = stride;
+        }
+
+        int slot(Columns columns, int row, boolean isSold) {
+            int slot = offset;
+            for (DimensionKey dimension : dimensions) {
+                slot += dimension.index(columns, row, isSold) * dimension.stride;
+            }
+            return slot;
+        }
+    }
+
+    /**
+     * Dense index of one dimension over the range present in the columns. Creation buckets
+     * keep a last index for rows whose creation time is unknown, reported as a null key,
+     * and are looked up per day in a table built once per scan, so rows only pay for one
+     * division instead of a calendar conversion.
+     */
+    private static final class DimensionKey {
+        private final FleetDimension dimension;
+        private final int stride;
+        private final long first;
+        private final int size;
+        private final long firstDay;
+        private final int[] byDay;
+
+        DimensionKey(Columns columns, FleetDimension dimension, long stride) {
+            this.dimension = dimension;
+            this.stride = (int) Math.min(stride, MAX_GROUPS + 1);
+            boolean empty = columns.minYear > columns.maxYear;
+            boolean noCreated = columns.minCreated > columns.maxCreated;
+            long lastDay = noCreated ? 0 : Math.floorDiv(columns.maxCreated, MICROS_PER_DAY);
+            firstDay = noCreated ? 0 : Math.floorDiv(columns.minCreated, MICROS_PER_DAY);
+            switch (dimension) {
+                case BRAND -> {
+                    first = 0;
+                    size = BRANDS.length;
+                }
+                case SOLD -> {
+                    first = 0;
+                    size = 2;
+                }
+                case YEAR -> {
+                    first = columns.minYear;
+                    size = empty ? 1 : range(first, columns.maxYear);
+                }
+                case DECADE -> {
+                    first = Math.floorDiv(columns.minYear, 10);
+                    size = empty ? 1 : range(first, Math.floorDiv(columns.maxYear, 10));
+                }
+                default -> {
+                    first = noCreated ? 0 : bucket(dimension, columns.minCreated);
+                    size = noCreated ? 1 : range(first, bucket(dimension, columns.maxCreated)) + 1;
+                }
+            }
+            boolean createdBucket = dimension == FleetDimension.CREATED_DAY
+                    || dimension == FleetDimension.CREATED_WEEK || dimension == FleetDimension.CREATED_MONTH;
+            if (createdBucket && !noCreated && lastDay - firstDay < MAX_DAY_TABLE && size <= MAX_GROUPS) {
+                byDay = new int[(int) (lastDay - firstDay + 1)];
+                for (int day = 0; day < byDay.length; day++) {
+                    byDay[day] = (int) (bucket(dimension, (firstDay + day) * MICROS_PER_DAY) - first);
+                }
+            } else {
+                byDay = null;
+            }
+        }
+
+        int index(Columns columns, int row, boolean isSold) {
+            return switch (dimension) {
+                case BRAND -> columns.brands[row];
+                case SOLD -> isSold ? 1 : 0;
+                case YEAR -> (int) (columns.years[row] - first);
+                case DECADE -> (int) (Math.floorDiv(columns.years[row], 10) - first);
+                default -> columns.created[row] == NO_TIMESTAMP ? size - 1
+                        : byDay != null ? byDay[(int) (Math.floorDiv(columns.created[row], MICROS_PER_DAY) - firstDay)]
+                        : (int) (bucket(dimension, columns.created[row]) - first);
+            };
+        }
+
+        Object value(int index) {
+            return switch (dimension) {
+                case BRAND -> BRANDS[index];
+                case SOLD -> index == 1;
+                case YEAR -> (int) (first + index);
+                case DECADE -> (int) (first + index) * 10;
+                case CREATED_DAY -> index == size - 1 ? null : LocalDate.ofEpochDay(first + index);
+                case CREATED_WEEK -> index == size - 1 ? null : LocalDate.ofEpochDay((first + index) * 7 - 3);
+                case CREATED_MONTH -> index == size - 1 ? null
+                        : LocalDate.of((int) Math.floorDiv(first + index, 12), (int) Math.floorMod(first + index, 12) + 1, 1);
+            };
+        }
+
+        /** Bucket number of a creation time: epoch day, week starting on Monday or month. */
+        private static long bucket(FleetDimension dimension, long micros) {
+            long day = Math.floorDiv(micros, MICROS_PER_DAY);
+            return switch (dimension) {
+                case CREATED_DAY -> day;
+                case CREATED_WEEK -> Math.floorDiv(day + 3, 7);
+                default -> {
+                    LocalDate date = LocalDate.ofEpochDay(day);
+                    yield date.getYear() * 12L + date.getMonthValue() - 1;
+                }
+            };
+        }
+
+        /** Number of indexes from {@code first} to {@code last}, capped past {@link #MAX_GROUPS}. */
+        private static int range(long first, long last) {
+            return (int) Math.min(last - first + 1, MAX_GROUPS + 1);
+        }
+    }
+
+    /**
+     * Open-addressing map from aircraft ID to slot, with linear probing and no removal:
+     * a deleted aircraft keeps its dead slot until the next compaction rebuilds the map.
+     */
+    private static final class SlotMap {
+        private long[] keys;
+        private int[] values;
+        private int size;
+
+        SlotMap(int expected) {
+            int capacity = Integer.highestOneBit(Math.max(16, expected * 2) - 1) << 1;
+            keys = new long[capacity];
+            values = new int[capacity];
+            Arrays.fill(values, -1);
+        }
+
+        int get(long id) {
+            int mask = keys.length - 1;
+            for (int i = hash(id) & mask; values[i] >= 0; i = (i + 1) & mask) {
+                if (keys[i] == id) {
+                    return values[i];
+                }
+            }
+            return -1;
+        }
+
+        void put(long id, int slot) {
+            if (2 * (size + 1) > keys.length) {
+                rehash(keys.length * 2);
+            }
+            int mask = keys.length - 1;
+            int i = hash(id) & mask;
+            while (values[i] >= 0 && keys[i] != id) {
+                i = (i + 1) & mask;
+            }
+            if (values[i] < 0) {
+                size++;
+            }
+            keys[i] = id;
+            values[i] = slot;
+        }
+
+        long bytes() {
+            return 12L * keys.length;
+        }
+
+        private void rehash(int capacity) {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = new long[capacity];
+            values = new int[capacity];
+            Arrays.fill(values, -1);
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldValues[i] >= 0) {
+                    put(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+
+        private static int hash(long id) {
+            long h = id * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.sonda.gestao_aeronaves.service.statistics;
+
+import com.sonda.gestao_aeronaves.web.dto.FleetStatisticsDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Fleet statistics for the fixed endpoints (unsold count, creations of the last week,
+ * by decade and the overview), read from the incremental {@link FleetCounters} kept by
+ * {@link FleetSnapshot}. Every read costs the size of the answer, not of the fleet, so
+ * these endpoints and the change feed never scan the columns.
+ */
+@Component
+@RequiredArgsConstructor
+public class FleetStatistics {
+
+    private final FleetSnapshot snapshot;
+
+    public boolean isReady() {
+        return snapshot.isReady();
+    }
+
+    public long totalCount() {
+        return snapshot.readCounters(FleetCounters::total);
+    }
+
+    public long countUnsold() {
+        return snapshot.readCounters(FleetCounters::unsold);
+    }
+
+    /**
+     * @param since Start of the window; callers ask for the last week, which the counters
+     *              keep.
+     */
+    public long countCreatedSince(LocalDateTime since) {
+        return snapshot.readCounters(counters -> counters.countCreatedSince(since));
+    }
+
+    public Map<Integer, Long> countByDecade() {
+        return snapshot.readCounters(FleetCounters::byDecade);
+    }
+
+    public FleetStatisticsDTO getOverview() {
+        return snapshot.readCounters(FleetCounters::overview);
+    }
+}
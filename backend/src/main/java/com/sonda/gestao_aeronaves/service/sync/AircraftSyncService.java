@@ -0,0 +1,109 @@
+package com.sonda.gestao_aeronaves.service.sync;
+
+import com.sonda.gestao_aeronaves.mapper.AircraftMapper;
+import com.sonda.gestao_aeronaves.persistence.repository.AircraftRepository;
+import com.sonda.gestao_aeronaves.persistence.repository.AircraftTombstoneRepository;
+import com.sonda.gestao_aeronaves.web.dto.AircraftChangesDTO;
+import com.sonda.gestao_aeronaves.web.dto.AircraftDTO;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Delta sync for clients that keep a local copy of the fleet.
+ * <p>
+ * The token is a point in time: a sync returns the aircraft whose {@code updated} is
+ * after it and the tombstones written after it. The next token trails the clock by
+ * {@code aircraft.changes.safety-lag}, so changes committed a little after they were
+ * stamped are not skipped; they may be sent twice, and clients apply them as upserts.
+ * A token older than the tombstone retention cannot list every deletion, so the whole
+ * fleet is sent instead.
+ */
+@Slf4j
+@Service
+@Timed(value = "aircraft.service", histogram = true)
+public class AircraftSyncService {
+
+    private static final String TOKEN_PREFIX = "ts:";
+
+    private final AircraftRepository repository;
+    private final AircraftTombstoneRepository tombstones;
+    private final AircraftMapper mapper;
+    private final Duration safetyLag;
+    private final Duration tombstoneRetention;
+
+    public AircraftSyncService(AircraftRepository repository, AircraftTombstoneRepository tombstones,
+            AircraftMapper mapper,
+            @Value("${aircraft.changes.safety-lag:5s}") Duration safetyLag,
+            @Value("${aircraft.changes.tombstone-retention:P30D}") Duration tombstoneRetention) {
+        this.repository = repository;
+        this.tombstones = tombstones;
+        this.mapper = mapper;
+        this.safetyLag = safetyLag;
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
+    /**
+     * Lists the changes since a previous sync.
+     *
+     * @param token Token returned by the previous sync, or null for the first one.
+     * @return Changed aircraft, deleted IDs and the token for the next sync.
+     * @throws IllegalArgumentException if the token is invalid.
+     */
+    @Transactional(readOnly = true)
+    public AircraftChangesDTO getChanges(String token) {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        LocalDateTime since = decodeToken(token);
+        LocalDateTime next = now.minus(safetyLag);
+        if (since == null || since.isBefore(now.minus(tombstoneRetention))) {
+            List<AircraftDTO> fleet = repository.findAll().stream().map(mapper::toDTO).toList();
+            return new AircraftChangesDTO(fleet, List.of(), true, encodeToken(next));
+        }
+        List<AircraftDTO> changed = repository.findUpdatedAfter(since).stream().map(mapper::toDTO).toList();
+        List<Long> deleted = tombstones.findIdsDeletedAfter(since);
+        return new AircraftChangesDTO(changed, deleted, false, encodeToken(next.isAfter(since) ? next : since));
+    }
+
+    /** Deletes tombstones past the retention; older tokens get a full sync. */
+    @Scheduled(fixedDelayString = "${aircraft.changes.purge-interval:PT1H}",
+            initialDelayString = "${aircraft.changes.purge-interval:PT1H}")
+    @Transactional
+    public void purgeTombstones() {
+        int deleted = tombstones.deleteOlderThan(LocalDateTime.now().minus(tombstoneRetention));
+        if (deleted > 0) {
+            log.info("Purged {} aircraft tombstones", deleted);
+        }
+    }
+
+    private String encodeToken(LocalDateTime timestamp) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((TOKEN_PREFIX + timestamp).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private LocalDateTime decodeToken(String token) {
+        if (!StringUtils.hasText(token)) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            if (decoded.startsWith(TOKEN_PREFIX)) {
+                return LocalDateTime.parse(decoded.substring(TOKEN_PREFIX.length()));
+            }
+        } catch (IllegalArgumentException | DateTimeParseException ignored) {
+            // fall through to the error below
+        }
+        throw new IllegalArgumentException("Token de sincronização inválido.");
+    }
+}
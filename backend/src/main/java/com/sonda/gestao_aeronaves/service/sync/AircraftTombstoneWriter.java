@@ -0,0 +1,30 @@
+package com.sonda.gestao_aeronaves.service.sync;
+
+import com.sonda.gestao_aeronaves.persistence.entity.AircraftTombstone;
+import com.sonda.gestao_aeronaves.service.event.AircraftChangedEvent;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * Leaves a tombstone for every deleted aircraft, in the transaction that deleted it.
+ * Aircraft IDs come from a sequence that the V2 migration starts past every existing
+ * ID, so they are never reused and the ID alone identifies the tombstone.
+ */
+@Component
+@RequiredArgsConstructor
+public class AircraftTombstoneWriter {
+
+    private final EntityManager entityManager;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onAircraftChanged(AircraftChangedEvent event) {
+        if (event.getType() == AircraftChangedEvent.Type.DELETED) {
+            entityManager.persist(new AircraftTombstone(event.getId(), LocalDateTime.now()));
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.sonda.gestao_aeronaves.web.controller;
+
+import com.sonda.gestao_aeronaves.service.batch.AircraftBatchService;
+import com.sonda.gestao_aeronaves.web.dto.AircraftDTO;
+import com.sonda.gestao_aeronaves.web.dto.BatchResultDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST Controller for bulk operations on Aircraft resources.
+ * Items are validated individually and the response reports the outcome of each one.
+ */
+@RestController
+@RequestMapping("/aeronaves/batch")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class AircraftBatchController {
+
+    private final AircraftBatchService service;
+
+    /**
+     * Creates aircraft in bulk.
+     * 
+     * @param items The aircraft to create.
+     * @return Outcome of every item.
+     */
+    @PostMapping
+    public ResponseEntity<BatchResultDTO> createAll(@RequestBody List<AircraftDTO> items) {
+        return ResponseEntity.ok(service.createAll(items));
+    }
+
+    /**
+     * Updates aircraft in bulk. Every item must carry its ID.
+     * 
+     * @param items The new data.
+     * @return Outcome of every item.
+     */
+    @PutMapping
+    public ResponseEntity<BatchResultDTO> updateAll(@RequestBody List<AircraftDTO> items) {
+        return ResponseEntity.ok(service.updateAll(items));
+    }
+
+    /**
+     * Deletes aircraft in bulk.
+     * 
+     * @param ids The IDs of the aircraft to delete.
+     * @return Outcome of every item.
+     */
+    @DeleteMapping
+    public ResponseEntity<BatchResultDTO> deleteAll(@RequestBody List<Long> ids) {
+        return ResponseEntity.ok(service.deleteAll(ids));
+    }
+}
@@ -1,47 +1,125 @@
 package com.sonda.gestao_aeronaves.web.controller;
 
+import com.sonda.gestao_aeronaves.domain.Brand;
+import com.sonda.gestao_aeronaves.domain.exception.AircraftVersionMismatchException;
+import com.sonda.gestao_aeronaves.persistence.projection.FleetRevision;
 import com.sonda.gestao_aeronaves.web.dto.AircraftDTO;
+import com.sonda.gestao_aeronaves.web.dto.AircraftPatchDTO;
+import com.sonda.gestao_aeronaves.web.dto.AircraftSummaryDTO;
+import com.sonda.gestao_aeronaves.web.dto.CursorPageDTO;
+import com.sonda.gestao_aeronaves.web.dto.FleetAggregationDTO;
+import com.sonda.gestao_aeronaves.web.dto.FleetStatisticsDTO;
 import com.sonda.gestao_aeronaves.service.AircraftService;
+import com.sonda.gestao_aeronaves.service.statistics.FleetAggregation;
+import com.sonda.gestao_aeronaves.service.statistics.FleetFilter;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.SequenceWriter;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * REST Controller for managing Aircraft resources.
  * Provides endpoints for CRUD operations and statistics.
+ * <p>
+ * Single aircraft carry a strong ETag with their version: {@code If-None-Match} on GET
+ * answers 304, and {@code If-Match} on PUT, PATCH and DELETE answers 412 when the
+ * aircraft has changed since it was read. The list and the statistics carry a weak
+ * ETag and a Last-Modified derived from the row count and the latest update, checked
+ * before anything is loaded or serialized.
  */
 @RestController
 @RequestMapping("/aeronaves")
 @RequiredArgsConstructor
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = HttpHeaders.ETAG)
 public class AircraftController {
 
     private final AircraftService service;
+    private final JsonMapper jsonMapper;
 
     /**
      * Lists all aircraft.
+     * For large fleets prefer {@code /aeronaves/page} or {@code /aeronaves/stream}.
      * 
      * @return List of all aircraft DTOs.
      */
     @GetMapping
-    public ResponseEntity<List<AircraftDTO>> listAll() {
-        return ResponseEntity.ok(service.findAll());
+    public ResponseEntity<List<AircraftDTO>> listAll(WebRequest request) {
+        return fleetConditional(request, service::findAll);
     }
 
     /**
-     * Finds aircraft by a search term (ID, name, or brand).
+     * Lists all aircraft without their description, for list views.
+     * 
+     * @return List of all aircraft summaries.
+     */
+    @GetMapping("/summary")
+    public ResponseEntity<List<AircraftSummaryDTO>> listSummaries(WebRequest request) {
+        return fleetConditional(request, service::findAllSummaries);
+    }
+
+    /**
+     * Lists aircraft one page at a time, ordered by ID.
+     * 
+     * @param cursor Token returned as {@code nextCursor} by the previous page.
+     * @param size   Page size.
+     * @return Page of aircraft and the cursor of the next page.
+     */
+    @GetMapping("/page")
+    public ResponseEntity<CursorPageDTO<AircraftDTO>> listPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + AircraftService.DEFAULT_PAGE_SIZE) int size) {
+        return ResponseEntity.ok(service.findPage(cursor, size));
+    }
+
+    /**
+     * Streams all aircraft as newline-delimited JSON, one aircraft per line.
+     * 
+     * @return NDJSON body written as the rows are read from the database.
+     */
+    @GetMapping(value = "/stream", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> stream() {
+        StreamingResponseBody body = out -> {
+            try (SequenceWriter writer = jsonMapper.writer()
+                    .withRootValueSeparator("\n")
+                    .writeValues(out)) {
+                service.streamAll(writer::write);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
+    /**
+     * Finds aircraft by a search term (ID, name, description or brand), best match first.
      * 
      * @param term Search term.
+     * @param page Zero-based page of the ranked results.
+     * @param size Page size.
      * @return List of matching aircraft.
      */
     @GetMapping("/find")
-    public ResponseEntity<List<AircraftDTO>> findByTerm(@RequestParam(required = false) String term) {
-        return ResponseEntity.ok(service.findByTerm(term));
+    public ResponseEntity<List<AircraftDTO>> findByTerm(@RequestParam(required = false) String term,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "" + AircraftService.DEFAULT_PAGE_SIZE) int size) {
+        return ResponseEntity.ok(service.findByTerm(term, page, size));
     }
 
     /**
@@ -52,7 +130,11 @@ public class AircraftController {
      */
     @GetMapping("/{id}")
     public ResponseEntity<AircraftDTO> getById(@PathVariable Long id) {
-        return ResponseEntity.ok(service.findById(id));
+        AircraftDTO dto = service.findById(id);
+        return ResponseEntity.ok()
+                .eTag(eTag(dto))
+                .cacheControl(CacheControl.noCache())
+                .body(dto);
     }
 
     /**
@@ -69,24 +151,44 @@ public class AircraftController {
     /**
      * Updates an existing aircraft.
      * 
-     * @param id  The ID of the aircraft to update.
-     * @param dto The new data.
+     * @param id      The ID of the aircraft to update.
+     * @param dto     The new data.
+     * @param ifMatch Optional ETag the client last read.
      * @return The updated aircraft.
      */
     @PutMapping("/{id}")
-    public ResponseEntity<AircraftDTO> update(@PathVariable Long id, @Valid @RequestBody AircraftDTO dto) {
-        return ResponseEntity.ok(service.update(id, dto));
+    public ResponseEntity<AircraftDTO> update(@PathVariable Long id, @Valid @RequestBody AircraftDTO dto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        AircraftDTO updated = service.update(id, dto, expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(eTag(updated)).body(updated);
+    }
+
+    /**
+     * Partially updates an aircraft. Fields missing from the body are left unchanged.
+     * 
+     * @param id      The ID of the aircraft to update.
+     * @param patch   The fields to change.
+     * @param ifMatch Optional ETag the client last read.
+     * @return The updated aircraft.
+     */
+    @PatchMapping("/{id}")
+    public ResponseEntity<AircraftDTO> patch(@PathVariable Long id, @Valid @RequestBody AircraftPatchDTO patch,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        AircraftDTO updated = service.patch(id, patch, expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(eTag(updated)).body(updated);
     }
 
     /**
      * Deletes an aircraft by ID.
      * 
-     * @param id The ID of the aircraft to delete.
+     * @param id      The ID of the aircraft to delete.
+     * @param ifMatch Optional ETag the client last read.
      * @return No content.
      */
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> delete(@PathVariable Long id) {
-        service.delete(id);
+    public ResponseEntity<Void> delete(@PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        service.delete(id, expectedVersion(ifMatch));
         return ResponseEntity.noContent().build();
     }
 
@@ -96,8 +198,8 @@ public class AircraftController {
      * @return Count of available aircraft.
      */
     @GetMapping("/statistics/unsold")
-    public ResponseEntity<Long> countUnsold() {
-        return ResponseEntity.ok(service.countUnsold());
+    public ResponseEntity<Long> countUnsold(WebRequest request) {
+        return fleetConditional(request, service::countUnsold);
     }
 
     /**
@@ -106,8 +208,58 @@ public class AircraftController {
      * @return Map of decade -> count.
      */
     @GetMapping("/statistics/by-decade")
-    public ResponseEntity<Map<Integer, Long>> listByDecade() {
-        return ResponseEntity.ok(service.listByDecade());
+    public ResponseEntity<Map<Integer, Long>> listByDecade(WebRequest request) {
+        return fleetConditional(request, service::listByDecade);
+    }
+
+    /**
+     * Counts the aircraft matching the given filters; absent filters match every aircraft.
+     * The year range includes both ends, the creation range excludes {@code createdTo}.
+     * 
+     * @return Count of matching aircraft.
+     */
+    @GetMapping("/statistics/count")
+    public ResponseEntity<Long> count(WebRequest request,
+            @RequestParam(required = false) Brand brand,
+            @RequestParam(required = false) Boolean sold,
+            @RequestParam(required = false) Integer yearFrom,
+            @RequestParam(required = false) Integer yearTo,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo) {
+        FleetFilter filter = new FleetFilter(brand, sold, yearFrom, yearTo, createdFrom, createdTo);
+        return fleetConditional(request, () -> service.count(filter));
+    }
+
+    /**
+     * Groups the aircraft matching the given filters once per {@code groupBy} value, like
+     * SQL grouping sets. Each value lists dimensions separated by commas, e.g.
+     * {@code groupBy=brand,decade&groupBy=sold}; {@code metrics} picks among count, minYear
+     * and maxYear, all of them by default.
+     * 
+     * @return Groups of every grouping set.
+     */
+    @GetMapping("/statistics/aggregate")
+    public ResponseEntity<FleetAggregationDTO> aggregate(WebRequest request,
+            @RequestParam(required = false) String metrics,
+            @RequestParam(required = false) Brand brand,
+            @RequestParam(required = false) Boolean sold,
+            @RequestParam(required = false) Integer yearFrom,
+            @RequestParam(required = false) Integer yearTo,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo) {
+        FleetFilter filter = new FleetFilter(brand, sold, yearFrom, yearTo, createdFrom, createdTo);
+        FleetAggregation aggregation = FleetAggregation.parse(request.getParameterValues("groupBy"), metrics, filter);
+        return fleetConditional(request, () -> service.aggregate(aggregation));
+    }
+
+    /**
+     * Groups aircraft by decade, brand, sold status and brand x decade in a single call.
+     * 
+     * @return Fleet statistics overview.
+     */
+    @GetMapping("/statistics/overview")
+    public ResponseEntity<FleetStatisticsDTO> getOverview(WebRequest request) {
+        return fleetConditional(request, service::getOverview);
     }
 
     /**
@@ -119,4 +271,56 @@ public class AircraftController {
     public ResponseEntity<List<AircraftDTO>> findLastWeek() {
         return ResponseEntity.ok(service.findLastWeek());
     }
-}
\ No newline at end of file
+
+    /**
+     * Counts aircraft created in the last week.
+     * 
+     * @return Count of recent aircraft.
+     */
+    @GetMapping("/statistics/last-week/count")
+    public ResponseEntity<Long> countLastWeek() {
+        return ResponseEntity.ok(service.countLastWeek());
+    }
+
+    /**
+     * Answers 304 when the client already has the current fleet revision, without
+     * computing the body. The last-week endpoints are not conditional because their
+     * result also changes as time passes.
+     */
+    private <T> ResponseEntity<T> fleetConditional(WebRequest request, Supplier<T> body) {
+        FleetRevision revision = service.getFleetRevision();
+        Instant lastUpdated = revision.getLastUpdated() != null
+                ? revision.getLastUpdated().atZone(ZoneId.systemDefault()).toInstant()
+                : Instant.EPOCH;
+        long lastModified = lastUpdated.toEpochMilli();
+        String eTag = "W/\"" + revision.getTotal() + "-" + ChronoUnit.MICROS.between(Instant.EPOCH, lastUpdated) + "\"";
+        if (request.checkNotModified(eTag, lastModified)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .lastModified(lastModified)
+                .cacheControl(CacheControl.noCache())
+                .body(body.get());
+    }
+
+    private static String eTag(AircraftDTO dto) {
+        return "\"" + dto.getVersion() + "\"";
+    }
+
+    /** @return The version named by an If-Match header, or null when any version is accepted. */
+    private static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            try {
+                return Long.valueOf(tag.substring(1, tag.length() - 1));
+            } catch (NumberFormatException ignored) {
+                // falls through to the mismatch below
+            }
+        }
+        throw new AircraftVersionMismatchException("If-Match does not name a version of this aircraft: " + ifMatch);
+    }
+}
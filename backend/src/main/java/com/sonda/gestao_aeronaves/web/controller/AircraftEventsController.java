@@ -0,0 +1,87 @@
+package com.sonda.gestao_aeronaves.web.controller;
+
+import com.sonda.gestao_aeronaves.service.feed.AircraftChangeFeed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Server-Sent Events stream of aircraft changes, so clients apply deltas instead of polling.
+ * <p>
+ * Each {@code change} event carries the change and the fleet statistics after it, with
+ * the change number as its id. Browsers reconnect with {@code Last-Event-ID} and receive
+ * the changes they missed; when those are no longer buffered a {@code reset} event tells
+ * the client to reload before applying further changes.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/aeronaves/events")
+@CrossOrigin(origins = "*")
+public class AircraftEventsController {
+
+    private final AircraftChangeFeed feed;
+    private final Duration timeout;
+    private final Duration keepAlive;
+
+    public AircraftEventsController(AircraftChangeFeed feed,
+            @Value("${aircraft.events.timeout:30m}") Duration timeout,
+            @Value("${aircraft.events.keep-alive:15s}") Duration keepAlive) {
+        this.feed = feed;
+        this.timeout = timeout;
+        this.keepAlive = keepAlive;
+    }
+
+    /**
+     * Opens the change stream.
+     * 
+     * @param lastEventId Id of the last change received, sent by the browser when reconnecting.
+     * @return Stream that stays open until {@code aircraft.events.timeout}; clients reconnect after it.
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@RequestHeader(name = "Last-Event-ID", required = false) Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        AtomicBoolean open = new AtomicBoolean(true);
+        emitter.onCompletion(() -> open.set(false));
+        emitter.onTimeout(() -> open.set(false));
+        emitter.onError(error -> open.set(false));
+
+        long from = lastEventId != null ? lastEventId : feed.lastSequence();
+        Thread.ofVirtual().name("aircraft-events").start(() -> pump(emitter, open, from));
+        return emitter;
+    }
+
+    /**
+     * Sends the changes after {@code cursor} as they are published, until the client goes away.
+     * Runs on its own virtual thread, so waiting for changes holds no request thread.
+     */
+    private void pump(SseEmitter emitter, AtomicBoolean open, long cursor) {
+        try {
+            while (open.get()) {
+                AircraftChangeFeed.Batch batch = feed.awaitAfter(cursor, keepAlive);
+                if (batch.gap()) {
+                    emitter.send(SseEmitter.event().name("reset").id(Long.toString(batch.last())).data(batch.last()));
+                } else if (batch.events().isEmpty()) {
+                    emitter.send(SseEmitter.event().comment("keep-alive"));
+                }
+                for (AircraftChangeFeed.ChangeEvent event : batch.events()) {
+                    emitter.send(SseEmitter.event()
+                            .name("change")
+                            .id(Long.toString(event.sequence()))
+                            .data(event.change(), MediaType.APPLICATION_JSON));
+                }
+                cursor = batch.last();
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Aircraft event stream closed: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            emitter.complete();
+        }
+    }
+}
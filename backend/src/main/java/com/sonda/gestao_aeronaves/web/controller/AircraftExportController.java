@@ -0,0 +1,70 @@
+package com.sonda.gestao_aeronaves.web.controller;
+
+import com.sonda.gestao_aeronaves.domain.Brand;
+import com.sonda.gestao_aeronaves.service.export.AircraftExportService;
+import com.sonda.gestao_aeronaves.service.export.ExportFilter;
+import com.sonda.gestao_aeronaves.service.export.ExportFormat;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * REST Controller for exporting the fleet.
+ * The file is written while the rows are read, so exports of any size use constant memory.
+ */
+@RestController
+@RequestMapping("/aeronaves/export")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class AircraftExportController {
+
+    private static final MediaType GZIP = MediaType.parseMediaType("application/gzip");
+
+    private final AircraftExportService service;
+
+    /**
+     * Exports the aircraft matching the filters, ordered by ID.
+     * 
+     * @param format      {@code csv} or {@code ndjson}.
+     * @param gzip        Whether to gzip the file.
+     * @param brand       Only aircraft of this brand.
+     * @param sold        Only sold or only unsold aircraft.
+     * @param createdFrom Only aircraft created at or after this instant.
+     * @param createdTo   Only aircraft created before this instant.
+     * @return The file, as an attachment.
+     */
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @RequestParam(required = false) Brand brand,
+            @RequestParam(required = false) Boolean sold,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo) {
+        ExportFormat exportFormat = ExportFormat.fromParameter(format);
+        ExportFilter filter = new ExportFilter(brand, sold, createdFrom, createdTo);
+
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream compressed = new GZIPOutputStream(out, 8192);
+                service.export(filter, exportFormat, compressed);
+                compressed.finish();
+            } else {
+                service.export(filter, exportFormat, out);
+            }
+        };
+        String filename = "aeronaves." + exportFormat.getExtension() + (gzip ? ".gz" : "");
+        return ResponseEntity.ok()
+                .contentType(gzip ? GZIP : exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+}
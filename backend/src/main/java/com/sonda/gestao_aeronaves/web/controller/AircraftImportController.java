@@ -0,0 +1,70 @@
+package com.sonda.gestao_aeronaves.web.controller;
+
+import com.sonda.gestao_aeronaves.service.importer.AircraftImportService;
+import com.sonda.gestao_aeronaves.service.importer.ImportFormat;
+import com.sonda.gestao_aeronaves.web.dto.ImportJobDTO;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.UUID;
+
+/**
+ * REST Controller for streaming bulk imports of Aircraft.
+ * An import is created first, so its ID is known before any byte of the file is sent,
+ * and the file is then uploaded to it. The body is read as it arrives, so files of any
+ * size can be sent without being buffered in memory.
+ */
+@RestController
+@RequestMapping("/aeronaves/import")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class AircraftImportController {
+
+    private final AircraftImportService service;
+
+    /**
+     * Creates an import waiting for its file.
+     * 
+     * @return 202 with the PENDING job and its location, where the file is then sent
+     *         with PUT and the progress polled with GET.
+     */
+    @PostMapping
+    public ResponseEntity<ImportJobDTO> createJob() {
+        ImportJobDTO job = service.createJob();
+        URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/{id}")
+                .buildAndExpand(job.getId())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(job);
+    }
+
+    /**
+     * Imports aircraft from a CSV file (with a header row) or from NDJSON, one aircraft per line.
+     * The job can be polled while the file is being sent.
+     * 
+     * @param id      The job ID.
+     * @param request The request whose body is the file.
+     * @return Job state once the file has been read; the last rows may still be being written.
+     */
+    @PutMapping(value = "/{id}", consumes = { "text/csv", "application/x-ndjson" })
+    public ResponseEntity<ImportJobDTO> upload(@PathVariable UUID id, HttpServletRequest request) throws IOException {
+        ImportFormat format = ImportFormat.fromContentType(request.getContentType());
+        return ResponseEntity.ok(service.upload(id, request.getInputStream(), format, request.getContentLengthLong()));
+    }
+
+    /**
+     * Returns the progress of an import.
+     * 
+     * @param id The job ID.
+     * @return Current job state, including rejected rows.
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<ImportJobDTO> findJob(@PathVariable UUID id) {
+        return ResponseEntity.ok(service.getJob(id));
+    }
+}
@@ -0,0 +1,31 @@
+package com.sonda.gestao_aeronaves.web.controller;
+
+import com.sonda.gestao_aeronaves.service.sync.AircraftSyncService;
+import com.sonda.gestao_aeronaves.web.dto.AircraftChangesDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for delta sync of the fleet.
+ * Clients keep the returned token and send it on the next sync, so they download only what changed.
+ */
+@RestController
+@RequestMapping("/aeronaves/changes")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class AircraftSyncController {
+
+    private final AircraftSyncService service;
+
+    /**
+     * Lists the aircraft created, updated or deleted since the previous sync.
+     * 
+     * @param since Token returned by the previous sync; omit it to receive the whole fleet.
+     * @return Changes and the token for the next sync.
+     */
+    @GetMapping
+    public ResponseEntity<AircraftChangesDTO> changes(@RequestParam(required = false) String since) {
+        return ResponseEntity.ok(service.getChanges(since));
+    }
+}
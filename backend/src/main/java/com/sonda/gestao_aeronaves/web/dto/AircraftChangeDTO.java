@@ -0,0 +1,22 @@
+package com.sonda.gestao_aeronaves.web.dto;
+
+import com.sonda.gestao_aeronaves.service.event.AircraftChangedEvent;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * One entry of the change feed: what changed and the fleet statistics right after it,
+ * so clients can update lists and dashboards without fetching anything.
+ */
+@Getter
+@AllArgsConstructor
+public class AircraftChangeDTO {
+    private AircraftChangedEvent.Type type;
+    private Long id;
+    /** State after the change; null for DELETED. */
+    private AircraftDTO aircraft;
+    /** Null while the in-memory statistics are not initialized. */
+    private FleetStatisticsDTO statistics;
+    /** Aircraft created in the last week; null while the statistics are not initialized. */
+    private Long createdLastWeek;
+}
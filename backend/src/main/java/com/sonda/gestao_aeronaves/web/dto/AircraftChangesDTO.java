@@ -0,0 +1,22 @@
+package com.sonda.gestao_aeronaves.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Changes to apply to a local copy of the fleet.
+ * When {@code full} is true, {@code changed} is the whole fleet and replaces the local copy.
+ */
+@Getter
+@AllArgsConstructor
+public class AircraftChangesDTO {
+    /** Aircraft created or updated since the token. */
+    private List<AircraftDTO> changed;
+    /** IDs of the aircraft deleted since the token. */
+    private List<Long> deleted;
+    private boolean full;
+    /** Token to send on the next sync. */
+    private String token;
+}
@@ -23,6 +23,7 @@ public class AircraftDTO {
     private String description;
 
     private boolean sold;
+    private Long version;
     private LocalDateTime created;
     private LocalDateTime updated;
 }
\ No newline at end of file
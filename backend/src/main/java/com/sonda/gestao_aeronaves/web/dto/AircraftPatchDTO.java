@@ -0,0 +1,24 @@
+package com.sonda.gestao_aeronaves.web.dto;
+
+import com.sonda.gestao_aeronaves.domain.Brand;
+import jakarta.validation.constraints.Pattern;
+import lombok.Data;
+
+/**
+ * Partial update of an aircraft. Null fields are left unchanged.
+ */
+@Data
+public class AircraftPatchDTO {
+
+    @Pattern(regexp = "(?s).*\\S.*", message = "Name must not be blank")
+    private String name;
+
+    private Brand brand;
+
+    private Integer year;
+
+    @Pattern(regexp = "(?s).*\\S.*", message = "Description must not be blank")
+    private String description;
+
+    private Boolean sold;
+}
@@ -0,0 +1,24 @@
+package com.sonda.gestao_aeronaves.web.dto;
+
+import com.sonda.gestao_aeronaves.domain.Brand;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Aircraft as shown in list views: everything but the description, which is the only
+ * unbounded column and is not displayed there.
+ */
+@Getter
+@AllArgsConstructor
+public class AircraftSummaryDTO {
+    private Long id;
+    private String name;
+    private Brand brand;
+    private Integer year;
+    private boolean sold;
+    private Long version;
+    private LocalDateTime created;
+    private LocalDateTime updated;
+}
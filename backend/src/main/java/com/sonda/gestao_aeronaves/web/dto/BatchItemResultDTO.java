@@ -0,0 +1,30 @@
+package com.sonda.gestao_aeronaves.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class BatchItemResultDTO {
+
+    public enum Status {
+        CREATED,
+        UPDATED,
+        DELETED,
+        REJECTED,
+        NOT_FOUND,
+        CONFLICT,
+        FAILED
+    }
+
+    private int index;
+    private Long id;
+    private Status status;
+    private List<String> errors;
+
+    public boolean isSuccess() {
+        return status == Status.CREATED || status == Status.UPDATED || status == Status.DELETED;
+    }
+}
@@ -0,0 +1,20 @@
+package com.sonda.gestao_aeronaves.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class BatchResultDTO {
+    private int total;
+    private int succeeded;
+    private int failed;
+    private List<BatchItemResultDTO> items;
+
+    public static BatchResultDTO of(List<BatchItemResultDTO> items) {
+        int succeeded = (int) items.stream().filter(BatchItemResultDTO::isSuccess).count();
+        return new BatchResultDTO(items.size(), succeeded, items.size() - succeeded, items);
+    }
+}
@@ -0,0 +1,15 @@
+package com.sonda.gestao_aeronaves.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Result of a fleet aggregation, one entry per requested grouping set.
+ */
+@Getter
+@AllArgsConstructor
+public class FleetAggregationDTO {
+    private List<FleetGroupingDTO> groupings;
+}
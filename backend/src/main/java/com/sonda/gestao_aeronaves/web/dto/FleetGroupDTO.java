@@ -0,0 +1,21 @@
+package com.sonda.gestao_aeronaves.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * One group of a fleet aggregation. Metrics that were not requested are null and omitted.
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class FleetGroupDTO {
+    /** Dimension name to value; aircraft without a creation date have a null bucket. */
+    private Map<String, Object> key;
+    private Long count;
+    private Integer minYear;
+    private Integer maxYear;
+}
@@ -0,0 +1,17 @@
+package com.sonda.gestao_aeronaves.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Groups of one grouping set, ordered by their key; groups without aircraft are omitted.
+ */
+@Getter
+@AllArgsConstructor
+public class FleetGroupingDTO {
+    /** Dimension names, in the order requested. */
+    private List<String> groupBy;
+    private List<FleetGroupDTO> groups;
+}
@@ -0,0 +1,18 @@
+package com.sonda.gestao_aeronaves.web.dto;
+
+import com.sonda.gestao_aeronaves.domain.Brand;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+public class FleetStatisticsDTO {
+    private long total;
+    private long unsold;
+    private Map<Integer, Long> byDecade;
+    private Map<Brand, Long> byBrand;
+    private Map<Boolean, Long> bySold;
+    private Map<Brand, Map<Integer, Long>> byBrandAndDecade;
+}
@@ -0,0 +1,35 @@
+package com.sonda.gestao_aeronaves.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class ImportJobDTO {
+
+    public enum Status {
+        /** Created, waiting for the file to be uploaded. */
+        PENDING,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    private UUID id;
+    private Status status;
+    private String format;
+    private long bytesRead;
+    private long totalBytes;
+    private long rowsRead;
+    private long imported;
+    private long rejected;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String error;
+    private List<ImportRejectDTO> rejects;
+    private boolean rejectsTruncated;
+}
@@ -0,0 +1,13 @@
+package com.sonda.gestao_aeronaves.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ImportRejectDTO {
+    private long line;
+    private List<String> errors;
+}
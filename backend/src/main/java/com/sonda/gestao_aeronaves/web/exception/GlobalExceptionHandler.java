@@ -1,12 +1,19 @@
 package com.sonda.gestao_aeronaves.web.exception;
 
 import com.sonda.gestao_aeronaves.domain.exception.AircraftNotFoundException;
+import com.sonda.gestao_aeronaves.domain.exception.AircraftVersionMismatchException;
+import com.sonda.gestao_aeronaves.domain.exception.ImportAlreadyStartedException;
+import com.sonda.gestao_aeronaves.domain.exception.ImportCapacityExceededException;
+import com.sonda.gestao_aeronaves.domain.exception.ImportJobNotFoundException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -37,11 +44,49 @@ public class GlobalExceptionHandler {
         return buildResponse(HttpStatus.BAD_REQUEST, "Malformed JSON", message, List.of());
     }
 
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ResponseException> handleTypeMismatch(MethodArgumentTypeMismatchException ex) {
+        return buildResponse(HttpStatus.BAD_REQUEST, "Invalid Argument",
+                "Valor inválido para o parâmetro " + ex.getName() + ": " + ex.getValue(), List.of());
+    }
+
     @ExceptionHandler(AircraftNotFoundException.class)
     public ResponseEntity<ResponseException> handleAircraftNotFound(AircraftNotFoundException ex) {
         return buildResponse(HttpStatus.NOT_FOUND, "Not Found", ex.getMessage(), List.of());
     }
 
+    @ExceptionHandler(AircraftVersionMismatchException.class)
+    public ResponseEntity<ResponseException> handleVersionMismatch(AircraftVersionMismatchException ex) {
+        return buildResponse(HttpStatus.PRECONDITION_FAILED, "Precondition Failed", ex.getMessage(), List.of());
+    }
+
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ResponseException> handleOptimisticLock(ObjectOptimisticLockingFailureException ex) {
+        return buildResponse(HttpStatus.CONFLICT, "Conflict",
+                "A aeronave foi alterada por outra operação. Recarregue e tente novamente.", List.of());
+    }
+
+    @ExceptionHandler(ImportJobNotFoundException.class)
+    public ResponseEntity<ResponseException> handleImportJobNotFound(ImportJobNotFoundException ex) {
+        return buildResponse(HttpStatus.NOT_FOUND, "Not Found", ex.getMessage(), List.of());
+    }
+
+    @ExceptionHandler(ImportAlreadyStartedException.class)
+    public ResponseEntity<ResponseException> handleImportAlreadyStarted(ImportAlreadyStartedException ex) {
+        return buildResponse(HttpStatus.CONFLICT, "Conflict", ex.getMessage(), List.of());
+    }
+
+    @ExceptionHandler(ImportCapacityExceededException.class)
+    public ResponseEntity<ResponseException> handleImportCapacity(ImportCapacityExceededException ex) {
+        return buildResponse(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", ex.getMessage(), List.of());
+    }
+
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<ResponseException> handleDatabaseUnavailable(CannotCreateTransactionException ex) {
+        return buildResponse(HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable",
+                "Banco de dados sobrecarregado. Tente novamente em instantes.", List.of());
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ResponseException> handleIllegalArgument(IllegalArgumentException ex) {
         return buildResponse(HttpStatus.BAD_REQUEST, "Invalid Argument", ex.getMessage(), List.of());
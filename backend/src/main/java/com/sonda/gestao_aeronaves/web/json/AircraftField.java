@@ -0,0 +1,133 @@
+package com.sonda.gestao_aeronaves.web.json;
+
+import com.sonda.gestao_aeronaves.web.dto.AircraftDTO;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.databind.SerializationContext;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Properties of {@link AircraftDTO} that can be requested with {@code fields=}. Each
+ * constant writes its own property with a plain getter call and a pre-encoded name, so
+ * a sparse response costs less than the full bean serialization instead of more.
+ */
+public enum AircraftField {
+
+    ID("id") {
+        @Override
+        void writeValue(JsonGenerator generator, AircraftDTO aircraft, SerializationContext context) {
+            writeNumber(generator, aircraft.getId());
+        }
+    },
+    NAME("name") {
+        @Override
+        void writeValue(JsonGenerator generator, AircraftDTO aircraft, SerializationContext context) {
+            generator.writeString(aircraft.getName());
+        }
+    },
+    BRAND("brand") {
+        @Override
+        void writeValue(JsonGenerator generator, AircraftDTO aircraft, SerializationContext context) {
+            generator.writeString(aircraft.getBrand() != null ? aircraft.getBrand().name() : null);
+        }
+    },
+    YEAR("year") {
+        @Override
+        void writeValue(JsonGenerator generator, AircraftDTO aircraft, SerializationContext context) {
+            if (aircraft.getYear() != null) {
+                generator.writeNumber(aircraft.getYear());
+            } else {
+                generator.writeNull();
+            }
+        }
+    },
+    DESCRIPTION("description") {
+        @Override
+        void writeValue(JsonGenerator generator, AircraftDTO aircraft, SerializationContext context) {
+            generator.writeString(aircraft.getDescription());
+        }
+    },
+    SOLD("sold") {
+        @Override
+        void writeValue(JsonGenerator generator, AircraftDTO aircraft, SerializationContext context) {
+            generator.writeBoolean(aircraft.isSold());
+        }
+    },
+    VERSION("version") {
+        @Override
+        void writeValue(JsonGenerator generator, AircraftDTO aircraft, SerializationContext context) {
+            writeNumber(generator, aircraft.getVersion());
+        }
+    },
+    CREATED("created") {
+        @Override
+        void writeValue(JsonGenerator generator, AircraftDTO aircraft, SerializationContext context) {
+            context.writeValue(generator, aircraft.getCreated());
+        }
+    },
+    UPDATED("updated") {
+        @Override
+        void writeValue(JsonGenerator generator, AircraftDTO aircraft, SerializationContext context) {
+            context.writeValue(generator, aircraft.getUpdated());
+        }
+    };
+
+    private final SerializableString name;
+
+    AircraftField(String name) {
+        this.name = new SerializedString(name);
+    }
+
+    public String getName() {
+        return name.getValue();
+    }
+
+    void write(JsonGenerator generator, AircraftDTO aircraft, SerializationContext context) {
+        generator.writeName(name);
+        writeValue(generator, aircraft, context);
+    }
+
+    abstract void writeValue(JsonGenerator generator, AircraftDTO aircraft, SerializationContext context);
+
+    /**
+     * Parses a comma-separated list of property names, such as {@code id,name,brand}.
+     *
+     * @throws IllegalArgumentException if a name is not a property of {@link AircraftDTO}.
+     */
+    public static Set<AircraftField> parse(String fields) {
+        Set<AircraftField> parsed = EnumSet.noneOf(AircraftField.class);
+        for (String field : fields.split(",")) {
+            String trimmed = field.trim();
+            if (!trimmed.isEmpty()) {
+                parsed.add(byName(trimmed));
+            }
+        }
+        if (parsed.isEmpty()) {
+            throw new IllegalArgumentException("Informe ao menos um campo em fields.");
+        }
+        return parsed;
+    }
+
+    private static AircraftField byName(String name) {
+        for (AircraftField field : values()) {
+            if (field.getName().equals(name)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Campo inválido: " + name + ". Use: "
+                + Arrays.stream(values()).map(AircraftField::getName).collect(Collectors.joining(", ")) + ".");
+    }
+
+    private static void writeNumber(JsonGenerator generator, Long value) {
+        if (value != null) {
+            generator.writeNumber(value);
+        } else {
+            generator.writeNull();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.sonda.gestao_aeronaves.web.json;
+
+import com.sonda.gestao_aeronaves.web.dto.AircraftDTO;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.JacksonSerializable;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.jsontype.TypeSerializer;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * An aircraft, or a list of them, that serializes only the requested {@link AircraftField}s.
+ * It writes through the generator it is given, so the same view works for JSON, Smile and CBOR.
+ */
+public final class SparseAircraftView extends JacksonSerializable.Base {
+
+    private final List<AircraftDTO> aircraft;
+    private final boolean single;
+    private final AircraftField[] fields;
+
+    private SparseAircraftView(List<AircraftDTO> aircraft, boolean single, Set<AircraftField> fields) {
+        this.aircraft = aircraft;
+        this.single = single;
+        this.fields = fields.toArray(AircraftField[]::new);
+    }
+
+    public static SparseAircraftView of(AircraftDTO aircraft, Set<AircraftField> fields) {
+        return new SparseAircraftView(List.of(aircraft), true, fields);
+    }
+
+    public static SparseAircraftView of(List<AircraftDTO> aircraft, Set<AircraftField> fields) {
+        return new SparseAircraftView(aircraft, false, fields);
+    }
+
+    @Override
+    public void serialize(JsonGenerator generator, SerializationContext context) {
+        if (single) {
+            writeAircraft(generator, aircraft.get(0), context);
+            return;
+        }
+        generator.writeStartArray(aircraft, aircraft.size());
+        for (AircraftDTO dto : aircraft) {
+            writeAircraft(generator, dto, context);
+        }
+        generator.writeEndArray();
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator generator, SerializationContext context, TypeSerializer typeSerializer) {
+        serialize(generator, context);
+    }
+
+    private void writeAircraft(JsonGenerator generator, AircraftDTO dto, SerializationContext context) {
+        generator.writeStartObject(dto, fields.length);
+        for (AircraftField field : fields) {
+            field.write(generator, dto, context);
+        }
+        generator.writeEndObject();
+    }
+}
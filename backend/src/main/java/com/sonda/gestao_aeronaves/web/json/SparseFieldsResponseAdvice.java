@@ -0,0 +1,68 @@
+package com.sonda.gestao_aeronaves.web.json;
+
+import com.sonda.gestao_aeronaves.web.dto.AircraftDTO;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractJacksonHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Applies the {@code fields} query parameter to every response whose body is an
+ * {@link AircraftDTO} or a list of them, e.g. {@code GET /aeronaves?fields=id,name,brand}.
+ * Only the listed properties are written, in the requested order, by {@link SparseAircraftView}.
+ * <p>
+ * Aircraft responses may be JSON, Smile or CBOR depending on {@code Accept}, so they also
+ * carry {@code Vary: Accept}.
+ */
+@ControllerAdvice
+public class SparseFieldsResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String FIELDS_PARAMETER = "fields";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return AbstractJacksonHttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request, ServerHttpResponse response) {
+        if (!isAircraft(body)) {
+            return body;
+        }
+        HttpHeaders headers = response.getHeaders();
+        if (!headers.getVary().contains(HttpHeaders.ACCEPT)) {
+            headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+        String fields = request instanceof ServletServerHttpRequest servletRequest
+                ? servletRequest.getServletRequest().getParameter(FIELDS_PARAMETER)
+                : null;
+        if (fields == null) {
+            return body;
+        }
+        Set<AircraftField> parsed = AircraftField.parse(fields);
+        return body instanceof AircraftDTO dto
+                ? SparseAircraftView.of(dto, parsed)
+                : SparseAircraftView.of(aircraftList(body), parsed);
+    }
+
+    private static boolean isAircraft(Object body) {
+        return body instanceof AircraftDTO
+                || body instanceof List<?> list && !list.isEmpty() && list.get(0) instanceof AircraftDTO;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<AircraftDTO> aircraftList(Object body) {
+        return (List<AircraftDTO>) body;
+    }
+}
@@ -0,0 +1,170 @@
+package com.sonda.gestao_aeronaves.web.reactive;
+
+import com.sonda.gestao_aeronaves.domain.Brand;
+import com.sonda.gestao_aeronaves.domain.exception.AircraftNotFoundException;
+import com.sonda.gestao_aeronaves.mapper.AircraftMapper;
+import com.sonda.gestao_aeronaves.persistence.reactive.ReactiveAircraftRepository;
+import com.sonda.gestao_aeronaves.persistence.reactive.ReactiveAircraftRepository.GroupCount;
+import com.sonda.gestao_aeronaves.service.AircraftService;
+import com.sonda.gestao_aeronaves.web.dto.AircraftDTO;
+import com.sonda.gestao_aeronaves.web.dto.FleetStatisticsDTO;
+import com.sonda.gestao_aeronaves.web.exception.ResponseException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Handlers of the reactive read API. They mirror the read side of AircraftController
+ * (same paths, parameters and AircraftDTO bodies) but never block: lists are written
+ * as the rows arrive, as a JSON array or, when the client accepts
+ * {@code application/x-ndjson}, one aircraft per line.
+ */
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveAircraftHandler {
+
+    private static final MediaType NDJSON = MediaType.APPLICATION_NDJSON;
+
+    private final ReactiveAircraftRepository repository;
+    private final AircraftMapper mapper;
+
+    public Mono<ServerResponse> listAll(ServerRequest request) {
+        return list(request, repository.findAll().map(mapper::toDTO));
+    }
+
+    /**
+     * Same contract as {@code GET /aeronaves/find}: a blank term lists every aircraft,
+     * a numeric term on the first page also returns the aircraft with that ID first.
+     */
+    public Mono<ServerResponse> findByTerm(ServerRequest request) {
+        String term = request.queryParam("term").map(String::trim).orElse("");
+        if (term.isEmpty()) {
+            return listAll(request);
+        }
+        int page;
+        int size;
+        try {
+            page = request.queryParam("page").map(Integer::parseInt).orElse(0);
+            size = request.queryParam("size").map(Integer::parseInt).orElse(AircraftService.DEFAULT_PAGE_SIZE);
+        } catch (NumberFormatException ex) {
+            return error(HttpStatus.BAD_REQUEST, "Invalid Argument", "Parâmetros de paginação inválidos.");
+        }
+        if (page < 0 || size < 1 || size > AircraftService.MAX_PAGE_SIZE) {
+            return error(HttpStatus.BAD_REQUEST, "Invalid Argument",
+                    "Página deve ser >= 0 e tamanho entre 1 e " + AircraftService.MAX_PAGE_SIZE + ".");
+        }
+
+        // Same pagination as AircraftService.findByTerm: the ID match comes first and
+        // shifts the ranked hits by one position on every page
+        Long parsed = parseId(term);
+        Mono<AircraftDTO> idMatch = parsed == null ? Mono.empty()
+                : repository.findById(parsed).map(mapper::toDTO).cache();
+        Flux<AircraftDTO> results = idMatch.hasElement().flatMapMany(found -> {
+            int shift = found ? 1 : 0;
+            int limit = page == 0 ? size - shift : size;
+            Flux<AircraftDTO> ranked = limit == 0 ? Flux.empty()
+                    : repository.search(term, Math.max(0, page * size - shift), limit)
+                            .filter(aircraft -> !aircraft.getId().equals(parsed))
+                            .map(mapper::toDTO);
+            return found && page == 0 ? idMatch.concatWith(ranked) : ranked;
+        });
+        return list(request, results);
+    }
+
+    public Mono<ServerResponse> getById(ServerRequest request) {
+        Long id;
+        try {
+            id = Long.valueOf(request.pathVariable("id"));
+        } catch (NumberFormatException ex) {
+            return error(HttpStatus.BAD_REQUEST, "Invalid Argument",
+                    "Valor inválido para o parâmetro id: " + request.pathVariable("id"));
+        }
+        return repository.findById(id)
+                .map(mapper::toDTO)
+                .flatMap(dto -> ServerResponse.ok()
+                        .eTag("\"" + dto.getVersion() + "\"")
+                        .cacheControl(CacheControl.noCache())
+                        .bodyValue(dto))
+                .switchIfEmpty(Mono.defer(() -> error(HttpStatus.NOT_FOUND, "Not Found",
+                        new AircraftNotFoundException(id).getMessage())));
+    }
+
+    public Mono<ServerResponse> countUnsold(ServerRequest request) {
+        return ServerResponse.ok().body(repository.countBySoldFalse(), Long.class);
+    }
+
+    public Mono<ServerResponse> listByDecade(ServerRequest request) {
+        Mono<Map<Integer, Long>> byDecade = repository.countByBrandDecadeAndSold()
+                .collect(TreeMap::new, (map, group) -> map.merge(group.decade(), group.total(), Long::sum));
+        return ServerResponse.ok().body(byDecade, Map.class);
+    }
+
+    public Mono<ServerResponse> getOverview(ServerRequest request) {
+        return repository.countByBrandDecadeAndSold()
+                .collectList()
+                .map(ReactiveAircraftHandler::overview)
+                .flatMap(overview -> ServerResponse.ok().bodyValue(overview));
+    }
+
+    public Mono<ServerResponse> findLastWeek(ServerRequest request) {
+        return list(request, repository.findByCreatedAfter(LocalDateTime.now().minusWeeks(1)).map(mapper::toDTO));
+    }
+
+    public Mono<ServerResponse> countLastWeek(ServerRequest request) {
+        return ServerResponse.ok().body(repository.countByCreatedAfter(LocalDateTime.now().minusWeeks(1)), Long.class);
+    }
+
+    private static Mono<ServerResponse> list(ServerRequest request, Flux<AircraftDTO> aircraft) {
+        boolean ndjson = request.headers().accept().stream().anyMatch(NDJSON::equalsTypeAndSubtype);
+        return ServerResponse.ok()
+                .contentType(ndjson ? NDJSON : MediaType.APPLICATION_JSON)
+                .body(aircraft, AircraftDTO.class);
+    }
+
+    private static FleetStatisticsDTO overview(List<GroupCount> groups) {
+        long total = 0;
+        long unsold = 0;
+        Map<Integer, Long> byDecade = new TreeMap<>();
+        Map<Brand, Long> byBrand = new EnumMap<>(Brand.class);
+        Map<Boolean, Long> bySold = new TreeMap<>();
+        Map<Brand, Map<Integer, Long>> byBrandAndDecade = new EnumMap<>(Brand.class);
+        for (GroupCount group : groups) {
+            total += group.total();
+            if (!group.sold()) {
+                unsold += group.total();
+            }
+            byDecade.merge(group.decade(), group.total(), Long::sum);
+            byBrand.merge(group.brand(), group.total(), Long::sum);
+            bySold.merge(group.sold(), group.total(), Long::sum);
+            byBrandAndDecade.computeIfAbsent(group.brand(), brand -> new TreeMap<>())
+                    .merge(group.decade(), group.total(), Long::sum);
+        }
+        return new FleetStatisticsDTO(total, unsold, byDecade, byBrand, bySold, byBrandAndDecade);
+    }
+
+    private static Long parseId(String term) {
+        if (term.length() > 18 || !term.chars().allMatch(Character::isDigit)) {
+            return null;
+        }
+        return Long.parseLong(term);
+    }
+
+    private static Mono<ServerResponse> error(HttpStatus status, String error, String message) {
+        return ServerResponse.status(status)
+                .bodyValue(new ResponseException(LocalDateTime.now(), status.value(), error, message, List.of()));
+    }
+}
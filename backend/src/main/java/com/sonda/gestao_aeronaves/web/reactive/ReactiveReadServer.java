@@ -0,0 +1,58 @@
+package com.sonda.gestao_aeronaves.web.reactive;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+
+/**
+ * Reactor Netty server of the reactive read API. It runs next to the servlet container
+ * of the blocking API, on its own port, so both stacks can be deployed from one build.
+ */
+@Slf4j
+public class ReactiveReadServer implements SmartLifecycle {
+
+    private final HttpHandler handler;
+    private final int port;
+    private volatile DisposableServer server;
+
+    public ReactiveReadServer(HttpHandler handler, int port) {
+        this.handler = handler;
+        this.port = port;
+    }
+
+    @Override
+    public void start() {
+        server = HttpServer.create()
+                .port(port)
+                .handle(new ReactorHttpHandlerAdapter(handler))
+                .bindNow();
+        log.info("Reactive read API listening on port {}", server.port());
+    }
+
+    @Override
+    public void stop() {
+        DisposableServer running = server;
+        if (running != null) {
+            running.disposeNow(Duration.ofSeconds(10));
+            server = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * @return Port the server is bound to, useful when configured with port 0.
+     */
+    public int getPort() {
+        DisposableServer running = server;
+        return running != null ? running.port() : port;
+    }
+}
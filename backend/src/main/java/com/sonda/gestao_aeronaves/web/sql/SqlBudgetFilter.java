@@ -0,0 +1,73 @@
+package com.sonda.gestao_aeronaves.web.sql;
+
+import com.sonda.gestao_aeronaves.persistence.sql.SqlStatistics;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Measures the JDBC work of every HTTP request and checks it against a budget.
+ * <p>
+ * The counts are published per endpoint as the {@code http.server.requests.sql.statements}
+ * and {@code http.server.requests.sql.rows} summaries and the
+ * {@code http.server.requests.sql.time} timer. Requests over budget are logged at WARN,
+ * which is how N+1 queries and over-fetching show up without logging every statement.
+ * Only the request thread is measured: rows written later by a streaming response body
+ * are not included.
+ */
+@Slf4j
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry registry;
+    private final long maxStatements;
+    private final long maxRows;
+    private final Duration maxTime;
+
+    public SqlBudgetFilter(MeterRegistry registry, long maxStatements, long maxRows, Duration maxTime) {
+        this.registry = registry;
+        this.maxStatements = maxStatements;
+        this.maxRows = maxRows;
+        this.maxTime = maxTime;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SqlStatistics sql = SqlStatistics.start();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            sql.close();
+            report(request, sql);
+        }
+    }
+
+    private void report(HttpServletRequest request, SqlStatistics sql) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        Tags tags = Tags.of("method", request.getMethod(), "uri", uri);
+
+        DistributionSummary.builder("http.server.requests.sql.statements").tags(tags)
+                .register(registry).record(sql.getStatements());
+        DistributionSummary.builder("http.server.requests.sql.rows").tags(tags)
+                .register(registry).record(sql.getRows());
+        Timer.builder("http.server.requests.sql.time").tags(tags)
+                .register(registry).record(sql.getTime());
+
+        if (sql.getStatements() > maxStatements || sql.getRows() > maxRows || sql.getTime().compareTo(maxTime) > 0) {
+            log.warn("SQL budget exceeded by {} {}: {} (budget: {} statements, {} rows, {} ms)",
+                    request.getMethod(), uri, sql, maxStatements, maxRows, maxTime.toMillis());
+        }
+    }
+}
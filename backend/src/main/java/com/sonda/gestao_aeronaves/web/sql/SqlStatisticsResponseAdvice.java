@@ -0,0 +1,46 @@
+package com.sonda.gestao_aeronaves.web.sql;
+
+import com.sonda.gestao_aeronaves.persistence.sql.SqlStatistics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds the JDBC work of the request, as measured by {@link SqlBudgetFilter}, to the
+ * response headers. Headers must be written before the body, so this runs just before
+ * the body is serialized. Disabled by default, since it tells clients about the database;
+ * enable it with {@code aircraft.sql.headers=true}.
+ */
+@ControllerAdvice
+@ConditionalOnBooleanProperty("aircraft.sql.headers")
+public class SqlStatisticsResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String STATEMENTS_HEADER = "X-SQL-Statements";
+    public static final String ROWS_HEADER = "X-SQL-Rows";
+    public static final String TIME_HEADER = "X-SQL-Time-Ms";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request, ServerHttpResponse response) {
+        SqlStatistics sql = SqlStatistics.current();
+        if (sql != null) {
+            HttpHeaders headers = response.getHeaders();
+            headers.set(STATEMENTS_HEADER, String.valueOf(sql.getStatements()));
+            headers.set(ROWS_HEADER, String.valueOf(sql.getRows()));
+            headers.set(TIME_HEADER, String.valueOf(sql.getTime().toMillis()));
+        }
+        return body;
+    }
+}
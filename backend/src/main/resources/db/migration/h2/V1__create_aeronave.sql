@@ -0,0 +1,11 @@
+-- H2 (tests, benchmarks and load tests); same schema as db/migration/postgresql
+CREATE TABLE IF NOT EXISTS aeronave (
+    id        BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    nome      VARCHAR(255) NOT NULL,
+    marca     VARCHAR(255) NOT NULL CHECK (marca IN ('EMBRAER', 'BOEING', 'AIRBUS')),
+    ano       INTEGER      NOT NULL,
+    descricao TEXT,
+    vendido   BOOLEAN      NOT NULL,
+    created   TIMESTAMP(6),
+    updated   TIMESTAMP(6)
+);
@@ -0,0 +1,5 @@
+-- Same as the PostgreSQL migration. H2 has no setval; RESTART WITH sets the next value
+-- returned, which Hibernate takes as the top of a block of 50 IDs, hence max + 50.
+CREATE SEQUENCE IF NOT EXISTS aeronave_seq START WITH 1 INCREMENT BY 50;
+
+ALTER SEQUENCE aeronave_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM aeronave);
@@ -0,0 +1 @@
+ALTER TABLE aeronave ADD COLUMN IF NOT EXISTS versao BIGINT DEFAULT 0 NOT NULL;
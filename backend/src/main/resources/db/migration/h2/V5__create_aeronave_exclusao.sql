@@ -0,0 +1,4 @@
+CREATE TABLE IF NOT EXISTS aeronave_exclusao (
+    aeronave_id BIGINT       NOT NULL PRIMARY KEY,
+    deleted     TIMESTAMP(6) NOT NULL
+);
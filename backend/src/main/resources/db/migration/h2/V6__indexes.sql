@@ -0,0 +1,10 @@
+-- H2 has neither partial nor trigram indexes; the PostgreSQL migration has both
+CREATE INDEX idx_aeronave_created ON aeronave (created);
+CREATE INDEX idx_aeronave_marca ON aeronave (marca);
+CREATE INDEX idx_aeronave_vendido ON aeronave (vendido);
+CREATE INDEX idx_aeronave_updated ON aeronave (updated);
+
+CREATE INDEX idx_aeronave_outbox_pendente ON aeronave_outbox (publicado, id);
+CREATE INDEX idx_aeronave_outbox_aeronave ON aeronave_outbox (aeronave_id, id);
+
+CREATE INDEX idx_aeronave_exclusao_deleted ON aeronave_exclusao (deleted);
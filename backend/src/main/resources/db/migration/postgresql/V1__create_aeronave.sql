@@ -0,0 +1,13 @@
+-- Fleet table exactly as previously created by Hibernate (ddl-auto=update). Databases that
+-- already have it are baselined at version 0 and this statement leaves them alone; every
+-- later change is a forward migration, so both kinds of database end up with the same schema.
+CREATE TABLE IF NOT EXISTS aeronave (
+    id        BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    nome      VARCHAR(255) NOT NULL,
+    marca     VARCHAR(255) NOT NULL CHECK (marca IN ('EMBRAER', 'BOEING', 'AIRBUS')),
+    ano       INTEGER      NOT NULL,
+    descricao TEXT,
+    vendido   BOOLEAN      NOT NULL,
+    created   TIMESTAMP(6),
+    updated   TIMESTAMP(6)
+);
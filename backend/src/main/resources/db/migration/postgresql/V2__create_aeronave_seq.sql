@@ -0,0 +1,7 @@
+-- Aircraft IDs move from IDENTITY to the pooled sequence aeronave_seq (allocationSize 50),
+-- so inserts can be batched. The sequence starts past the existing rows: Hibernate takes
+-- the value returned by nextval as the top of a block of 50 IDs, and setval(max + 1)
+-- makes the first block start at max + 2. IDs are therefore never reused.
+CREATE SEQUENCE IF NOT EXISTS aeronave_seq START WITH 1 INCREMENT BY 50;
+
+SELECT setval('aeronave_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM aeronave));
@@ -0,0 +1,2 @@
+-- Optimistic locking version (ETag / If-Match); existing aircraft start at version 0
+ALTER TABLE aeronave ADD COLUMN IF NOT EXISTS versao BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,11 @@
+-- Transactional outbox of aircraft changes, relayed to downstream systems
+CREATE SEQUENCE IF NOT EXISTS aeronave_outbox_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS aeronave_outbox (
+    id          BIGINT       NOT NULL PRIMARY KEY,
+    aeronave_id BIGINT       NOT NULL,
+    tipo        VARCHAR(255) NOT NULL CHECK (tipo IN ('CREATED', 'UPDATED', 'DELETED')),
+    dados       TEXT,
+    created     TIMESTAMP(6) NOT NULL,
+    publicado   BOOLEAN      NOT NULL
+);
@@ -0,0 +1,24 @@
+-- findByCreatedAfter / countByCreatedAfter and the "last week" statistics
+CREATE INDEX IF NOT EXISTS idx_aeronave_created ON aeronave (created);
+
+-- findByBrand
+CREATE INDEX IF NOT EXISTS idx_aeronave_marca ON aeronave (marca);
+
+-- countBySoldFalse: only the unsold rows, answered by an index-only scan
+CREATE INDEX IF NOT EXISTS idx_aeronave_nao_vendido ON aeronave (id) WHERE vendido = FALSE;
+
+-- /aeronaves/changes
+CREATE INDEX IF NOT EXISTS idx_aeronave_updated ON aeronave (updated);
+
+-- aircraft.search.engine=postgres and the reactive search: ILIKE '%term%' on every searched column
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS idx_aeronave_nome_trgm ON aeronave USING GIN (nome gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_aeronave_descricao_trgm ON aeronave USING GIN (descricao gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_aeronave_marca_trgm ON aeronave USING GIN (marca gin_trgm_ops);
+
+-- Outbox relay and compaction
+CREATE INDEX IF NOT EXISTS idx_aeronave_outbox_pendente ON aeronave_outbox (id) WHERE publicado = FALSE;
+CREATE INDEX IF NOT EXISTS idx_aeronave_outbox_aeronave ON aeronave_outbox (aeronave_id, id);
+
+-- Tombstones for /aeronaves/changes and their purge
+CREATE INDEX IF NOT EXISTS idx_aeronave_exclusao_deleted ON aeronave_exclusao (deleted);
@@ -0,0 +1,103 @@
+package com.sonda.gestao_aeronaves;
+
+import com.sonda.gestao_aeronaves.domain.Brand;
+import com.sonda.gestao_aeronaves.persistence.repository.AircraftRepository;
+import com.sonda.gestao_aeronaves.service.AircraftService;
+import com.sonda.gestao_aeronaves.web.dto.AircraftDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class MetricsInstrumentationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Autowired
+    private PrometheusMeterRegistry prometheus;
+
+    @Autowired
+    private AircraftService service;
+
+    @Autowired
+    private AircraftRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Chamadas ao serviço devem registrar histograma por método")
+    void service_QuandoChamado_DeveRegistrarTimerPorMetodo() {
+        service.save(createAircraftDTO());
+        service.findAll();
+
+        Timer timer = registry.find("aircraft.service")
+                .tags("class", AircraftService.class.getName(), "method", "findAll")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isGreaterThanOrEqualTo(1);
+        assertThat(timer.takeSnapshot().histogramCounts()).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("Requisições HTTP devem registrar latência por endpoint")
+    void endpoint_QuandoChamado_DeveRegistrarLatenciaPorUri() throws Exception {
+        mockMvc.perform(get("/aeronaves/statistics/unsold")).andExpect(status().isOk());
+
+        Timer timer = registry.find("http.server.requests").tag("uri", "/aeronaves/statistics/unsold").timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Repositório, pool, Hibernate e JVM devem publicar métricas")
+    void camadasInferiores_DevemPublicarMetricas() {
+        service.findAll();
+
+        assertThat(registry.find("spring.data.repository.invocations")
+                .tag("repository", AircraftRepository.class.getSimpleName()).timer()).isNotNull();
+        assertThat(registry.find("hikaricp.connections.acquire").timer()).isNotNull();
+        assertThat(registry.find("hikaricp.connections.active").gauge()).isNotNull();
+        assertThat(registry.find("aircraft.db.bulkhead.available").gauge().value()).isEqualTo(10);
+        assertThat(registry.find("hibernate.sessions.open").functionCounter()).isNotNull();
+        assertThat(registry.find("jvm.gc.memory.allocated").counter()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Cache de entidades e cache de busca devem publicar métricas no Prometheus")
+    void caches_DevemPublicarMetricasNoPrometheus() {
+        assertThat(prometheus.find("cache.size").tag("cache", "aircraft").gauge()).isNotNull();
+        assertThat(prometheus.find("cache.size").tag("cache", "aircraft.search").gauge()).isNotNull();
+        assertThat(prometheus.scrape()).contains("cache_size{", "name=\"aircraft\"", "name=\"aircraft.search\"");
+    }
+
+    private AircraftDTO createAircraftDTO() {
+        AircraftDTO dto = new AircraftDTO();
+        dto.setName("E195-E2");
+        dto.setBrand(Brand.EMBRAER);
+        dto.setYear(2020);
+        dto.setDescription("Jato regional");
+        dto.setSold(false);
+        return dto;
+    }
+}
@@ -0,0 +1,73 @@
+package com.sonda.gestao_aeronaves;
+
+import com.sonda.gestao_aeronaves.domain.Brand;
+import com.sonda.gestao_aeronaves.persistence.entity.Aircraft;
+import com.sonda.gestao_aeronaves.persistence.repository.AircraftRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class ResponseCompressionTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private AircraftRepository repository;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAllInBatch();
+        List<Aircraft> fleet = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            Aircraft aircraft = new Aircraft();
+            aircraft.setName("E195-" + i);
+            aircraft.setBrand(Brand.EMBRAER);
+            aircraft.setYear(2020);
+            aircraft.setDescription("Jato regional com configuração padrão");
+            fleet.add(aircraft);
+        }
+        repository.saveAll(fleet);
+    }
+
+    @Test
+    @DisplayName("Listas grandes devem ser comprimidas com gzip quando o cliente aceita")
+    void listAll_ComAcceptEncodingGzip_DeveComprimir() throws Exception {
+        HttpResponse<byte[]> response = get("/aeronaves", "gzip");
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Encoding")).hasValue("gzip");
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.body()))) {
+            String json = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            assertThat(json).startsWith("[{").contains("E195-49");
+            assertThat(response.body().length).isLessThan(json.length() / 4);
+        }
+    }
+
+    private HttpResponse<byte[]> get(String path, String acceptEncoding) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Accept-Encoding", acceptEncoding)
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+}
@@ -0,0 +1,39 @@
+package com.sonda.gestao_aeronaves.persistence.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks with EXPLAIN that the queries behind the repository use the indexes created by
+ * the H2 migrations. The PostgreSQL-only indexes are covered by PostgresIndexUsageTest.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class AircraftIndexUsageTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @ParameterizedTest(name = "{0}")
+    @DisplayName("Consultas do repositório devem usar os índices da migração")
+    @CsvSource(delimiter = '|', value = {
+            "findByCreatedAfter  | SELECT id FROM aeronave WHERE created > TIMESTAMP '2026-01-01 00:00:00' | IDX_AERONAVE_CREATED",
+            "findByBrand         | SELECT id FROM aeronave WHERE marca = 'EMBRAER'                          | IDX_AERONAVE_MARCA",
+            "countBySoldFalse    | SELECT COUNT(*) FROM aeronave WHERE vendido = FALSE                      | IDX_AERONAVE_VENDIDO",
+            "findUpdatedAfter    | SELECT id FROM aeronave WHERE updated > TIMESTAMP '2026-01-01 00:00:00' | IDX_AERONAVE_UPDATED",
+            "lockUnpublished     | SELECT id FROM aeronave_outbox WHERE publicado = FALSE ORDER BY id      | IDX_AERONAVE_OUTBOX_PENDENTE",
+            "findIdsDeletedAfter | SELECT aeronave_id FROM aeronave_exclusao WHERE deleted > TIMESTAMP '2026-01-01 00:00:00' | IDX_AERONAVE_EXCLUSAO_DELETED"
+    })
+    void explain_DeveUsarIndice(String query, String sql, String index) {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+
+        assertThat(plan).as("plano de %s", query).containsIgnoringCase(index);
+    }
+}
@@ -0,0 +1,167 @@
+package com.sonda.gestao_aeronaves.persistence.repository;
+
+import com.sonda.gestao_aeronaves.domain.Brand;
+import com.sonda.gestao_aeronaves.persistence.entity.Aircraft;
+import com.sonda.gestao_aeronaves.persistence.projection.AircraftSummaryView;
+import com.sonda.gestao_aeronaves.persistence.projection.AircraftView;
+import com.sonda.gestao_aeronaves.persistence.projection.DecadeCount;
+import com.sonda.gestao_aeronaves.persistence.projection.FleetGroupCount;
+import com.sonda.gestao_aeronaves.persistence.projection.FleetRevision;
+import com.sonda.gestao_aeronaves.service.statistics.FleetFilter;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class AircraftRepositoryTest {
+
+    @Autowired
+    private AircraftRepository repository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+        repository.save(createAircraft("E195", Brand.EMBRAER, 2020, false));
+        repository.save(createAircraft("E190", Brand.EMBRAER, 2015, true));
+        repository.save(createAircraft("B737", Brand.BOEING, 2019, false));
+        repository.flush();
+    }
+
+    @Test
+    @DisplayName("countByDecade deve agrupar no banco por década")
+    void countByDecade_DeveAgruparPorDecada() {
+        List<DecadeCount> result = repository.countByDecade();
+
+        assertThat(result)
+                .extracting(DecadeCount::getDecade, DecadeCount::getTotal)
+                .containsExactlyInAnyOrder(tuple(2020, 1L), tuple(2010, 2L));
+    }
+
+    @Test
+    @DisplayName("countByBrandDecadeAndSold deve agrupar por marca, década e status de venda")
+    void countByBrandDecadeAndSold_DeveAgruparPorTodasAsDimensoes() {
+        List<FleetGroupCount> result = repository.countByBrandDecadeAndSold();
+
+        assertThat(result)
+                .extracting(FleetGroupCount::getBrand, FleetGroupCount::getDecade,
+                        FleetGroupCount::getSold, FleetGroupCount::getTotal)
+                .containsExactlyInAnyOrder(
+                        tuple(Brand.EMBRAER, 2020, false, 1L),
+                        tuple(Brand.EMBRAER, 2010, true, 1L),
+                        tuple(Brand.BOEING, 2010, false, 1L));
+    }
+
+    @Test
+    @DisplayName("count com especificação deve aplicar apenas os filtros informados")
+    void count_ComEspecificacao_DeveAplicarFiltros() {
+        assertThat(repository.count(AircraftSpecifications.matching(FleetFilter.none()))).isEqualTo(3L);
+        assertThat(repository.count(AircraftSpecifications.matching(
+                new FleetFilter(Brand.EMBRAER, null, 2016, null, null, null)))).isEqualTo(1L);
+        assertThat(repository.count(AircraftSpecifications.matching(
+                new FleetFilter(null, false, 2019, 2019, null, null)))).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("findFleetRevision deve mudar quando uma aeronave é alterada")
+    void findFleetRevision_DeveMudarComAlteracao() {
+        FleetRevision before = repository.findFleetRevision();
+        Aircraft aircraft = repository.findAll(Sort.by("id")).get(0);
+        long version = aircraft.getVersion();
+
+        aircraft.setSold(true);
+        repository.flush();
+        FleetRevision after = repository.findFleetRevision();
+
+        assertThat(before.getTotal()).isEqualTo(3L);
+        assertThat(after.getTotal()).isEqualTo(3L);
+        assertThat(after.getLastUpdated()).isAfterOrEqualTo(before.getLastUpdated());
+        assertThat(aircraft.getVersion()).isEqualTo(version + 1);
+    }
+
+    @Test
+    @DisplayName("findPageAfter deve paginar por ID a partir do cursor")
+    void findPageAfter_DevePaginarPorId() {
+        List<Aircraft> first = repository.findPageAfter(0L, Limit.of(2));
+        List<Aircraft> second = repository.findPageAfter(first.get(1).getId(), Limit.of(2));
+
+        assertThat(first).extracting(Aircraft::getName).containsExactly("E195", "E190");
+        assertThat(second).extracting(Aircraft::getName).containsExactly("B737");
+    }
+
+    @Test
+    @DisplayName("streamAll deve percorrer todas as aeronaves em ordem de ID")
+    void streamAll_DevePercorrerEmOrdem() {
+        try (Stream<Aircraft> rows = repository.streamAll()) {
+            assertThat(rows.map(Aircraft::getName)).containsExactly("E195", "E190", "B737");
+        }
+    }
+
+    @Test
+    @DisplayName("findPageAfter deve carregar as entidades somente para leitura")
+    void findPageAfter_DeveCarregarSomenteLeitura() {
+        entityManager.clear();
+
+        Aircraft aircraft = repository.findPageAfter(0L, Limit.of(1)).get(0);
+
+        assertThat(entityManager.unwrap(Session.class).isReadOnly(aircraft)).isTrue();
+    }
+
+    @Test
+    @DisplayName("findAllViews deve projetar todas as colunas sem gerenciar entidades")
+    void findAllViews_DeveProjetarSemGerenciarEntidades() {
+        entityManager.clear();
+
+        List<AircraftView> result = repository.findAllViews();
+
+        assertThat(result)
+                .extracting(AircraftView::name, AircraftView::description, AircraftView::sold)
+                .containsExactlyInAnyOrder(
+                        tuple("E195", "Descrição E195", false),
+                        tuple("E190", "Descrição E190", true),
+                        tuple("B737", "Descrição B737", false));
+        assertThat(result).allSatisfy(view -> assertThat(view.version()).isNotNull());
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("findAllSummaries deve projetar as aeronaves sem a descrição")
+    void findAllSummaries_DeveProjetarSemDescricao() {
+        List<AircraftSummaryView> result = repository.findAllSummaries();
+
+        assertThat(result)
+                .extracting(AircraftSummaryView::name, AircraftSummaryView::brand, AircraftSummaryView::year)
+                .containsExactlyInAnyOrder(
+                        tuple("E195", Brand.EMBRAER, 2020),
+                        tuple("E190", Brand.EMBRAER, 2015),
+                        tuple("B737", Brand.BOEING, 2019));
+    }
+
+    private Aircraft createAircraft(String name, Brand brand, int year, boolean sold) {
+        Aircraft a = new Aircraft();
+        a.setName(name);
+        a.setBrand(brand);
+        a.setYear(year);
+        a.setDescription("Descrição " + name);
+        a.setSold(sold);
+        return a;
+    }
+}
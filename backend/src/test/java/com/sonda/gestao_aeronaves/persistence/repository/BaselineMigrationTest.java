@@ -0,0 +1,86 @@
+package com.sonda.gestao_aeronaves.persistence.repository;
+
+import com.sonda.gestao_aeronaves.domain.Brand;
+import com.sonda.gestao_aeronaves.persistence.entity.Aircraft;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Starts the application on a database that predates the migrations: the {@code aeronave}
+ * table as ddl-auto=update created it (IDENTITY ids, no {@code versao}) and rows already in
+ * it. Flyway must baseline it, bring it to the current schema and let Hibernate validate it.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class BaselineMigrationTest {
+
+    private static final String URL = "jdbc:h2:mem:baseline;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE";
+    private static final long MAX_EXISTING_ID = 120L;
+
+    @Autowired
+    private AircraftRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void baselineDatabase(DynamicPropertyRegistry registry) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE aeronave (ano INTEGER NOT NULL, vendido BOOLEAN NOT NULL, "
+                    + "created TIMESTAMP(6), id BIGINT GENERATED BY DEFAULT AS IDENTITY, updated TIMESTAMP(6), "
+                    + "descricao TEXT, marca VARCHAR(255) NOT NULL CHECK (marca IN ('EMBRAER', 'BOEING', 'AIRBUS')), "
+                    + "nome VARCHAR(255) NOT NULL, PRIMARY KEY (id))");
+            statement.execute("INSERT INTO aeronave (nome, marca, ano, vendido, created, updated) VALUES "
+                    + "('E195', 'EMBRAER', 2020, FALSE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP), "
+                    + "('B737', 'BOEING', 2019, TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)");
+            statement.execute("INSERT INTO aeronave (id, nome, marca, ano, vendido, created, updated) VALUES "
+                    + "(" + MAX_EXISTING_ID + ", 'A320', 'AIRBUS', 2010, FALSE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)");
+        }
+        registry.add("spring.datasource.url", () -> URL);
+    }
+
+    @Test
+    @DisplayName("banco anterior às migrações deve receber a linha de base e todas as migrações")
+    void migrate_BancoExistente_DeveAplicarMigracoesSobreLinhaDeBase() {
+        List<String> versions = jdbcTemplate.queryForList(
+                "SELECT \"version\" FROM \"flyway_schema_history\" WHERE \"success\" AND \"version\" IS NOT NULL ORDER BY \"installed_rank\"",
+                String.class);
+
+        assertThat(versions).containsExactly("0", "1", "2", "3", "4", "5", "6");
+        assertThat(jdbcTemplate.queryForList("SELECT versao FROM aeronave", Long.class)).containsOnly(0L);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM aeronave_outbox", Long.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM aeronave_exclusao", Long.class)).isZero();
+    }
+
+    @Test
+    @DisplayName("novas aeronaves devem receber IDs após os existentes")
+    void save_BancoExistente_DeveGerarIdsAposExistentes() {
+        Aircraft aircraft = new Aircraft();
+        aircraft.setName("E175");
+        aircraft.setBrand(Brand.EMBRAER);
+        aircraft.setYear(2018);
+        aircraft.setSold(false);
+
+        Aircraft saved = repository.saveAndFlush(aircraft);
+
+        assertThat(saved.getId()).isGreaterThan(MAX_EXISTING_ID);
+        assertThat(saved.getVersion()).isZero();
+        assertThat(repository.count()).isEqualTo(4L);
+        repository.delete(saved);
+    }
+}
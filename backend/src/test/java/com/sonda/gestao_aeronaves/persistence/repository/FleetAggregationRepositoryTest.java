@@ -0,0 +1,109 @@
+package com.sonda.gestao_aeronaves.persistence.repository;
+
+import com.sonda.gestao_aeronaves.domain.Brand;
+import com.sonda.gestao_aeronaves.persistence.entity.Aircraft;
+import com.sonda.gestao_aeronaves.service.statistics.FleetAggregation;
+import com.sonda.gestao_aeronaves.service.statistics.FleetFilter;
+import com.sonda.gestao_aeronaves.service.statistics.FleetSnapshot;
+import com.sonda.gestao_aeronaves.web.dto.FleetAggregationDTO;
+import com.sonda.gestao_aeronaves.web.dto.FleetGroupDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class FleetAggregationRepositoryTest {
+
+    private static final String[] GROUP_BY = { "brand,decade", "sold", "year", "createdDay",
+            "createdWeek,brand", "createdMonth" };
+
+    @Autowired
+    private FleetAggregationRepository aggregationRepository;
+
+    @Autowired
+    private AircraftRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+        save("E195", Brand.EMBRAER, 2020, false, LocalDateTime.of(2026, 10, 14, 9, 30));
+        save("E190", Brand.EMBRAER, 2015, true, LocalDateTime.of(2026, 10, 11, 23, 59));
+        save("B737", Brand.BOEING, 2019, false, LocalDateTime.of(2026, 9, 30, 12, 0));
+        save("A320", Brand.AIRBUS, 1998, true, null);
+    }
+
+    @Test
+    @DisplayName("aggregate deve agrupar no banco por cada conjunto de agrupamento")
+    void aggregate_DeveAgruparPorConjunto() {
+        FleetAggregationDTO result = aggregationRepository.aggregate(
+                FleetAggregation.parse(GROUP_BY, null, FleetFilter.none()));
+
+        assertThat(result.getGroupings().get(0).getGroups())
+                .extracting(FleetGroupDTO::getKey, FleetGroupDTO::getCount, FleetGroupDTO::getMinYear)
+                .containsExactly(
+                        tuple(Map.of("brand", Brand.EMBRAER, "decade", 2010), 1L, 2015),
+                        tuple(Map.of("brand", Brand.EMBRAER, "decade", 2020), 1L, 2020),
+                        tuple(Map.of("brand", Brand.BOEING, "decade", 2010), 1L, 2019),
+                        tuple(Map.of("brand", Brand.AIRBUS, "decade", 1990), 1L, 1998));
+        assertThat(result.getGroupings().get(4).getGroups())
+                .extracting(g -> g.getKey().get("createdWeek"))
+                .containsExactly(LocalDate.of(2026, 9, 28), LocalDate.of(2026, 10, 5),
+                        LocalDate.of(2026, 10, 12), null);
+        assertThat(result.getGroupings().get(5).getGroups())
+                .extracting(g -> g.getKey().get("createdMonth"), FleetGroupDTO::getCount)
+                .containsExactly(tuple(LocalDate.of(2026, 9, 1), 1L), tuple(LocalDate.of(2026, 10, 1), 2L),
+                        tuple(null, 1L));
+    }
+
+    @Test
+    @DisplayName("aggregate no banco e no snapshot em memória devem ter o mesmo resultado")
+    void aggregate_BancoESnapshot_DevemCoincidir() {
+        FleetSnapshot snapshot = new FleetSnapshot(repository, transactionManager, 2);
+        try {
+            snapshot.initialize();
+            for (FleetFilter filter : List.of(FleetFilter.none(), FleetFilter.unsold(),
+                    new FleetFilter(Brand.EMBRAER, null, 2000, 2029, LocalDateTime.of(2026, 10, 1, 0, 0), null))) {
+                FleetAggregation aggregation = FleetAggregation.parse(GROUP_BY, null, filter);
+
+                assertThat(snapshot.aggregate(aggregation)).get()
+                        .usingRecursiveComparison()
+                        .isEqualTo(aggregationRepository.aggregate(aggregation));
+            }
+        } finally {
+            snapshot.destroy();
+        }
+    }
+
+    private void save(String name, Brand brand, int year, boolean sold, LocalDateTime created) {
+        Aircraft aircraft = new Aircraft();
+        aircraft.setName(name);
+        aircraft.setBrand(brand);
+        aircraft.setYear(year);
+        aircraft.setDescription("Descrição " + name);
+        aircraft.setSold(sold);
+        Long id = repository.saveAndFlush(aircraft).getId();
+        jdbc.update("UPDATE aeronave SET created = ? WHERE id = ?", created, id);
+    }
+}
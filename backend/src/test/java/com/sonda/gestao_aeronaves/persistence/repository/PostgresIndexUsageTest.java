@@ -0,0 +1,85 @@
+package com.sonda.gestao_aeronaves.persistence.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks with EXPLAIN that the PostgreSQL migrations give every hot query an index,
+ * including the partial and trigram ones H2 cannot express.
+ * <p>
+ * Runs only when {@code AIRCRAFT_TEST_POSTGRES_URL} points at a disposable database
+ * (with {@code AIRCRAFT_TEST_POSTGRES_USER} and {@code AIRCRAFT_TEST_POSTGRES_PASSWORD}),
+ * for example {@code jdbc:postgresql://localhost:5432/aeronaves_test}. The migrations are
+ * applied to it; sequential scans are disabled so that an empty table still shows
+ * whether an index can serve the query.
+ */
+@EnabledIfEnvironmentVariable(named = "AIRCRAFT_TEST_POSTGRES_URL", matches = "jdbc:postgresql:.+")
+class PostgresIndexUsageTest {
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void migrate() throws SQLException {
+        String url = System.getenv("AIRCRAFT_TEST_POSTGRES_URL");
+        String user = System.getenv("AIRCRAFT_TEST_POSTGRES_USER");
+        String password = System.getenv("AIRCRAFT_TEST_POSTGRES_PASSWORD");
+        Flyway.configure()
+                .dataSource(url, user, password)
+                .locations("classpath:db/migration/postgresql")
+                .baselineOnMigrate(true)
+                .baselineVersion("0")
+                .load()
+                .migrate();
+        connection = DriverManager.getConnection(url, user, password);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE aeronave");
+            statement.execute("SET enable_seqscan = off");
+        }
+    }
+
+    @AfterAll
+    static void close() throws SQLException {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @DisplayName("Consultas devem usar os índices da migração PostgreSQL")
+    @CsvSource(delimiter = '|', value = {
+            "findByCreatedAfter | SELECT id FROM aeronave WHERE created > now() - interval '7 days' | idx_aeronave_created",
+            "findByBrand        | SELECT id FROM aeronave WHERE marca = 'EMBRAER'                  | idx_aeronave_marca",
+            "countBySoldFalse   | SELECT COUNT(*) FROM aeronave WHERE vendido = false             | idx_aeronave_nao_vendido",
+            "findUpdatedAfter   | SELECT id FROM aeronave WHERE updated > now() - interval '1 hour' | idx_aeronave_updated",
+            "search (nome)      | SELECT id FROM aeronave WHERE nome ILIKE '%embraer%' OR descricao ILIKE '%embraer%' OR marca ILIKE '%embraer%' | idx_aeronave_nome_trgm",
+            "search (descricao) | SELECT id FROM aeronave WHERE nome ILIKE '%embraer%' OR descricao ILIKE '%embraer%' OR marca ILIKE '%embraer%' | idx_aeronave_descricao_trgm",
+            "search (marca)     | SELECT id FROM aeronave WHERE nome ILIKE '%embraer%' OR descricao ILIKE '%embraer%' OR marca ILIKE '%embraer%' | idx_aeronave_marca_trgm",
+            "lockUnpublished    | SELECT id FROM aeronave_outbox WHERE publicado = false ORDER BY id LIMIT 500 | idx_aeronave_outbox_pendente"
+    })
+    void explain_DeveUsarIndice(String query, String sql, String index) throws SQLException {
+        StringBuilder plan = new StringBuilder();
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("EXPLAIN " + sql)) {
+            while (rows.next()) {
+                plan.append(rows.getString(1)).append('\n');
+            }
+        }
+
+        assertThat(plan.toString()).as("plano de %s", query)
+                .containsPattern(Pattern.compile("\\b" + index + "\\b"));
+    }
+}
@@ -0,0 +1,70 @@
+package com.sonda.gestao_aeronaves.persistence.sql;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+class BulkheadDataSourceTest {
+
+    private final DataSource target = mock(DataSource.class);
+
+    @Test
+    @DisplayName("getConnection deve falhar após max-wait quando todas as permissões estão em uso")
+    void getConnection_LimiteAtingido_DeveFalharAposEspera() throws SQLException {
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        BulkheadDataSource dataSource = new BulkheadDataSource(target, 1, Duration.ofMillis(50));
+
+        Connection first = dataSource.getConnection();
+
+        assertThat(dataSource.getAvailablePermits()).isZero();
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+
+        first.close();
+        first.close();
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(1);
+        verify(target, times(1)).getConnection();
+    }
+
+    @Test
+    @DisplayName("getConnection deve aguardar até uma conexão ser devolvida")
+    void getConnection_ConexaoDevolvida_DeveLiberarQuemAguarda() throws Exception {
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        BulkheadDataSource dataSource = new BulkheadDataSource(target, 1, Duration.ofSeconds(5));
+        Connection first = dataSource.getConnection();
+
+        CompletableFuture<Connection> waiting = CompletableFuture.supplyAsync(() -> {
+            try {
+                return dataSource.getConnection();
+            } catch (SQLException ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        while (dataSource.getQueueLength() == 0) {
+            Thread.onSpinWait();
+        }
+        first.close();
+
+        assertThat(waiting.get(5, TimeUnit.SECONDS)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("getConnection deve devolver a permissão quando o pool falha")
+    void getConnection_PoolFalha_DeveDevolverPermissao() throws SQLException {
+        when(target.getConnection()).thenThrow(new SQLException("pool"));
+        BulkheadDataSource dataSource = new BulkheadDataSource(target, 1, Duration.ofMillis(50));
+
+        assertThatThrownBy(dataSource::getConnection).hasMessage("pool");
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(1);
+    }
+}
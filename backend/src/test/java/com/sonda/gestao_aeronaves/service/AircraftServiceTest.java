@@ -2,22 +2,54 @@ package com.sonda.gestao_aeronaves.service;
 
 import com.sonda.gestao_aeronaves.domain.Brand;
 import com.sonda.gestao_aeronaves.domain.exception.AircraftNotFoundException;
+import com.sonda.gestao_aeronaves.domain.exception.AircraftVersionMismatchException;
 import com.sonda.gestao_aeronaves.mapper.AircraftMapper;
+import com.sonda.gestao_aeronaves.mapper.AircraftMapperImpl;
 import com.sonda.gestao_aeronaves.persistence.entity.Aircraft;
+import com.sonda.gestao_aeronaves.persistence.projection.AircraftSummaryView;
+import com.sonda.gestao_aeronaves.persistence.projection.AircraftView;
+import com.sonda.gestao_aeronaves.persistence.projection.DecadeCount;
+import com.sonda.gestao_aeronaves.persistence.projection.FleetGroupCount;
+import com.sonda.gestao_aeronaves.persistence.projection.FleetRevision;
 import com.sonda.gestao_aeronaves.persistence.repository.AircraftRepository;
+import com.sonda.gestao_aeronaves.persistence.repository.FleetAggregationRepository;
+import com.sonda.gestao_aeronaves.service.event.AircraftChangedEvent;
+import com.sonda.gestao_aeronaves.service.search.SearchResultCache;
+import com.sonda.gestao_aeronaves.service.statistics.FleetAggregation;
+import com.sonda.gestao_aeronaves.service.statistics.FleetFilter;
+import com.sonda.gestao_aeronaves.service.statistics.FleetSnapshot;
+import com.sonda.gestao_aeronaves.service.statistics.FleetStatistics;
 import com.sonda.gestao_aeronaves.web.dto.AircraftDTO;
+import com.sonda.gestao_aeronaves.web.dto.AircraftSummaryDTO;
+import com.sonda.gestao_aeronaves.web.dto.AircraftPatchDTO;
+import com.sonda.gestao_aeronaves.web.dto.CursorPageDTO;
+import com.sonda.gestao_aeronaves.web.dto.FleetAggregationDTO;
+import com.sonda.gestao_aeronaves.web.dto.FleetStatisticsDTO;
+import jakarta.persistence.EntityManager;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.PredicateSpecification;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.time.Year;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -30,8 +62,26 @@ class AircraftServiceTest {
     @Mock
     private AircraftRepository repository;
 
+    @Spy
+    private AircraftMapper mapper = new AircraftMapperImpl();
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private FleetStatistics statistics;
+
+    @Mock
+    private FleetSnapshot snapshot;
+
+    @Mock
+    private FleetAggregationRepository aggregationRepository;
+
+    @Mock
+    private ApplicationEventPublisher events;
+
     @Mock
-    private AircraftMapper mapper;
+    private SearchResultCache search;
 
     @InjectMocks
     private AircraftService service;
@@ -46,57 +96,187 @@ class AircraftServiceTest {
     }
 
     @Test
-    @DisplayName("findAll deve retornar lista de aeronaves")
+    @DisplayName("findAll deve retornar a projeção sem carregar entidades")
     void findAll_DeveRetornarListaDeAeronaves() {
-        when(repository.findAll()).thenReturn(List.of(aircraft));
-        when(mapper.toDTO(aircraft)).thenReturn(aircraftDTO);
+        when(repository.findAllViews()).thenReturn(views(aircraftDTO));
 
         List<AircraftDTO> result = service.findAll();
 
-        assertThat(result).hasSize(1);
-        assertThat(result.get(0).getName()).isEqualTo("E195");
-        assertThat(result.get(0).getBrand()).isEqualTo(Brand.EMBRAER);
-        verify(repository).findAll();
-        verify(mapper).toDTO(aircraft);
+        assertThat(result).containsExactly(aircraftDTO);
+        verify(repository, never()).findAll();
+        verify(mapper, never()).toDTO(any(Aircraft.class));
+    }
+
+    @Test
+    @DisplayName("findAllSummaries deve retornar a projeção sem descrição")
+    void findAllSummaries_DeveRetornarResumos() {
+        when(repository.findAllSummaries())
+                .thenReturn(List.of(new AircraftSummaryView(1L, "E195", Brand.EMBRAER, 2020, false, 0L, null, null)));
+
+        assertThat(service.findAllSummaries()).singleElement()
+                .usingRecursiveComparison()
+                .isEqualTo(new AircraftSummaryDTO(1L, "E195", Brand.EMBRAER, 2020, false, 0L, null, null));
+    }
+
+    @Test
+    @DisplayName("findPage deve retornar página com cursor quando há mais resultados")
+    void findPage_ComMaisResultados_DeveRetornarCursor() {
+        Aircraft a2 = createAircraft(2L, "E190", Brand.EMBRAER, 2015, "Desc", false);
+        AircraftDTO dto2 = createAircraftDTO(2L, "E190", Brand.EMBRAER, 2015, "Desc", false);
+        when(repository.findPageAfter(0L, Limit.of(2))).thenReturn(List.of(aircraft, a2));
+        when(mapper.toDTO(aircraft)).thenReturn(aircraftDTO);
+
+        CursorPageDTO<AircraftDTO> page = service.findPage(null, 1);
+
+        assertThat(page.getItems()).hasSize(1);
+        assertThat(page.isHasMore()).isTrue();
+        assertThat(page.getNextCursor()).isNotBlank();
+        verify(mapper, never()).toDTO(a2);
+
+        when(repository.findPageAfter(1L, Limit.of(2))).thenReturn(List.of(a2));
+        when(mapper.toDTO(a2)).thenReturn(dto2);
+
+        CursorPageDTO<AircraftDTO> next = service.findPage(page.getNextCursor(), 1);
+
+        assertThat(next.getItems()).extracting(AircraftDTO::getId).containsExactly(2L);
+        assertThat(next.isHasMore()).isFalse();
+        assertThat(next.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("findPage com cursor inválido deve lançar IllegalArgumentException")
+    void findPage_ComCursorInvalido_DeveLancarExcecao() {
+        assertThatThrownBy(() -> service.findPage("nao-e-um-cursor", 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Cursor");
+
+        verify(repository, never()).findPageAfter(any(), any());
+    }
+
+    @Test
+    @DisplayName("findPage com tamanho acima do limite deve lançar IllegalArgumentException")
+    void findPage_ComTamanhoAcimaDoLimite_DeveLancarExcecao() {
+        assertThatThrownBy(() -> service.findPage(null, AircraftService.MAX_PAGE_SIZE + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verify(repository, never()).findPageAfter(any(), any());
+    }
+
+    @Test
+    @DisplayName("streamAll deve entregar cada aeronave ao consumidor sem usar o cache de segundo nível")
+    void streamAll_DeveEntregarCadaAeronave() {
+        Session session = mock(Session.class);
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
+        when(session.getCacheMode()).thenReturn(CacheMode.NORMAL);
+        when(repository.streamAll()).thenReturn(Stream.of(aircraft));
+        when(mapper.toDTO(aircraft)).thenReturn(aircraftDTO);
+
+        List<AircraftDTO> received = new ArrayList<>();
+        service.streamAll(received::add);
+
+        assertThat(received).containsExactly(aircraftDTO);
+        InOrder order = inOrder(session, repository);
+        order.verify(session).setCacheMode(CacheMode.IGNORE);
+        order.verify(repository).streamAll();
+        order.verify(session).setCacheMode(CacheMode.NORMAL);
     }
 
     @Test
     @DisplayName("findByTerm com termo deve buscar por termo")
     void findByTerm_ComTermo_DeveBuscarPorTermo() {
-        when(repository.findByTerm("EMBRAER")).thenReturn(List.of(aircraft));
-        when(mapper.toDTO(aircraft)).thenReturn(aircraftDTO);
+        when(search.search("EMBRAER", 0, 10)).thenReturn(List.of(1L));
+        when(repository.findViewsById(List.of(1L))).thenReturn(views(aircraftDTO));
 
-        List<AircraftDTO> result = service.findByTerm("EMBRAER");
+        List<AircraftDTO> result = service.findByTerm("EMBRAER", 0, 10);
 
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getBrand()).isEqualTo(Brand.EMBRAER);
-        verify(repository).findByTerm("EMBRAER");
-        verify(repository, never()).findAll();
+        verify(search).search("EMBRAER", 0, 10);
+        verify(repository, never()).findAllViews();
+    }
+
+    @Test
+    @DisplayName("findByTerm deve manter a ordem do ranking da busca")
+    void findByTerm_DeveManterOrdemDoRanking() {
+        AircraftDTO dto2 = createAircraftDTO(2L, "E190", Brand.EMBRAER, 2015, "Desc", false);
+        when(search.search("E1", 0, 10)).thenReturn(List.of(2L, 1L));
+        when(repository.findViewsById(List.of(2L, 1L))).thenReturn(views(aircraftDTO, dto2));
+
+        List<AircraftDTO> result = service.findByTerm("E1", 0, 10);
+
+        assertThat(result).extracting(AircraftDTO::getId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("findByTerm com termo numérico deve listar primeiro a aeronave com esse ID")
+    void findByTerm_ComTermoNumerico_DeveBuscarPorId() {
+        AircraftDTO dto737 = createAircraftDTO(737L, "A320", Brand.AIRBUS, 2015, "Desc", false);
+        when(repository.existsById(737L)).thenReturn(true);
+        when(search.search("737", 0, 9)).thenReturn(List.of(1L));
+        when(repository.findViewsById(List.of(737L, 1L))).thenReturn(views(aircraftDTO, dto737));
+
+        List<AircraftDTO> result = service.findByTerm("737", 0, 10);
+
+        assertThat(result).extracting(AircraftDTO::getId).containsExactly(737L, 1L);
+    }
+
+    @Test
+    @DisplayName("findByTerm com termo numérico deve deslocar as páginas seguintes sem perder resultados")
+    void findByTerm_ComTermoNumerico_DeveDeslocarPaginasSeguintes() {
+        AircraftDTO dto2 = createAircraftDTO(2L, "E190", Brand.EMBRAER, 2015, "Desc", false);
+        when(repository.existsById(737L)).thenReturn(true);
+        when(search.search("737", 1, 2)).thenReturn(List.of(1L, 2L));
+        when(repository.findViewsById(List.of(1L, 2L))).thenReturn(views(aircraftDTO, dto2));
+
+        List<AircraftDTO> result = service.findByTerm("737", 1, 2);
+
+        assertThat(result).extracting(AircraftDTO::getId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("findByTerm com termo numérico sem aeronave com esse ID deve buscar a página inteira")
+    void findByTerm_ComTermoNumericoInexistente_DeveBuscarPaginaInteira() {
+        when(repository.existsById(737L)).thenReturn(false);
+        when(search.search("737", 0, 10)).thenReturn(List.of(1L));
+        when(repository.findViewsById(List.of(1L))).thenReturn(views(aircraftDTO));
+
+        assertThat(service.findByTerm("737", 0, 10)).extracting(AircraftDTO::getId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("findByTerm com página inválida deve lançar IllegalArgumentException")
+    void findByTerm_ComPaginaInvalida_DeveLancarExcecao() {
+        assertThatThrownBy(() -> service.findByTerm("E195", -1, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.findByTerm("E195", Integer.MAX_VALUE / 100, 100))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.findByTerm("E195", Integer.MAX_VALUE, AircraftService.MAX_PAGE_SIZE))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(search);
     }
 
     @Test
     @DisplayName("findByTerm sem termo deve retornar findAll")
     void findByTerm_SemTermo_DeveRetornarFindAll() {
-        when(repository.findAll()).thenReturn(List.of(aircraft));
-        when(mapper.toDTO(aircraft)).thenReturn(aircraftDTO);
+        when(repository.findAllViews()).thenReturn(views(aircraftDTO));
 
-        List<AircraftDTO> result = service.findByTerm(null);
+        List<AircraftDTO> result = service.findByTerm(null, 0, 10);
 
         assertThat(result).hasSize(1);
-        verify(repository).findAll();
-        verify(repository, never()).findByTerm(any());
+        verify(repository).findAllViews();
+        verifyNoInteractions(search);
     }
 
     @Test
     @DisplayName("findByTerm com termo vazio deve retornar findAll")
     void findByTerm_ComTermoVazio_DeveRetornarFindAll() {
-        when(repository.findAll()).thenReturn(List.of(aircraft));
-        when(mapper.toDTO(aircraft)).thenReturn(aircraftDTO);
+        when(repository.findAllViews()).thenReturn(views(aircraftDTO));
 
-        List<AircraftDTO> result = service.findByTerm("   ");
+        List<AircraftDTO> result = service.findByTerm("   ", 0, 10);
 
         assertThat(result).hasSize(1);
-        verify(repository).findAll();
+        verify(repository).findAllViews();
     }
 
     @Test
@@ -123,7 +303,7 @@ class AircraftServiceTest {
                 .hasMessageContaining("Aircraft not found with ID: 999");
 
         verify(repository).findById(999L);
-        verify(mapper, never()).toDTO(any());
+        verify(mapper, never()).toDTO(any(Aircraft.class));
     }
 
     @Test
@@ -142,64 +322,123 @@ class AircraftServiceTest {
         assertThat(result.getId()).isEqualTo(1L);
         assertThat(result.getName()).isEqualTo("B737");
         verify(repository).save(any(Aircraft.class));
+
+        ArgumentCaptor<AircraftChangedEvent> event = ArgumentCaptor.forClass(AircraftChangedEvent.class);
+        verify(events).publishEvent(event.capture());
+        assertThat(event.getValue().getType()).isEqualTo(AircraftChangedEvent.Type.CREATED);
+        assertThat(event.getValue().getAircraft()).isSameAs(outputDTO);
     }
 
     @Test
-    @DisplayName("update quando existe deve atualizar aeronave")
+    @DisplayName("update quando existe deve carregar uma vez e alterar a entidade gerenciada")
     void update_QuandoExiste_DeveAtualizarAeronave() {
         AircraftDTO inputDTO = createAircraftDTO(null, "E195-E2", Brand.EMBRAER, 2022, "Updated", false);
-        Aircraft updatedEntity = createAircraft(1L, "E195-E2", Brand.EMBRAER, 2022, "Updated", false);
         AircraftDTO outputDTO = createAircraftDTO(1L, "E195-E2", Brand.EMBRAER, 2022, "Updated", false);
 
-        when(repository.existsById(1L)).thenReturn(true);
-        when(mapper.toEntity(inputDTO)).thenReturn(new Aircraft());
-        when(repository.save(any(Aircraft.class))).thenReturn(updatedEntity);
-        when(mapper.toDTO(updatedEntity)).thenReturn(outputDTO);
+        when(repository.findById(1L)).thenReturn(Optional.of(aircraft));
+        when(mapper.toDTO(aircraft)).thenReturn(outputDTO);
 
-        AircraftDTO result = service.update(1L, inputDTO);
+        AircraftDTO result = service.update(1L, inputDTO, null);
 
         assertThat(result.getName()).isEqualTo("E195-E2");
-        verify(repository).existsById(1L);
-        verify(repository).save(any(Aircraft.class));
+        verify(mapper).updateEntity(inputDTO, aircraft);
+        verify(repository).flush();
+        verify(repository, never()).existsById(any());
+        verify(repository, never()).save(any());
+        verify(events).publishEvent(any(AircraftChangedEvent.class));
     }
 
     @Test
     @DisplayName("update quando não existe deve lançar AircraftNotFoundException")
     void update_QuandoNaoExiste_DeveLancarExcecao() {
         AircraftDTO inputDTO = createAircraftDTO(null, "E195", Brand.EMBRAER, 2020, "Desc", false);
-        when(repository.existsById(999L)).thenReturn(false);
+        when(repository.findById(999L)).thenReturn(Optional.empty());
 
-        assertThatThrownBy(() -> service.update(999L, inputDTO))
+        assertThatThrownBy(() -> service.update(999L, inputDTO, null))
                 .isInstanceOf(AircraftNotFoundException.class)
                 .hasMessageContaining("Aircraft not found for update with ID: 999");
 
-        verify(repository).existsById(999L);
-        verify(repository, never()).save(any());
+        verify(mapper, never()).updateEntity(any(), any());
+        verify(events, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("patch deve aplicar somente os campos informados")
+    void patch_DeveAplicarSomenteCamposInformados() {
+        AircraftPatchDTO patch = new AircraftPatchDTO();
+        patch.setSold(true);
+        when(repository.findById(1L)).thenReturn(Optional.of(aircraft));
+        when(mapper.toDTO(aircraft)).thenReturn(aircraftDTO);
+
+        service.patch(1L, patch, null);
+
+        verify(mapper).patchEntity(patch, aircraft);
+        verify(repository).flush();
+        verify(events).publishEvent(any(AircraftChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("patch com ano futuro deve lançar IllegalArgumentException sem acessar o banco")
+    void patch_ComAnoFuturo_DeveLancarExcecao() {
+        AircraftPatchDTO patch = new AircraftPatchDTO();
+        patch.setYear(Year.now().getValue() + 1);
+
+        assertThatThrownBy(() -> service.patch(1L, patch, null))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verify(repository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("update com versão desatualizada deve lançar AircraftVersionMismatchException")
+    void update_ComVersaoDesatualizada_DeveLancarExcecao() {
+        aircraft.setVersion(3);
+        when(repository.findById(1L)).thenReturn(Optional.of(aircraft));
+
+        assertThatThrownBy(() -> service.update(1L, aircraftDTO, 2L))
+                .isInstanceOf(AircraftVersionMismatchException.class)
+                .hasMessageContaining("version 3");
+
+        verify(mapper, never()).updateEntity(any(), any());
+        verify(events, never()).publishEvent(any());
     }
 
     @Test
-    @DisplayName("delete quando existe deve remover aeronave")
+    @DisplayName("delete com versão desatualizada não deve remover")
+    void delete_ComVersaoDesatualizada_NaoDeveRemover() {
+        aircraft.setVersion(3);
+        when(repository.findById(1L)).thenReturn(Optional.of(aircraft));
+
+        assertThatThrownBy(() -> service.delete(1L, 2L))
+                .isInstanceOf(AircraftVersionMismatchException.class);
+
+        verify(repository, never()).delete(any(Aircraft.class));
+    }
+
+    @Test
+    @DisplayName("delete quando existe deve remover a entidade carregada")
     void delete_QuandoExiste_DeveRemoverAeronave() {
-        when(repository.existsById(1L)).thenReturn(true);
-        doNothing().when(repository).deleteById(1L);
+        when(repository.findById(1L)).thenReturn(Optional.of(aircraft));
 
-        service.delete(1L);
+        service.delete(1L, null);
 
-        verify(repository).existsById(1L);
-        verify(repository).deleteById(1L);
+        verify(repository).delete(aircraft);
+        verify(repository, never()).existsById(any());
+        verify(repository, never()).deleteById(any());
+        verify(events).publishEvent(any(AircraftChangedEvent.class));
     }
 
     @Test
     @DisplayName("delete quando não existe deve lançar AircraftNotFoundException")
     void delete_QuandoNaoExiste_DeveLancarExcecao() {
-        when(repository.existsById(999L)).thenReturn(false);
+        when(repository.findById(999L)).thenReturn(Optional.empty());
 
-        assertThatThrownBy(() -> service.delete(999L))
+        assertThatThrownBy(() -> service.delete(999L, null))
                 .isInstanceOf(AircraftNotFoundException.class)
                 .hasMessageContaining("Aircraft not found for deletion with ID: 999");
 
-        verify(repository).existsById(999L);
-        verify(repository, never()).deleteById(any());
+        verify(repository, never()).delete(any(Aircraft.class));
+        verify(events, never()).publishEvent(any());
     }
 
     @Test
@@ -213,11 +452,103 @@ class AircraftServiceTest {
         verify(repository).countBySoldFalse();
     }
 
+    @Test
+    @DisplayName("countUnsold com estatísticas prontas não deve consultar o banco")
+    void countUnsold_ComEstatisticasProntas_NaoDeveConsultarBanco() {
+        when(statistics.isReady()).thenReturn(true);
+        when(statistics.countUnsold()).thenReturn(7L);
+
+        long result = service.countUnsold();
+
+        assertThat(result).isEqualTo(7L);
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("count com snapshot pronto deve responder sem consultar o banco")
+    void count_ComSnapshotPronto_NaoDeveConsultarBanco() {
+        FleetFilter filter = new FleetFilter(Brand.EMBRAER, false, null, null, null, null);
+        when(snapshot.isReady()).thenReturn(true);
+        when(snapshot.count(filter)).thenReturn(4L);
+
+        assertThat(service.count(filter)).isEqualTo(4L);
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("count sem snapshot deve consultar o repositório com os filtros")
+    void count_SemSnapshot_DeveConsultarRepositorio() {
+        when(repository.count(ArgumentMatchers.<PredicateSpecification<Aircraft>>any())).thenReturn(9L);
+
+        long result = service.count(new FleetFilter(null, true, 2000, null, null, null));
+
+        assertThat(result).isEqualTo(9L);
+        verifyNoInteractions(entityManager);
+    }
+
+    @Test
+    @DisplayName("getFleetRevision com snapshot pronto não deve consultar o banco")
+    void getFleetRevision_ComSnapshotPronto_NaoDeveConsultarBanco() {
+        FleetRevision revision = mock(FleetRevision.class);
+        when(snapshot.isReady()).thenReturn(true);
+        when(snapshot.getRevision()).thenReturn(revision);
+
+        assertThat(service.getFleetRevision()).isSameAs(revision);
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("getFleetRevision sem snapshot deve consultar o banco")
+    void getFleetRevision_SemSnapshot_DeveConsultarBanco() {
+        FleetRevision revision = mock(FleetRevision.class);
+        when(repository.findFleetRevision()).thenReturn(revision);
+
+        assertThat(service.getFleetRevision()).isSameAs(revision);
+    }
+
+    @Test
+    @DisplayName("aggregate com snapshot pronto deve responder sem consultar o banco")
+    void aggregate_ComSnapshotPronto_NaoDeveConsultarBanco() {
+        FleetAggregation aggregation = FleetAggregation.parse(new String[] { "brand" }, null, FleetFilter.none());
+        FleetAggregationDTO groups = new FleetAggregationDTO(List.of());
+        when(snapshot.isReady()).thenReturn(true);
+        when(snapshot.aggregate(aggregation)).thenReturn(Optional.of(groups));
+
+        assertThat(service.aggregate(aggregation)).isSameAs(groups);
+        verifyNoInteractions(aggregationRepository);
+    }
+
+    @Test
+    @DisplayName("aggregate com grupos demais para o snapshot deve consultar o banco")
+    void aggregate_ComGruposDemais_DeveConsultarBanco() {
+        FleetAggregation aggregation = FleetAggregation.parse(new String[] { "year,createdDay" }, null,
+                FleetFilter.none());
+        FleetAggregationDTO groups = new FleetAggregationDTO(List.of());
+        when(snapshot.isReady()).thenReturn(true);
+        when(snapshot.aggregate(aggregation)).thenReturn(Optional.empty());
+        when(aggregationRepository.aggregate(aggregation)).thenReturn(groups);
+
+        assertThat(service.aggregate(aggregation)).isSameAs(groups);
+    }
+
+    @Test
+    @DisplayName("countLastWeek deve contar aeronaves criadas na última semana")
+    void countLastWeek_DeveContarAeronavesRecentes() {
+        when(repository.countByCreatedAfter(any(LocalDateTime.class))).thenReturn(2L);
+
+        assertThat(service.countLastWeek()).isEqualTo(2L);
+
+        when(statistics.isReady()).thenReturn(true);
+        when(statistics.countCreatedSince(any(LocalDateTime.class))).thenReturn(3L);
+
+        assertThat(service.countLastWeek()).isEqualTo(3L);
+        verify(repository).countByCreatedAfter(any(LocalDateTime.class));
+    }
+
     @Test
     @DisplayName("findLastWeek deve retornar aeronaves criadas na última semana")
     void findLastWeek_DeveRetornarAeronavesCriadasNaUltimaSemana() {
-        when(repository.findByCreatedAfter(any(LocalDateTime.class))).thenReturn(List.of(aircraft));
-        when(mapper.toDTO(aircraft)).thenReturn(aircraftDTO);
+        when(repository.findByCreatedAfter(any(LocalDateTime.class))).thenReturn(views(aircraftDTO));
 
         List<AircraftDTO> result = service.findLastWeek();
 
@@ -228,14 +559,91 @@ class AircraftServiceTest {
     @Test
     @DisplayName("listByDecade deve agrupar aeronaves por década")
     void listByDecade_DeveAgruparPorDecada() {
-        Aircraft a1 = createAircraft(1L, "E195", Brand.EMBRAER, 2020, "Desc", false);
-        Aircraft a2 = createAircraft(2L, "E190", Brand.EMBRAER, 2015, "Desc", false);
-        when(repository.findAll()).thenReturn(List.of(a1, a2));
+        when(repository.countByDecade()).thenReturn(List.of(decadeCount(2020, 1L), decadeCount(2010, 1L)));
 
         Map<Integer, Long> result = service.listByDecade();
 
         assertThat(result).containsEntry(2020, 1L).containsEntry(2010, 1L);
-        verify(repository).findAll();
+        verify(repository).countByDecade();
+        verify(repository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("listByDecade com estatísticas prontas não deve consultar o banco")
+    void listByDecade_ComEstatisticasProntas_NaoDeveConsultarBanco() {
+        when(statistics.isReady()).thenReturn(true);
+        when(statistics.countByDecade()).thenReturn(Map.of(2020, 4L));
+
+        assertThat(service.listByDecade()).containsExactly(Map.entry(2020, 4L));
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("getOverview com estatísticas prontas não deve consultar o banco")
+    void getOverview_ComEstatisticasProntas_NaoDeveConsultarBanco() {
+        FleetStatisticsDTO overview = new FleetStatisticsDTO(1L, 1L, Map.of(2020, 1L), Map.of(), Map.of(), Map.of());
+        when(statistics.isReady()).thenReturn(true);
+        when(statistics.getOverview()).thenReturn(overview);
+
+        assertThat(service.getOverview()).isSameAs(overview);
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("getOverview deve consolidar os grupos por década, marca e status de venda")
+    void getOverview_DeveConsolidarGrupos() {
+        when(repository.countByBrandDecadeAndSold()).thenReturn(List.of(
+                groupCount(Brand.EMBRAER, 2020, false, 3L),
+                groupCount(Brand.EMBRAER, 2010, true, 2L),
+                groupCount(Brand.BOEING, 2020, true, 1L)));
+
+        FleetStatisticsDTO result = service.getOverview();
+
+        assertThat(result.getTotal()).isEqualTo(6L);
+        assertThat(result.getUnsold()).isEqualTo(3L);
+        assertThat(result.getByDecade()).containsEntry(2020, 4L).containsEntry(2010, 2L);
+        assertThat(result.getByBrand()).containsEntry(Brand.EMBRAER, 5L).containsEntry(Brand.BOEING, 1L);
+        assertThat(result.getBySold()).containsEntry(true, 3L).containsEntry(false, 3L);
+        assertThat(result.getByBrandAndDecade().get(Brand.EMBRAER)).containsEntry(2020, 3L).containsEntry(2010, 2L);
+        verify(repository, never()).findAll();
+    }
+
+    private DecadeCount decadeCount(Integer decade, Long total) {
+        return new DecadeCount() {
+            @Override
+            public Integer getDecade() {
+                return decade;
+            }
+
+            @Override
+            public Long getTotal() {
+                return total;
+            }
+        };
+    }
+
+    private FleetGroupCount groupCount(Brand brand, Integer decade, Boolean sold, Long total) {
+        return new FleetGroupCount() {
+            @Override
+            public Brand getBrand() {
+                return brand;
+            }
+
+            @Override
+            public Integer getDecade() {
+                return decade;
+            }
+
+            @Override
+            public Boolean getSold() {
+                return sold;
+            }
+
+            @Override
+            public Long getTotal() {
+                return total;
+            }
+        };
     }
 
     private Aircraft createAircraft(Long id, String name, Brand brand, int year, String description, boolean sold) {
@@ -251,6 +659,15 @@ class AircraftServiceTest {
         return a;
     }
 
+    private List<AircraftView> views(AircraftDTO... dtos) {
+        List<AircraftView> views = new ArrayList<>();
+        for (AircraftDTO dto : dtos) {
+            views.add(new AircraftView(dto.getId(), dto.getName(), dto.getBrand(), dto.getYear(),
+                    dto.getDescription(), dto.isSold(), dto.getVersion(), dto.getCreated(), dto.getUpdated()));
+        }
+        return views;
+    }
+
     private AircraftDTO createAircraftDTO(Long id, String name, Brand brand, int year, String description,
             boolean sold) {
         AircraftDTO dto = new AircraftDTO();
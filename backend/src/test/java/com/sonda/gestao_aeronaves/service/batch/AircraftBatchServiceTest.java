@@ -0,0 +1,143 @@
+package com.sonda.gestao_aeronaves.service.batch;
+
+import com.sonda.gestao_aeronaves.domain.Brand;
+import com.sonda.gestao_aeronaves.persistence.repository.AircraftRepository;
+import com.sonda.gestao_aeronaves.web.dto.AircraftDTO;
+import com.sonda.gestao_aeronaves.web.dto.BatchItemResultDTO;
+import com.sonda.gestao_aeronaves.web.dto.BatchItemResultDTO.Status;
+import com.sonda.gestao_aeronaves.web.dto.BatchResultDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class AircraftBatchServiceTest {
+
+    @Autowired
+    private AircraftBatchService service;
+
+    @Autowired
+    private AircraftRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("createAll deve gravar itens válidos em vários chunks e rejeitar inválidos")
+    void createAll_DeveGravarValidosERejeitarInvalidos() {
+        List<AircraftDTO> items = new ArrayList<>();
+        IntStream.range(0, AircraftBatchService.CHUNK_SIZE + 10)
+                .forEach(i -> items.add(createAircraftDTO(null, "E" + i, 2000 + i % 20)));
+        items.add(createAircraftDTO(null, "", 2020));
+        items.add(createAircraftDTO(null, "Futuro", Year.now().getValue() + 1));
+
+        BatchResultDTO result = service.createAll(items);
+
+        assertThat(result.getTotal()).isEqualTo(items.size());
+        assertThat(result.getSucceeded()).isEqualTo(AircraftBatchService.CHUNK_SIZE + 10);
+        assertThat(result.getFailed()).isEqualTo(2);
+        assertThat(result.getItems().get(0).getStatus()).isEqualTo(Status.CREATED);
+        assertThat(result.getItems().get(0).getId()).isNotNull();
+        BatchItemResultDTO blankName = result.getItems().get(items.size() - 2);
+        assertThat(blankName.getStatus()).isEqualTo(Status.REJECTED);
+        assertThat(blankName.getErrors()).anyMatch(error -> error.startsWith("name:"));
+        assertThat(result.getItems().get(items.size() - 1).getErrors()).anyMatch(error -> error.startsWith("year:"));
+        assertThat(repository.count()).isEqualTo(AircraftBatchService.CHUNK_SIZE + 10);
+    }
+
+    @Test
+    @DisplayName("updateAll deve atualizar existentes e reportar IDs inexistentes")
+    void updateAll_DeveAtualizarEReportarInexistentes() {
+        Long id = service.createAll(List.of(createAircraftDTO(null, "E195", 2020))).getItems().get(0).getId();
+
+        BatchResultDTO result = service.updateAll(List.of(
+                createAircraftDTO(id, "E195-E2", 2021),
+                createAircraftDTO(Long.MAX_VALUE, "Fantasma", 2020),
+                createAircraftDTO(null, "Sem ID", 2020)));
+
+        assertThat(result.getItems()).extracting(BatchItemResultDTO::getStatus)
+                .containsExactly(Status.UPDATED, Status.NOT_FOUND, Status.REJECTED);
+        assertThat(repository.findById(id)).get()
+                .satisfies(aircraft -> {
+                    assertThat(aircraft.getName()).isEqualTo("E195-E2");
+                    assertThat(aircraft.getCreated()).isNotNull();
+                });
+    }
+
+    @Test
+    @DisplayName("updateAll deve reportar conflito por item quando a versão enviada estiver desatualizada")
+    void updateAll_ComVersaoDesatualizada_DeveReportarConflito() {
+        List<Long> ids = service.createAll(List.of(
+                        createAircraftDTO(null, "A320", 2015),
+                        createAircraftDTO(null, "A330", 2012),
+                        createAircraftDTO(null, "A350", 2018)))
+                .getItems().stream().map(BatchItemResultDTO::getId).toList();
+        service.updateAll(List.of(createAircraftDTO(ids.get(1), "A330neo", 2019)));
+
+        AircraftDTO current = createAircraftDTO(ids.get(0), "A320neo", 2016);
+        current.setVersion(0L);
+        AircraftDTO stale = createAircraftDTO(ids.get(1), "A330-200", 2013);
+        stale.setVersion(0L);
+        AircraftDTO unversioned = createAircraftDTO(ids.get(2), "A350-1000", 2019);
+
+        BatchResultDTO result = service.updateAll(List.of(current, stale, unversioned));
+
+        assertThat(result.getItems()).extracting(BatchItemResultDTO::getStatus)
+                .containsExactly(Status.UPDATED, Status.CONFLICT, Status.UPDATED);
+        assertThat(result.getItems().get(1).getErrors()).anyMatch(error -> error.startsWith("version:"));
+        assertThat(result.getFailed()).isEqualTo(1);
+        assertThat(repository.findById(ids.get(0))).get().extracting("name").isEqualTo("A320neo");
+        assertThat(repository.findById(ids.get(1))).get()
+                .satisfies(aircraft -> {
+                    assertThat(aircraft.getName()).isEqualTo("A330neo");
+                    assertThat(aircraft.getVersion()).isEqualTo(1L);
+                });
+    }
+
+    @Test
+    @DisplayName("deleteAll deve remover existentes e reportar IDs inexistentes")
+    void deleteAll_DeveRemoverEReportarInexistentes() {
+        BatchResultDTO created = service.createAll(List.of(
+                createAircraftDTO(null, "A320", 2015),
+                createAircraftDTO(null, "A330", 2012)));
+        List<Long> ids = created.getItems().stream().map(BatchItemResultDTO::getId).toList();
+
+        BatchResultDTO result = service.deleteAll(Arrays.asList(ids.get(0), ids.get(1), Long.MAX_VALUE, null));
+
+        assertThat(result.getItems()).extracting(BatchItemResultDTO::getStatus)
+                .containsExactly(Status.DELETED, Status.DELETED, Status.NOT_FOUND, Status.REJECTED);
+        assertThat(repository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("lote vazio deve lançar IllegalArgumentException")
+    void createAll_ComLoteVazio_DeveLancarExcecao() {
+        assertThatThrownBy(() -> service.createAll(List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private AircraftDTO createAircraftDTO(Long id, String name, int year) {
+        AircraftDTO dto = new AircraftDTO();
+        dto.setId(id);
+        dto.setName(name);
+        dto.setBrand(Brand.AIRBUS);
+        dto.setYear(year);
+        dto.setDescription("Descrição " + name);
+        return dto;
+    }
+}
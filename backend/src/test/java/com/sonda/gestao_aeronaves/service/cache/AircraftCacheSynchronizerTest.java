@@ -0,0 +1,121 @@
+package com.sonda.gestao_aeronaves.service.cache;
+
+import com.sonda.gestao_aeronaves.config.CacheConfig;
+import com.sonda.gestao_aeronaves.domain.Brand;
+import com.sonda.gestao_aeronaves.mapper.AircraftMapper;
+import com.sonda.gestao_aeronaves.persistence.entity.Aircraft;
+import com.sonda.gestao_aeronaves.service.AircraftService;
+import com.sonda.gestao_aeronaves.web.dto.AircraftDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class AircraftCacheSynchronizerTest {
+
+    @Autowired
+    private AircraftService service;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockitoSpyBean
+    private AircraftMapper mapper;
+
+    private Cache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = cacheManager.getCache(CacheConfig.AIRCRAFT_CACHE);
+        cache.clear();
+    }
+
+    @Test
+    @DisplayName("save deve popular o cache e findById deve ser atendido por ele")
+    void save_DevePopularCache() {
+        AircraftDTO saved = service.save(createAircraftDTO("E195", 2020));
+
+        assertThat(cache.get(saved.getId(), AircraftDTO.class)).isEqualTo(saved);
+        assertThat(service.findById(saved.getId())).isSameAs(cache.get(saved.getId(), AircraftDTO.class));
+
+        service.delete(saved.getId(), null);
+    }
+
+    @Test
+    @DisplayName("update e delete devem invalidar a entrada do cache")
+    void updateEDelete_DevemInvalidarCache() {
+        AircraftDTO saved = service.save(createAircraftDTO("E190", 2015));
+
+        service.update(saved.getId(), createAircraftDTO("E190-E2", 2018), null);
+
+        assertThat(cache.get(saved.getId())).isNull();
+        assertThat(service.findById(saved.getId()).getName()).isEqualTo("E190-E2");
+        assertThat(cache.get(saved.getId())).isNotNull();
+
+        service.delete(saved.getId(), null);
+
+        assertThat(cache.get(saved.getId())).isNull();
+    }
+
+    @Test
+    @DisplayName("leitura iniciada antes do commit de um update não deve deixar a versão antiga no cache")
+    void findById_IntercaladoComUpdate_NaoDeveManterVersaoAntiga() throws Exception {
+        AircraftDTO saved = service.save(createAircraftDTO("E175", 2010));
+        cache.evict(saved.getId());
+        CountDownLatch read = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            Object result = invocation.callRealMethod();
+            if (Thread.currentThread().getName().equals("cache-loader")) {
+                read.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return result;
+        }).when(mapper).toDTO(any(Aircraft.class));
+
+        Thread loader = new Thread(() -> service.findById(saved.getId()), "cache-loader");
+        loader.start();
+        assertThat(read.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<AircraftDTO> update = CompletableFuture.supplyAsync(
+                () -> service.update(saved.getId(), createAircraftDTO("E175-E2", 2020), null));
+        // The old row is read; give the update time to commit and evict before the load
+        // is stored. Its eviction is expected to wait for the load instead.
+        try {
+            update.get(500, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException expected) {
+            // still waiting for the load
+        }
+        release.countDown();
+        loader.join(Duration.ofSeconds(5));
+        update.get(5, TimeUnit.SECONDS);
+
+        assertThat(service.findById(saved.getId()).getName()).isEqualTo("E175-E2");
+        service.delete(saved.getId(), null);
+    }
+
+    private AircraftDTO createAircraftDTO(String name, int year) {
+        AircraftDTO dto = new AircraftDTO();
+        dto.setName(name);
+        dto.setBrand(Brand.EMBRAER);
+        dto.setYear(year);
+        dto.setDescription("Descrição " + name);
+        return dto;
+    }
+}
@@ -0,0 +1,103 @@
+package com.sonda.gestao_aeronaves.service.export;
+
+import com.sonda.gestao_aeronaves.domain.Brand;
+import com.sonda.gestao_aeronaves.persistence.repository.AircraftRepository;
+import com.sonda.gestao_aeronaves.service.batch.AircraftBatchService;
+import com.sonda.gestao_aeronaves.web.dto.AircraftDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class AircraftExportServiceTest {
+
+    @Autowired
+    private AircraftExportService service;
+
+    @Autowired
+    private AircraftBatchService batchService;
+
+    @Autowired
+    private AircraftRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("export deve escrever CSV filtrado, escapando campos, atravessando vários clears")
+    void export_Csv_DeveFiltrarEEscapar() throws IOException {
+        List<AircraftDTO> items = new ArrayList<>();
+        IntStream.range(0, AircraftExportService.CLEAR_INTERVAL + 10)
+                .forEach(i -> items.add(createAircraftDTO("E" + i, Brand.EMBRAER, "Jato", i % 2 == 0)));
+        items.add(createAircraftDTO("A320", Brand.AIRBUS, "Narrow body, \"neo\"", false));
+        batchService.createAll(items);
+
+        String all = export(ExportFilter.none(), ExportFormat.CSV);
+        String[] lines = all.split("\r\n");
+        assertThat(lines[0]).isEqualTo(AircraftCsvWriter.HEADER);
+        assertThat(lines).hasSize(items.size() + 1);
+        assertThat(lines[lines.length - 1]).contains(",A320,AIRBUS,2020,\"Narrow body, \"\"neo\"\"\",false,");
+
+        String soldEmbraer = export(new ExportFilter(Brand.EMBRAER, true, null, null), ExportFormat.CSV);
+        assertThat(soldEmbraer.split("\r\n")).hasSize((AircraftExportService.CLEAR_INTERVAL + 10) / 2 + 1);
+    }
+
+    @Test
+    @DisplayName("export deve escrever NDJSON com uma aeronave por linha respeitando o intervalo de criação")
+    void export_Ndjson_DeveRespeitarIntervalo() throws IOException {
+        batchService.createAll(List.of(
+                createAircraftDTO("E195", Brand.EMBRAER, "Jato", false),
+                createAircraftDTO("737", Brand.BOEING, "Jato", true)));
+        LocalDateTime now = LocalDateTime.now();
+
+        String recent = export(new ExportFilter(null, null, now.minusHours(1), now.plusHours(1)), ExportFormat.NDJSON);
+        String future = export(new ExportFilter(null, null, now.plusHours(1), null), ExportFormat.NDJSON);
+
+        String[] lines = recent.split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[1]).contains("\"name\":\"737\"");
+        assertThat(future).isEmpty();
+    }
+
+    @Test
+    @DisplayName("ExportFilter deve rejeitar intervalo de criação invertido")
+    void exportFilter_IntervaloInvertido_DeveLancarExcecao() {
+        LocalDateTime now = LocalDateTime.now();
+
+        assertThatThrownBy(() -> new ExportFilter(null, null, now, now.minusDays(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private String export(ExportFilter filter, ExportFormat format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.export(filter, format, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private AircraftDTO createAircraftDTO(String name, Brand brand, String description, boolean sold) {
+        AircraftDTO dto = new AircraftDTO();
+        dto.setName(name);
+        dto.setBrand(brand);
+        dto.setYear(2020);
+        dto.setDescription(description);
+        dto.setSold(sold);
+        return dto;
+    }
+}
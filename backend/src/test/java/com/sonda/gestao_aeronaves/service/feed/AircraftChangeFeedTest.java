@@ -0,0 +1,116 @@
+package com.sonda.gestao_aeronaves.service.feed;
+
+import com.sonda.gestao_aeronaves.service.event.AircraftChangedEvent;
+import com.sonda.gestao_aeronaves.service.statistics.FleetStatistics;
+import com.sonda.gestao_aeronaves.web.dto.AircraftDTO;
+import com.sonda.gestao_aeronaves.web.dto.FleetStatisticsDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AircraftChangeFeedTest {
+
+    @Mock
+    private FleetStatistics statistics;
+
+    private AircraftChangeFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        feed = new AircraftChangeFeed(statistics, 3);
+    }
+
+    @Test
+    @DisplayName("Mudanças devem ser numeradas e levar as estatísticas atualizadas")
+    void onAircraftChanged_DeveNumerarEAnexarEstatisticas() throws InterruptedException {
+        FleetStatisticsDTO overview = new FleetStatisticsDTO(1L, 1L, Map.of(2020, 1L), Map.of(), Map.of(), Map.of());
+        when(statistics.isReady()).thenReturn(true);
+        when(statistics.getOverview()).thenReturn(overview);
+        when(statistics.countCreatedSince(any())).thenReturn(1L);
+
+        feed.onAircraftChanged(AircraftChangedEvent.created(aircraft(1L)));
+
+        AircraftChangeFeed.Batch batch = feed.awaitAfter(0, Duration.ZERO);
+        assertThat(batch.gap()).isFalse();
+        assertThat(batch.last()).isEqualTo(1L);
+        assertThat(batch.events()).singleElement().satisfies(event -> {
+            assertThat(event.sequence()).isEqualTo(1L);
+            assertThat(event.change().getType()).isEqualTo(AircraftChangedEvent.Type.CREATED);
+            assertThat(event.change().getStatistics()).isSameAs(overview);
+            assertThat(event.change().getCreatedLastWeek()).isEqualTo(1L);
+        });
+    }
+
+    @Test
+    @DisplayName("Leitor deve receber apenas as mudanças após o último id visto")
+    void awaitAfter_DeveReenviarMudancasPerdidas() throws InterruptedException {
+        feed.onAircraftChanged(AircraftChangedEvent.created(aircraft(1L)));
+        feed.onAircraftChanged(AircraftChangedEvent.updated(aircraft(1L)));
+        feed.onAircraftChanged(AircraftChangedEvent.deleted(1L));
+
+        AircraftChangeFeed.Batch batch = feed.awaitAfter(1, Duration.ZERO);
+
+        assertThat(batch.gap()).isFalse();
+        assertThat(batch.events()).extracting(AircraftChangeFeed.ChangeEvent::sequence).containsExactly(2L, 3L);
+        assertThat(batch.events().get(1).change().getAircraft()).isNull();
+        assertThat(batch.events().get(1).change().getStatistics()).isNull();
+    }
+
+    @Test
+    @DisplayName("Leitor atrasado além do buffer deve receber uma lacuna")
+    void awaitAfter_ForaDoBuffer_DeveSinalizarLacuna() throws InterruptedException {
+        for (long id = 1; id <= 5; id++) {
+            feed.onAircraftChanged(AircraftChangedEvent.created(aircraft(id)));
+        }
+
+        AircraftChangeFeed.Batch batch = feed.awaitAfter(1, Duration.ZERO);
+
+        assertThat(batch.gap()).isTrue();
+        assertThat(batch.events()).isEmpty();
+        assertThat(batch.last()).isEqualTo(5L);
+        assertThat(feed.awaitAfter(2, Duration.ZERO).events()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Id à frente do feed (servidor reiniciado) deve sinalizar lacuna")
+    void awaitAfter_IdDesconhecido_DeveSinalizarLacuna() throws InterruptedException {
+        assertThat(feed.awaitAfter(42, Duration.ZERO).gap()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Leitor em espera deve acordar quando uma mudança é publicada")
+    void awaitAfter_DeveAguardarNovaMudanca() throws Exception {
+        CompletableFuture<AircraftChangeFeed.Batch> waiting = CompletableFuture.supplyAsync(() -> {
+            try {
+                return feed.awaitAfter(0, Duration.ofSeconds(10));
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        feed.onAircraftChanged(AircraftChangedEvent.created(aircraft(1L)));
+
+        assertThat(waiting.get(5, TimeUnit.SECONDS).events()).hasSize(1);
+    }
+
+    private AircraftDTO aircraft(Long id) {
+        AircraftDTO dto = new AircraftDTO();
+        dto.setId(id);
+        dto.setName("E195-E2");
+        dto.setYear(2020);
+        return dto;
+    }
+}
@@ -0,0 +1,137 @@
+package com.sonda.gestao_aeronaves.service.importer;
+
+import com.sonda.gestao_aeronaves.domain.exception.ImportAlreadyStartedException;
+import com.sonda.gestao_aeronaves.domain.exception.ImportJobNotFoundException;
+import com.sonda.gestao_aeronaves.persistence.repository.AircraftRepository;
+import com.sonda.gestao_aeronaves.web.dto.ImportJobDTO;
+import com.sonda.gestao_aeronaves.web.dto.ImportJobDTO.Status;
+import com.sonda.gestao_aeronaves.web.dto.ImportRejectDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class AircraftImportServiceTest {
+
+    @Autowired
+    private AircraftImportService service;
+
+    @Autowired
+    private AircraftRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("upload deve importar CSV em vários chunks e rejeitar linhas inválidas")
+    void upload_Csv_DeveImportarERejeitarInvalidas() throws InterruptedException {
+        int valid = AircraftImportService.CHUNK_SIZE * 3 + 7;
+        String csv = "nome,marca,ano,descricao,vendido\n"
+                + IntStream.range(0, valid)
+                        .mapToObj(i -> "E" + i + ",embraer," + (2000 + i % 20) + ",\"Jato, regional\",sim")
+                        .collect(Collectors.joining("\n"))
+                + "\nSem marca,,2020,x,nao"
+                + "\nAno ruim,BOEING,abc,x,0\n";
+        byte[] bytes = csv.getBytes(StandardCharsets.UTF_8);
+
+        ImportJobDTO job = await(upload(new ByteArrayInputStream(bytes), ImportFormat.CSV, bytes.length));
+
+        assertThat(job.getStatus()).isEqualTo(Status.COMPLETED);
+        assertThat(job.getBytesRead()).isEqualTo(bytes.length);
+        assertThat(job.getRowsRead()).isEqualTo(valid + 2);
+        assertThat(job.getImported()).isEqualTo(valid);
+        assertThat(job.getRejected()).isEqualTo(2);
+        assertThat(job.getRejects()).extracting(ImportRejectDTO::getLine)
+                .containsExactlyInAnyOrder((long) valid + 2, (long) valid + 3);
+        assertThat(repository.count()).isEqualTo(valid);
+        assertThat(repository.countBySoldFalse()).isZero();
+    }
+
+    @Test
+    @DisplayName("upload deve importar NDJSON e reportar a linha do JSON inválido")
+    void upload_Ndjson_DeveReportarLinhaInvalida() throws InterruptedException {
+        String ndjson = """
+                {"name":"A320","brand":"AIRBUS","year":2015,"description":"Narrow body","sold":true}
+
+                {"name":"quebrado"
+                {"name":"737","brand":"BOEING","year":2010,"description":"Narrow body","sold":false}
+                """;
+        byte[] bytes = ndjson.getBytes(StandardCharsets.UTF_8);
+
+        ImportJobDTO job = await(upload(new ByteArrayInputStream(bytes), ImportFormat.NDJSON, -1));
+
+        assertThat(job.getStatus()).isEqualTo(Status.COMPLETED);
+        assertThat(job.getImported()).isEqualTo(2);
+        assertThat(job.getRejects()).singleElement()
+                .satisfies(reject -> assertThat(reject.getLine()).isEqualTo(3));
+    }
+
+    @Test
+    @DisplayName("upload deve falhar o job quando faltam colunas obrigatórias")
+    void upload_CabecalhoIncompleto_DeveFalhar() throws InterruptedException {
+        byte[] bytes = "name,brand\nE195,EMBRAER\n".getBytes(StandardCharsets.UTF_8);
+
+        ImportJobDTO job = await(upload(new ByteArrayInputStream(bytes), ImportFormat.CSV, bytes.length));
+
+        assertThat(job.getStatus()).isEqualTo(Status.FAILED);
+        assertThat(job.getError()).contains("year");
+        assertThat(repository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("createJob deve devolver o job pendente antes do envio do arquivo")
+    void createJob_DeveDevolverJobPendente() {
+        ImportJobDTO created = service.createJob();
+
+        ImportJobDTO polled = service.getJob(created.getId());
+        assertThat(polled.getStatus()).isEqualTo(Status.PENDING);
+        assertThat(polled.getFormat()).isNull();
+        assertThat(polled.getStartedAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("upload deve recusar um segundo envio para o mesmo job")
+    void upload_Repetido_DeveLancarExcecao() throws InterruptedException {
+        byte[] bytes = "{\"name\":\"A320\",\"brand\":\"AIRBUS\",\"year\":2015,\"description\":\"x\"}\n"
+                .getBytes(StandardCharsets.UTF_8);
+        ImportJobDTO job = await(upload(new ByteArrayInputStream(bytes), ImportFormat.NDJSON, bytes.length));
+
+        assertThatThrownBy(() -> service.upload(job.getId(), new ByteArrayInputStream(bytes), ImportFormat.NDJSON,
+                bytes.length)).isInstanceOf(ImportAlreadyStartedException.class);
+        assertThat(repository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("getJob deve lançar exceção para job inexistente")
+    void getJob_Inexistente_DeveLancarExcecao() {
+        assertThatThrownBy(() -> service.getJob(UUID.randomUUID()))
+                .isInstanceOf(ImportJobNotFoundException.class);
+    }
+
+    private ImportJobDTO upload(ByteArrayInputStream body, ImportFormat format, long totalBytes) {
+        return service.upload(service.createJob().getId(), body, format, totalBytes);
+    }
+
+    private ImportJobDTO await(ImportJobDTO job) throws InterruptedException {
+        for (int i = 0; i < 200 && job.getStatus() == Status.RUNNING; i++) {
+            Thread.sleep(50);
+            job = service.getJob(job.getId());
+        }
+        return job;
+    }
+}
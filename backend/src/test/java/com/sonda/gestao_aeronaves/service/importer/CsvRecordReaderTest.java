@@ -0,0 +1,36 @@
+package com.sonda.gestao_aeronaves.service.importer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvRecordReaderTest {
+
+    @Test
+    @DisplayName("next deve ler campos entre aspas com delimitador, aspas duplicadas e quebra de linha")
+    void next_CamposEntreAspas_DeveLerCorretamente() throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader(
+                "name,description\r\nE195,\"Jato, regional\"\n\"A\"\"320\",\"linha 1\nlinha 2\"\nfim,x"), ',');
+
+        assertThat(reader.next()).containsExactly("name", "description");
+        assertThat(reader.next()).containsExactly("E195", "Jato, regional");
+        assertThat(reader.getRecordLine()).isEqualTo(2);
+        assertThat(reader.next()).containsExactly("A\"320", "linha 1\nlinha 2");
+        assertThat(reader.next()).containsExactly("fim", "x");
+        assertThat(reader.getRecordLine()).isEqualTo(5);
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("next deve falhar quando um campo entre aspas não é fechado")
+    void next_AspasNaoFechadas_DeveLancarExcecao() throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader("a,\"b\nc"), ',');
+
+        assertThatThrownBy(reader::next).isInstanceOf(IOException.class);
+    }
+}
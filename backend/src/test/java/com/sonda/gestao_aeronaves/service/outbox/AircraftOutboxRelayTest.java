@@ -0,0 +1,137 @@
+package com.sonda.gestao_aeronaves.service.outbox;
+
+import com.sonda.gestao_aeronaves.domain.Brand;
+import com.sonda.gestao_aeronaves.persistence.entity.AircraftOutboxEntry;
+import com.sonda.gestao_aeronaves.persistence.repository.AircraftOutboxRepository;
+import com.sonda.gestao_aeronaves.persistence.repository.AircraftRepository;
+import com.sonda.gestao_aeronaves.service.AircraftService;
+import com.sonda.gestao_aeronaves.service.batch.AircraftBatchService;
+import com.sonda.gestao_aeronaves.service.event.AircraftChangedEvent.Type;
+import com.sonda.gestao_aeronaves.web.dto.AircraftDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@RecordApplicationEvents
+class AircraftOutboxRelayTest {
+
+    @Autowired
+    private AircraftOutboxRelay relay;
+
+    @Autowired
+    private AircraftService service;
+
+    @Autowired
+    private AircraftBatchService batchService;
+
+    @Autowired
+    private AircraftRepository repository;
+
+    @Autowired
+    private AircraftOutboxRepository outbox;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAllInBatch();
+        outbox.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Mudanças devem ser entregues em ordem e marcadas como publicadas")
+    void relay_DeveEntregarMudancasEmOrdem() {
+        AircraftDTO saved = service.save(createAircraftDTO("E195-E2"));
+        saved.setSold(true);
+        service.update(saved.getId(), saved, null);
+        service.delete(saved.getId(), null);
+
+        assertThat(relay.relay()).isEqualTo(3);
+
+        List<AircraftOutboxMessage> messages = events.stream(AircraftOutboxMessage.class).toList();
+        assertThat(messages).extracting(AircraftOutboxMessage::type)
+                .containsExactly(Type.CREATED, Type.UPDATED, Type.DELETED);
+        assertThat(messages).extracting(AircraftOutboxMessage::aircraftId).containsOnly(saved.getId());
+        assertThat(messages).extracting(AircraftOutboxMessage::sequence).isSorted();
+        assertThat(messages.get(1).aircraft()).contains("\"sold\":true");
+        assertThat(messages.get(2).aircraft()).isNull();
+        assertThat(outbox.findAll()).allMatch(AircraftOutboxEntry::isPublished);
+        assertThat(relay.relay()).isZero();
+    }
+
+    @Test
+    @DisplayName("Transação desfeita não deve deixar registro no outbox")
+    void writer_TransacaoDesfeita_NaoDeveGravar() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            service.save(createAircraftDTO("E195-E2"));
+            status.setRollbackOnly();
+        });
+
+        assertThat(outbox.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Lote deve gravar uma entrada por aeronave na mesma transação")
+    void writer_Lote_DeveGravarUmaEntradaPorAeronave() {
+        batchService.createAll(IntStream.range(0, 120)
+                .mapToObj(i -> createAircraftDTO("A320-" + i))
+                .toList());
+
+        assertThat(outbox.count()).isEqualTo(120);
+        assertThat(relay.relay()).isEqualTo(120);
+    }
+
+    @Test
+    @DisplayName("Compactação deve manter a última mudança de cada aeronave e as não publicadas")
+    void compact_DeveManterUltimaMudancaPorAeronave() {
+        AircraftDTO kept = service.save(createAircraftDTO("E195-E2"));
+        service.update(kept.getId(), kept, null);
+        AircraftDTO removed = service.save(createAircraftDTO("A320neo"));
+        service.delete(removed.getId(), null);
+        AircraftDTO pending = service.save(createAircraftDTO("737 MAX"));
+        relay.relay();
+        service.update(pending.getId(), pending, null);
+        outbox.saveAll(outbox.findAll().stream()
+                .peek(entry -> entry.setCreated(LocalDateTime.now().minusYears(1)))
+                .toList());
+
+        assertThat(relay.compact()).isEqualTo(4);
+
+        assertThat(outbox.findAll())
+                .extracting(AircraftOutboxEntry::getAircraftId, AircraftOutboxEntry::getType,
+                        AircraftOutboxEntry::isPublished)
+                .containsExactlyInAnyOrder(
+                        tuple(kept.getId(), Type.UPDATED, true),
+                        tuple(pending.getId(), Type.UPDATED, false));
+    }
+
+    private AircraftDTO createAircraftDTO(String name) {
+        AircraftDTO dto = new AircraftDTO();
+        dto.setName(name);
+        dto.setBrand(Brand.EMBRAER);
+        dto.setYear(2020);
+        dto.setDescription("Jato regional");
+        dto.setSold(false);
+        return dto;
+    }
+}
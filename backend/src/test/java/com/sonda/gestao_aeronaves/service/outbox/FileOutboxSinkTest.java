@@ -0,0 +1,36 @@
+package com.sonda.gestao_aeronaves.service.outbox;
+
+import com.sonda.gestao_aeronaves.service.event.AircraftChangedEvent.Type;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileOutboxSinkTest {
+
+    @TempDir
+    private Path dir;
+
+    @Test
+    @DisplayName("publish deve acrescentar uma linha JSON por mudança")
+    void publish_DeveAcrescentarLinhasNdjson() throws IOException {
+        Path file = dir.resolve("outbox/aeronaves.ndjson");
+        FileOutboxSink sink = new FileOutboxSink(file, JsonMapper.builder().build());
+        LocalDateTime created = LocalDateTime.of(2026, 1, 2, 3, 4, 5);
+
+        sink.publish(List.of(new AircraftOutboxMessage(1L, 7L, Type.CREATED, "{\"id\":7,\"name\":\"E195\"}", created)));
+        sink.publish(List.of(new AircraftOutboxMessage(2L, 7L, Type.DELETED, null, created)));
+
+        assertThat(Files.readAllLines(file)).containsExactly(
+                "{\"sequence\":1,\"aircraftId\":7,\"type\":\"CREATED\",\"created\":\"2026-01-02T03:04:05\",\"aircraft\":{\"id\":7,\"name\":\"E195\"}}",
+                "{\"sequence\":2,\"aircraftId\":7,\"type\":\"DELETED\",\"created\":\"2026-01-02T03:04:05\",\"aircraft\":null}");
+    }
+}
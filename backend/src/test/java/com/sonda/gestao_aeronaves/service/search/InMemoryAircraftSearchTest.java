@@ -0,0 +1,100 @@
+package com.sonda.gestao_aeronaves.service.search;
+
+import com.sonda.gestao_aeronaves.domain.Brand;
+import com.sonda.gestao_aeronaves.persistence.repository.AircraftRepository;
+import com.sonda.gestao_aeronaves.service.event.AircraftChangedEvent;
+import com.sonda.gestao_aeronaves.web.dto.AircraftDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryAircraftSearchTest {
+
+    @Mock
+    private AircraftRepository repository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private InMemoryAircraftSearch search;
+
+    @BeforeEach
+    void setUp() {
+        search = new InMemoryAircraftSearch(repository, transactionManager);
+        index(1L, "E195", Brand.EMBRAER, "Jato regional de médio porte");
+        index(2L, "737 MAX", Brand.BOEING, "Narrow body");
+        index(3L, "A320neo", Brand.AIRBUS, "Substituto do Boeing 737 clássico");
+        index(4L, "E190", Brand.EMBRAER, "Versão menor do E195");
+    }
+
+    @Test
+    @DisplayName("search deve ordenar nome antes de marca e descrição")
+    void search_DeveOrdenarPorRelevancia() {
+        assertThat(search.search("737", 0, 10)).containsExactly(2L, 3L);
+        assertThat(search.search("e195", 0, 10)).containsExactly(1L, 4L);
+        assertThat(search.search("boeing", 0, 10)).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("search deve ignorar acentos e maiúsculas")
+    void search_DeveIgnorarAcentos() {
+        assertThat(search.search("MEDIO", 0, 10)).containsExactly(1L);
+        assertThat(search.search("versão", 0, 10)).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("search com termo curto deve buscar sem índice de trigramas")
+    void search_ComTermoCurto_DeveEncontrar() {
+        assertThat(search.search("E1", 0, 10)).containsExactly(1L, 4L);
+    }
+
+    @Test
+    @DisplayName("search deve paginar o resultado ranqueado")
+    void search_DevePaginar() {
+        assertThat(search.search("E", 0, 2)).containsExactly(1L, 4L);
+        assertThat(search.search("E", 2, 2)).hasSize(2).doesNotContain(1L, 4L);
+        assertThat(search.search("E", 10, 2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("searchWithin deve ranquear apenas os candidatos, como search")
+    void searchWithin_DeveRanquearCandidatos() {
+        assertThat(search.searchWithin("E19", search.search("E1", 0, 10))).containsExactly(1L, 4L);
+        assertThat(search.searchWithin("737", List.of(3L, 2L, 1L, 99L))).containsExactly(2L, 3L);
+        assertThat(search.searchWithin("737", List.of(1L, 4L))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("atualizações e exclusões devem refletir no índice")
+    void onAircraftChanged_DeveAtualizarIndice() {
+        search.onAircraftChanged(AircraftChangedEvent.updated(dto(2L, "787 Dreamliner", Brand.BOEING, "Wide body")));
+        search.onAircraftChanged(AircraftChangedEvent.deleted(3L));
+
+        assertThat(search.search("737", 0, 10)).isEmpty();
+        assertThat(search.search("dreamliner", 0, 10)).containsExactly(2L);
+        assertThat(search.search("A320", 0, 10)).isEmpty();
+    }
+
+    private void index(Long id, String name, Brand brand, String description) {
+        search.onAircraftChanged(AircraftChangedEvent.created(dto(id, name, brand, description)));
+    }
+
+    private AircraftDTO dto(Long id, String name, Brand brand, String description) {
+        AircraftDTO dto = new AircraftDTO();
+        dto.setId(id);
+        dto.setName(name);
+        dto.setBrand(brand);
+        dto.setYear(2020);
+        dto.setDescription(description);
+        return dto;
+    }
+}
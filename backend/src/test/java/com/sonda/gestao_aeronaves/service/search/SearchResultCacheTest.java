@@ -0,0 +1,105 @@
+package com.sonda.gestao_aeronaves.service.search;
+
+import com.sonda.gestao_aeronaves.service.event.AircraftChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SearchResultCacheTest {
+
+    private static final int MAX_RESULTS = 5;
+
+    @Mock
+    private AircraftSearch search;
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    private SearchResultCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new SearchResultCache(search, registry, DataSize.ofMegabytes(1), MAX_RESULTS);
+    }
+
+    @Test
+    @DisplayName("search deve responder páginas do mesmo termo sem consultar o motor")
+    void search_MesmoTermo_DeveUsarCache() {
+        when(search.search("emb", 0, MAX_RESULTS + 1)).thenReturn(List.of(3L, 1L, 2L));
+
+        assertThat(cache.search("emb", 0, 2)).containsExactly(3L, 1L);
+        assertThat(cache.search("EMB", 2, 2)).containsExactly(2L);
+        assertThat(cache.search("Emb", 4, 2)).isEmpty();
+
+        verify(search, times(1)).search("emb", 0, MAX_RESULTS + 1);
+        assertThat(registry.get("cache.gets").tag("cache", SearchResultCache.CACHE_NAME).tag("result", "hit")
+                .functionCounter().count()).isEqualTo(2);
+        assertThat(registry.get("aircraft.search.cache.bytes").gauge().value()).isPositive();
+    }
+
+    @Test
+    @DisplayName("uma alteração confirmada deve invalidar os resultados em cache")
+    void onAircraftChanged_DeveInvalidarResultados() {
+        when(search.search("emb", 0, MAX_RESULTS + 1)).thenReturn(List.of(1L))
+                .thenReturn(List.of(1L, 7L));
+
+        assertThat(cache.search("emb", 0, 10)).containsExactly(1L);
+        cache.onAircraftChanged(AircraftChangedEvent.deleted(9L));
+
+        assertThat(cache.search("emb", 0, 10)).containsExactly(1L, 7L);
+        verify(search, times(2)).search("emb", 0, MAX_RESULTS + 1);
+    }
+
+    @Test
+    @DisplayName("um termo novo deve ser respondido a partir do resultado completo de um prefixo")
+    void search_ComPrefixoEmCache_DeveRanquearSomenteCandidatos() {
+        when(search.search("EMB", 0, MAX_RESULTS + 1)).thenReturn(List.of(1L, 2L, 3L));
+        when(search.searchWithin("EMBR", List.of(1L, 2L, 3L))).thenReturn(List.of(3L, 1L));
+
+        cache.search("EMB", 0, 10);
+
+        assertThat(cache.search("EMBR", 0, 10)).containsExactly(3L, 1L);
+        verify(search, never()).search(eq("EMBR"), anyInt(), anyInt());
+        assertThat(registry.get("aircraft.search.cache.prefix.hits").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("prefixo truncado não deve ser reutilizado e páginas além do limite vão ao motor")
+    void search_ComResultadoTruncado_DeveConsultarMotor() {
+        List<Long> many = LongStream.rangeClosed(1, MAX_RESULTS + 1).boxed().toList();
+        when(search.search("E", 0, MAX_RESULTS + 1)).thenReturn(many);
+        when(search.search("E", 4, 2)).thenReturn(List.of(5L, 6L));
+        when(search.search("EM", 0, MAX_RESULTS + 1)).thenReturn(List.of(2L));
+
+        assertThat(cache.search("E", 0, 4)).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(cache.search("E", 4, 2)).containsExactly(5L, 6L);
+        assertThat(cache.search("EM", 0, 10)).containsExactly(2L);
+
+        verify(search, never()).searchWithin(anyString(), anyCollection());
+    }
+
+    @Test
+    @DisplayName("deslocamentos próximos de Integer.MAX_VALUE não devem estourar o cálculo da página")
+    void search_ComDeslocamentoExtremo_NaoDeveEstourar() {
+        List<Long> many = LongStream.rangeClosed(1, MAX_RESULTS + 1).boxed().toList();
+        when(search.search("E", 0, MAX_RESULTS + 1)).thenReturn(many);
+        when(search.search("E", Integer.MAX_VALUE - 1, 2)).thenReturn(List.of());
+        when(search.search("AB", 0, MAX_RESULTS + 1)).thenReturn(List.of(1L, 2L));
+
+        assertThat(cache.search("E", Integer.MAX_VALUE - 1, 2)).isEmpty();
+        assertThat(cache.search("AB", Integer.MAX_VALUE - 1, 2)).isEmpty();
+        assertThat(cache.search("AB", 1, Integer.MAX_VALUE)).containsExactly(2L);
+    }
+}
@@ -0,0 +1,270 @@
+package com.sonda.gestao_aeronaves.service.statistics;
+
+import com.sonda.gestao_aeronaves.domain.Brand;
+import com.sonda.gestao_aeronaves.persistence.projection.AircraftFacts;
+import com.sonda.gestao_aeronaves.persistence.repository.AircraftRepository;
+import com.sonda.gestao_aeronaves.service.event.AircraftChangedEvent;
+import com.sonda.gestao_aeronaves.web.dto.AircraftDTO;
+import com.sonda.gestao_aeronaves.web.dto.FleetAggregationDTO;
+import com.sonda.gestao_aeronaves.web.dto.FleetGroupDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FleetSnapshotTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.now();
+
+    @Mock
+    private AircraftRepository repository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private FleetSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        snapshot = new FleetSnapshot(repository, transactionManager, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        snapshot.destroy();
+    }
+
+    @Test
+    @DisplayName("initialize deve carregar as colunas e responder às consultas filtradas")
+    void initialize_DeveResponderConsultasFiltradas() {
+        when(repository.streamFacts()).thenReturn(Stream.of(
+                facts(1L, Brand.EMBRAER, 2020, false, NOW.minusDays(1)),
+                facts(2L, Brand.BOEING, 1995, true, NOW.minusMonths(2)),
+                facts(3L, Brand.EMBRAER, 1998, false, NOW.minusDays(3))));
+
+        snapshot.initialize();
+
+        assertThat(snapshot.isReady()).isTrue();
+        assertThat(snapshot.count(FleetFilter.none())).isEqualTo(3L);
+        assertThat(snapshot.count(FleetFilter.unsold())).isEqualTo(2L);
+        assertThat(snapshot.count(FleetFilter.createdSince(NOW.minusWeeks(1)))).isEqualTo(2L);
+        assertThat(snapshot.count(new FleetFilter(Brand.EMBRAER, false, 1990, 1999, null, null))).isEqualTo(1L);
+        assertThat(snapshot.countByDecade(FleetFilter.none())).containsExactly(entry(1990, 2L), entry(2020, 1L));
+        assertThat(snapshot.countByYear(FleetFilter.unsold())).containsOnlyKeys(1998, 2020);
+        assertThat(snapshot.countByBrand(FleetFilter.none()))
+                .containsEntry(Brand.EMBRAER, 2L).containsEntry(Brand.BOEING, 1L).hasSize(2);
+        assertThat(snapshot.countBySold(FleetFilter.none())).containsEntry(true, 1L).containsEntry(false, 2L);
+    }
+
+    @Test
+    @DisplayName("eventos devem atualizar as colunas sem perder a data de criação")
+    void onAircraftChanged_DeveAtualizarColunas() {
+        when(repository.streamFacts()).thenReturn(Stream.of(
+                facts(1L, Brand.EMBRAER, 2020, false, NOW.minusDays(1))));
+        snapshot.initialize();
+
+        snapshot.onAircraftChanged(AircraftChangedEvent.created(dto(2L, Brand.AIRBUS, 2005, false, NOW)));
+        snapshot.onAircraftChanged(AircraftChangedEvent.updated(dto(1L, Brand.EMBRAER, 2021, true, null)));
+
+        assertThat(snapshot.count(FleetFilter.unsold())).isEqualTo(1L);
+        assertThat(snapshot.count(FleetFilter.createdSince(NOW.minusWeeks(1)))).isEqualTo(2L);
+        assertThat(snapshot.countByYear(FleetFilter.none())).containsOnlyKeys(2005, 2021);
+
+        snapshot.onAircraftChanged(AircraftChangedEvent.deleted(2L));
+
+        assertThat(snapshot.count(FleetFilter.none())).isEqualTo(1L);
+        assertThat(snapshot.countByBrand(FleetFilter.none())).containsOnlyKeys(Brand.EMBRAER);
+        assertThat(snapshot.count(FleetFilter.unsold())).isZero();
+    }
+
+    @Test
+    @DisplayName("getRevision deve mudar a cada criação, atualização e exclusão")
+    void getRevision_DeveMudarACadaAlteracao() {
+        when(repository.streamFacts()).thenReturn(Stream.of(
+                facts(1L, Brand.EMBRAER, 2020, false, NOW.minusDays(2)),
+                facts(2L, Brand.BOEING, 2010, true, NOW.minusDays(1))));
+        snapshot.initialize();
+
+        assertThat(snapshot.getRevision().getTotal()).isEqualTo(2L);
+        assertThat(snapshot.getRevision().getLastUpdated()).isEqualTo(NOW.minusDays(1));
+
+        AircraftDTO updated = dto(1L, Brand.EMBRAER, 2020, true, NOW.minusDays(2));
+        updated.setUpdated(NOW);
+        snapshot.onAircraftChanged(AircraftChangedEvent.updated(updated));
+
+        assertThat(snapshot.getRevision().getTotal()).isEqualTo(2L);
+        assertThat(snapshot.getRevision().getLastUpdated()).isEqualTo(NOW);
+
+        snapshot.onAircraftChanged(AircraftChangedEvent.deleted(2L));
+
+        assertThat(snapshot.getRevision().getTotal()).isEqualTo(1L);
+        assertThat(snapshot.getRevision().getLastUpdated()).isEqualTo(NOW);
+    }
+
+    @Test
+    @DisplayName("reconcile deve corrigir divergências e reaplicar as mudanças feitas durante a leitura")
+    void reconcile_DeveCorrigirDivergenciaEReaplicarMudancas() {
+        when(repository.streamFacts())
+                .thenReturn(Stream.of(facts(1L, Brand.EMBRAER, 2020, false, NOW)))
+                .thenAnswer(invocation -> {
+                    snapshot.onAircraftChanged(AircraftChangedEvent.created(dto(3L, Brand.AIRBUS, 2001, false, NOW)));
+                    return Stream.of(
+                            facts(1L, Brand.EMBRAER, 2020, false, NOW),
+                            facts(2L, Brand.BOEING, 2010, false, NOW));
+                });
+        snapshot.initialize();
+
+        snapshot.reconcile();
+
+        assertThat(snapshot.count(FleetFilter.none())).isEqualTo(3L);
+        assertThat(snapshot.count(FleetFilter.unsold())).isEqualTo(3L);
+        assertThat(snapshot.countByBrand(FleetFilter.none()))
+                .containsOnlyKeys(Brand.EMBRAER, Brand.BOEING, Brand.AIRBUS);
+    }
+
+    @Test
+    @DisplayName("consultas sobre vários blocos e após compactação devem manter as contagens")
+    void count_ComVariosBlocosECompactacao_DeveManterContagens() {
+        int rows = FleetSnapshot.CHUNK * 3 + 7;
+        when(repository.streamFacts()).thenReturn(LongStream.rangeClosed(1, rows)
+                .mapToObj(id -> facts(id, Brand.values()[(int) (id % Brand.values().length)],
+                        1970 + (int) (id % 50), id % 2 == 0, NOW.minusMinutes(id))));
+        snapshot.initialize();
+
+        assertThat(snapshot.count(FleetFilter.none())).isEqualTo(rows);
+        assertThat(snapshot.count(FleetFilter.unsold())).isEqualTo((rows + 1) / 2);
+        assertThat(snapshot.count(new FleetFilter(null, false, 1970, 1970, null, null)))
+                .isEqualTo(LongStream.rangeClosed(1, rows).filter(id -> id % 50 == 0 && id % 2 == 1).count());
+        assertThat(snapshot.countByDecade(FleetFilter.none()).values().stream().mapToLong(Long::longValue).sum())
+                .isEqualTo(rows);
+
+        for (long id = 1; id <= rows / 2; id++) {
+            snapshot.onAircraftChanged(AircraftChangedEvent.deleted(id));
+        }
+
+        assertThat(snapshot.count(FleetFilter.none())).isEqualTo(rows - rows / 2);
+        assertThat(snapshot.count(FleetFilter.createdSince(NOW.minusMinutes(10)))).isZero();
+        snapshot.onAircraftChanged(AircraftChangedEvent.updated(dto((long) rows, Brand.EMBRAER, 1950, false, null)));
+        assertThat(snapshot.countByDecade(new FleetFilter(null, null, null, 1959, null, null)))
+                .containsOnlyKeys(1950);
+    }
+
+    @Test
+    @DisplayName("aggregate deve agrupar por cada conjunto, com chave nula para criação desconhecida")
+    void aggregate_DeveAgruparPorConjunto() {
+        when(repository.streamFacts()).thenReturn(Stream.of(
+                facts(1L, Brand.EMBRAER, 2020, false, LocalDateTime.of(2026, 10, 14, 9, 0)),
+                facts(2L, Brand.BOEING, 1995, true, LocalDateTime.of(2026, 10, 12, 0, 0)),
+                facts(3L, Brand.EMBRAER, 1998, false, LocalDateTime.of(2026, 10, 11, 23, 59)),
+                facts(4L, Brand.AIRBUS, 2003, true, null)));
+        snapshot.initialize();
+
+        FleetAggregation aggregation = FleetAggregation.parse(
+                new String[] { "brand,decade", "createdWeek", "sold" }, null, FleetFilter.none());
+        FleetAggregationDTO result = snapshot.aggregate(aggregation).orElseThrow();
+
+        assertThat(result.getGroupings()).hasSize(3);
+        assertThat(result.getGroupings().get(0).getGroupBy()).containsExactly("brand", "decade");
+        assertThat(result.getGroupings().get(0).getGroups()).extracting(FleetGroupDTO::getKey).containsExactly(
+                Map.of("brand", Brand.EMBRAER, "decade", 1990),
+                Map.of("brand", Brand.EMBRAER, "decade", 2020),
+                Map.of("brand", Brand.BOEING, "decade", 1990),
+                Map.of("brand", Brand.AIRBUS, "decade", 2000));
+        List<FleetGroupDTO> weeks = result.getGroupings().get(1).getGroups();
+        assertThat(weeks).extracting(g -> g.getKey().get("createdWeek"))
+                .containsExactly(LocalDate.of(2026, 10, 5), LocalDate.of(2026, 10, 12), null);
+        assertThat(weeks).extracting(FleetGroupDTO::getCount).containsExactly(1L, 2L, 1L);
+        assertThat(weeks.get(1).getMinYear()).isEqualTo(1995);
+        assertThat(weeks.get(1).getMaxYear()).isEqualTo(2020);
+        assertThat(result.getGroupings().get(2).getGroups()).extracting(FleetGroupDTO::getCount)
+                .containsExactly(2L, 2L);
+    }
+
+    @Test
+    @DisplayName("aggregate sobre vários blocos deve somar os acumuladores e recusar grupos demais")
+    void aggregate_ComVariosBlocos_DeveSomarAcumuladores() {
+        int rows = FleetSnapshot.CHUNK * 3 + 7;
+        when(repository.streamFacts()).thenReturn(LongStream.rangeClosed(1, rows)
+                .mapToObj(id -> facts(id, Brand.values()[(int) (id % Brand.values().length)],
+                        1970 + (int) (id % 50), id % 2 == 0, NOW.minusMinutes(id))));
+        snapshot.initialize();
+        FleetFilter unsold = FleetFilter.unsold();
+
+        FleetAggregationDTO result = snapshot.aggregate(new FleetAggregation(
+                List.of(List.of(FleetDimension.YEAR), List.of(FleetDimension.BRAND)),
+                EnumSet.of(FleetMetric.COUNT), unsold)).orElseThrow();
+
+        assertThat(result.getGroupings().get(0).getGroups()).allSatisfy(group -> {
+            assertThat(group.getCount()).isEqualTo(snapshot.countByYear(unsold).get((Integer) group.getKey().get("year")));
+            assertThat(group.getMinYear()).isNull();
+        });
+        assertThat(result.getGroupings().get(1).getGroups()).allSatisfy(group -> assertThat(group.getCount())
+                .isEqualTo(snapshot.countByBrand(unsold).get((Brand) group.getKey().get("brand"))));
+        assertThat(snapshot.aggregate(new FleetAggregation(
+                List.of(List.of(FleetDimension.BRAND, FleetDimension.YEAR, FleetDimension.CREATED_DAY,
+                        FleetDimension.CREATED_WEEK)),
+                EnumSet.of(FleetMetric.COUNT), FleetFilter.none()))).isEmpty();
+    }
+
+    private AircraftDTO dto(Long id, Brand brand, int year, boolean sold, LocalDateTime created) {
+        AircraftDTO dto = new AircraftDTO();
+        dto.setId(id);
+        dto.setName("A-" + id);
+        dto.setBrand(brand);
+        dto.setYear(year);
+        dto.setSold(sold);
+        dto.setCreated(created);
+        return dto;
+    }
+
+    private AircraftFacts facts(Long id, Brand brand, int year, boolean sold, LocalDateTime created) {
+        return new AircraftFacts() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Brand getBrand() {
+                return brand;
+            }
+
+            @Override
+            public Integer getYear() {
+                return year;
+            }
+
+            @Override
+            public Boolean getSold() {
+                return sold;
+            }
+
+            @Override
+            public LocalDateTime getCreated() {
+                return created;
+            }
+
+            @Override
+            public LocalDateTime getUpdated() {
+                return created;
+            }
+        };
+    }
+}
@@ -0,0 +1,177 @@
+package com.sonda.gestao_aeronaves.service.statistics;
+
+import com.sonda.gestao_aeronaves.domain.Brand;
+import com.sonda.gestao_aeronaves.persistence.projection.AircraftFacts;
+import com.sonda.gestao_aeronaves.persistence.repository.AircraftRepository;
+import com.sonda.gestao_aeronaves.service.event.AircraftChangedEvent;
+import com.sonda.gestao_aeronaves.web.dto.AircraftDTO;
+import com.sonda.gestao_aeronaves.web.dto.FleetStatisticsDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FleetStatisticsTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.now();
+
+    @Mock
+    private AircraftRepository repository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private FleetSnapshot snapshot;
+    private FleetStatistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        snapshot = new FleetSnapshot(repository, transactionManager, 2);
+        statistics = new FleetStatistics(snapshot);
+    }
+
+    @AfterEach
+    void tearDown() {
+        snapshot.destroy();
+    }
+
+    @Test
+    @DisplayName("initialize deve construir os contadores a partir do banco")
+    void initialize_DeveConstruirContadores() {
+        when(repository.streamFacts()).thenReturn(Stream.of(
+                facts(1L, Brand.EMBRAER, 2020, false, NOW.minusDays(1)),
+                facts(2L, Brand.BOEING, 1995, true, NOW.minusMonths(2))));
+
+        snapshot.initialize();
+
+        assertThat(statistics.isReady()).isTrue();
+        assertThat(statistics.totalCount()).isEqualTo(2L);
+        assertThat(statistics.countUnsold()).isEqualTo(1L);
+        assertThat(statistics.countByDecade()).containsEntry(2020, 1L).containsEntry(1990, 1L);
+        assertThat(statistics.countCreatedSince(NOW.minusWeeks(1))).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("eventos devem atualizar os contadores incrementalmente")
+    void onAircraftChanged_DeveAtualizarContadores() {
+        when(repository.streamFacts()).thenReturn(Stream.of(
+                facts(1L, Brand.EMBRAER, 2020, false, NOW.minusMonths(1))));
+        snapshot.initialize();
+
+        snapshot.onAircraftChanged(AircraftChangedEvent.created(dto(2L, Brand.AIRBUS, 2005, false, NOW)));
+        snapshot.onAircraftChanged(AircraftChangedEvent.updated(dto(1L, Brand.EMBRAER, 2020, true, null)));
+
+        assertThat(statistics.countUnsold()).isEqualTo(1L);
+        assertThat(statistics.countCreatedSince(LocalDateTime.now().minusWeeks(1))).isEqualTo(1L);
+
+        snapshot.onAircraftChanged(AircraftChangedEvent.deleted(2L));
+
+        FleetStatisticsDTO overview = statistics.getOverview();
+        assertThat(overview.getTotal()).isEqualTo(1L);
+        assertThat(overview.getUnsold()).isZero();
+        assertThat(overview.getByDecade()).containsOnlyKeys(2020);
+        assertThat(overview.getByBrand()).containsOnlyKeys(Brand.EMBRAER);
+        assertThat(overview.getBySold()).containsEntry(true, 1L).doesNotContainKey(false);
+        assertThat(statistics.countCreatedSince(LocalDateTime.now().minusWeeks(1))).isZero();
+    }
+
+    @Test
+    @DisplayName("reconcile deve corrigir contadores divergentes do banco")
+    void reconcile_DeveCorrigirDivergencia() {
+        when(repository.streamFacts())
+                .thenReturn(Stream.of(facts(1L, Brand.EMBRAER, 2020, false, NOW)))
+                .thenReturn(Stream.of(
+                        facts(1L, Brand.EMBRAER, 2020, false, NOW),
+                        facts(2L, Brand.BOEING, 2010, false, NOW)));
+        snapshot.initialize();
+
+        snapshot.reconcile();
+
+        assertThat(statistics.totalCount()).isEqualTo(2L);
+        assertThat(statistics.countUnsold()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("contadores devem coincidir com a varredura das colunas após mudanças e compactação")
+    void contadores_DevemCoincidirComVarredura() {
+        int rows = 5000;
+        when(repository.streamFacts()).thenReturn(LongStream.rangeClosed(1, rows)
+                .mapToObj(id -> facts(id, Brand.values()[(int) (id % Brand.values().length)],
+                        1950 + (int) (id % 70), id % 3 == 0, NOW.minusHours(id))));
+        snapshot.initialize();
+
+        for (long id = 1; id <= rows; id += 2) {
+            snapshot.onAircraftChanged(AircraftChangedEvent.deleted(id));
+        }
+        for (long id = 2; id <= rows; id += 4) {
+            snapshot.onAircraftChanged(AircraftChangedEvent.updated(dto(id, Brand.AIRBUS, 2024, false, null)));
+        }
+        snapshot.onAircraftChanged(AircraftChangedEvent.created(dto(rows + 1L, Brand.BOEING, 1969, true, NOW)));
+
+        LocalDateTime weekAgo = LocalDateTime.now().minusWeeks(1);
+        assertThat(statistics.totalCount()).isEqualTo(snapshot.count(FleetFilter.none()));
+        assertThat(statistics.countUnsold()).isEqualTo(snapshot.count(FleetFilter.unsold()));
+        assertThat(statistics.countByDecade()).isEqualTo(snapshot.countByDecade(FleetFilter.none()));
+        assertThat(statistics.getOverview().getByBrand()).isEqualTo(snapshot.countByBrand(FleetFilter.none()));
+        assertThat(statistics.countCreatedSince(weekAgo)).isEqualTo(snapshot.count(FleetFilter.createdSince(weekAgo)));
+    }
+
+    private AircraftDTO dto(Long id, Brand brand, int year, boolean sold, LocalDateTime created) {
+        AircraftDTO dto = new AircraftDTO();
+        dto.setId(id);
+        dto.setName("Aeronave " + id);
+        dto.setBrand(brand);
+        dto.setYear(year);
+        dto.setDescription("Descrição");
+        dto.setSold(sold);
+        dto.setCreated(created);
+        dto.setUpdated(LocalDateTime.now());
+        return dto;
+    }
+
+    private AircraftFacts facts(Long id, Brand brand, int year, boolean sold, LocalDateTime created) {
+        return new AircraftFacts() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Brand getBrand() {
+                return brand;
+            }
+
+            @Override
+            public Integer getYear() {
+                return year;
+            }
+
+            @Override
+            public Boolean getSold() {
+                return sold;
+            }
+
+            @Override
+            public LocalDateTime getCreated() {
+                return created;
+            }
+
+            @Override
+            public LocalDateTime getUpdated() {
+                return created;
+            }
+        };
+    }
+}
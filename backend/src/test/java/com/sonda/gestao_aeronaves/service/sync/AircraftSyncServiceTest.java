@@ -0,0 +1,102 @@
+package com.sonda.gestao_aeronaves.service.sync;
+
+import com.sonda.gestao_aeronaves.domain.Brand;
+import com.sonda.gestao_aeronaves.persistence.repository.AircraftRepository;
+import com.sonda.gestao_aeronaves.persistence.repository.AircraftTombstoneRepository;
+import com.sonda.gestao_aeronaves.service.AircraftService;
+import com.sonda.gestao_aeronaves.web.dto.AircraftChangesDTO;
+import com.sonda.gestao_aeronaves.web.dto.AircraftDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class AircraftSyncServiceTest {
+
+    @Autowired
+    private AircraftSyncService syncService;
+
+    @Autowired
+    private AircraftService service;
+
+    @Autowired
+    private AircraftRepository repository;
+
+    @Autowired
+    private AircraftTombstoneRepository tombstones;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAllInBatch();
+        tombstones.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Primeira sincronização deve retornar a frota inteira")
+    void getChanges_SemToken_DeveRetornarFrotaInteira() {
+        service.save(createAircraftDTO("E195-E2"));
+        service.save(createAircraftDTO("A320neo"));
+
+        AircraftChangesDTO changes = syncService.getChanges(null);
+
+        assertThat(changes.isFull()).isTrue();
+        assertThat(changes.getChanged()).hasSize(2);
+        assertThat(changes.getDeleted()).isEmpty();
+        assertThat(changes.getToken()).isNotBlank();
+    }
+
+    @Test
+    @DisplayName("Sincronização com token deve retornar apenas alterações e exclusões posteriores")
+    void getChanges_ComToken_DeveRetornarApenasAlteracoes() {
+        AircraftDTO unchanged = service.save(createAircraftDTO("E195-E2"));
+        AircraftDTO updated = service.save(createAircraftDTO("A320neo"));
+        AircraftDTO deleted = service.save(createAircraftDTO("737 MAX"));
+        jdbcTemplate.update("UPDATE aeronave SET created = ?, updated = ?",
+                LocalDateTime.now().minusHours(1), LocalDateTime.now().minusHours(1));
+        String token = syncService.getChanges(null).getToken();
+
+        updated.setSold(true);
+        service.update(updated.getId(), updated, null);
+        service.delete(deleted.getId(), null);
+        AircraftDTO created = service.save(createAircraftDTO("Phenom 300"));
+
+        AircraftChangesDTO changes = syncService.getChanges(token);
+
+        assertThat(changes.isFull()).isFalse();
+        assertThat(changes.getChanged()).extracting(AircraftDTO::getId)
+                .containsExactly(updated.getId(), created.getId())
+                .doesNotContain(unchanged.getId());
+        assertThat(changes.getChanged().get(0).isSold()).isTrue();
+        assertThat(changes.getDeleted()).containsExactly(deleted.getId());
+    }
+
+    @Test
+    @DisplayName("Token inválido deve lançar IllegalArgumentException")
+    void getChanges_TokenInvalido_DeveLancarExcecao() {
+        assertThatThrownBy(() -> syncService.getChanges("não-é-token"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private AircraftDTO createAircraftDTO(String name) {
+        AircraftDTO dto = new AircraftDTO();
+        dto.setName(name);
+        dto.setBrand(Brand.EMBRAER);
+        dto.setYear(2020);
+        dto.setDescription("Jato regional");
+        dto.setSold(false);
+        return dto;
+    }
+}
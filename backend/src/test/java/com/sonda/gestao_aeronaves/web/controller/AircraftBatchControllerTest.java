@@ -0,0 +1,80 @@
+package com.sonda.gestao_aeronaves.web.controller;
+
+import com.sonda.gestao_aeronaves.service.batch.AircraftBatchService;
+import com.sonda.gestao_aeronaves.web.dto.BatchItemResultDTO;
+import com.sonda.gestao_aeronaves.web.dto.BatchItemResultDTO.Status;
+import com.sonda.gestao_aeronaves.web.dto.BatchResultDTO;
+import com.sonda.gestao_aeronaves.web.exception.GlobalExceptionHandler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(AircraftBatchController.class)
+@Import(GlobalExceptionHandler.class)
+class AircraftBatchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private AircraftBatchService service;
+
+    @Test
+    @DisplayName("POST /aeronaves/batch deve retornar 200 com resultado por item")
+    void createAll_DeveRetornar200ComResultadoPorItem() throws Exception {
+        when(service.createAll(anyList())).thenReturn(BatchResultDTO.of(List.of(
+                new BatchItemResultDTO(0, 10L, Status.CREATED, List.of()),
+                new BatchItemResultDTO(1, null, Status.REJECTED, List.of("name: Name is required")))));
+
+        mockMvc.perform(post("/aeronaves/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"name\":\"E195\",\"brand\":\"EMBRAER\",\"year\":2020,\"description\":\"d\"},"
+                                + "{\"name\":\"\",\"brand\":\"EMBRAER\",\"year\":2020,\"description\":\"d\"}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.items[0].id").value(10))
+                .andExpect(jsonPath("$.items[1].status").value("REJECTED"))
+                .andExpect(jsonPath("$.items[1].errors[0]").value("name: Name is required"));
+    }
+
+    @Test
+    @DisplayName("DELETE /aeronaves/batch deve repassar os IDs ao serviço")
+    void deleteAll_DeveRepassarIds() throws Exception {
+        when(service.deleteAll(List.of(1L, 2L))).thenReturn(BatchResultDTO.of(List.of(
+                new BatchItemResultDTO(0, 1L, Status.DELETED, List.of()),
+                new BatchItemResultDTO(1, 2L, Status.NOT_FOUND, List.of("Aircraft not found with ID: 2")))));
+
+        mockMvc.perform(delete("/aeronaves/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[1, 2]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.items[1].status").value("NOT_FOUND"));
+
+        verify(service).deleteAll(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("PUT /aeronaves/batch com lote vazio deve retornar 400")
+    void updateAll_ComLoteVazio_DeveRetornar400() throws Exception {
+        when(service.updateAll(anyList())).thenThrow(new IllegalArgumentException("O lote deve conter entre 1 e 50000 itens."));
+
+        mockMvc.perform(put("/aeronaves/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest());
+    }
+}
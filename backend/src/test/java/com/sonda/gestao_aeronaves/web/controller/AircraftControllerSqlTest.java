@@ -0,0 +1,134 @@
+package com.sonda.gestao_aeronaves.web.controller;
+
+import com.sonda.gestao_aeronaves.config.CacheConfig;
+import com.sonda.gestao_aeronaves.domain.Brand;
+import com.sonda.gestao_aeronaves.persistence.entity.Aircraft;
+import com.sonda.gestao_aeronaves.persistence.repository.AircraftRepository;
+import com.sonda.gestao_aeronaves.persistence.sql.SqlStatistics;
+import com.sonda.gestao_aeronaves.service.AircraftService;
+import com.sonda.gestao_aeronaves.service.export.AircraftExportService;
+import com.sonda.gestao_aeronaves.service.export.ExportFilter;
+import com.sonda.gestao_aeronaves.service.export.ExportFormat;
+import com.sonda.gestao_aeronaves.web.dto.AircraftDTO;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.sonda.gestao_aeronaves.web.sql.SqlResultMatchers.rows;
+import static com.sonda.gestao_aeronaves.web.sql.SqlResultMatchers.statements;
+import static com.sonda.gestao_aeronaves.web.sql.SqlResultMatchers.statementsAtMost;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * SQL budget of the endpoints, measured against the test database.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AircraftControllerSqlTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AircraftService service;
+
+    @Autowired
+    private AircraftRepository repository;
+
+    @Autowired
+    private AircraftExportService exportService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long id;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAllInBatch();
+        for (int i = 0; i < 3; i++) {
+            id = service.save(createAircraftDTO("E19" + i)).getId();
+        }
+        cacheManager.getCache(CacheConfig.AIRCRAFT_CACHE).clear();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    @DisplayName("GET /aeronaves/{id} deve executar exatamente 1 statement e depois ser atendido pelo cache")
+    void getById_DeveExecutarUmStatement() throws Exception {
+        mockMvc.perform(get("/aeronaves/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(statements(1))
+                .andExpect(rows(1));
+
+        mockMvc.perform(get("/aeronaves/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(statements(0));
+    }
+
+    @Test
+    @DisplayName("GET /aeronaves/page não deve fazer N+1")
+    void getPage_NaoDeveFazerNMaisUm() throws Exception {
+        mockMvc.perform(get("/aeronaves/page").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(statementsAtMost(1));
+    }
+
+    @Test
+    @DisplayName("streamAll, findPage e a exportação não devem preencher o cache de segundo nível")
+    void leiturasEmMassa_NaoDevemPreencherCacheDeSegundoNivel() throws Exception {
+        List<AircraftDTO> streamed = new ArrayList<>();
+        service.streamAll(streamed::add);
+        service.findPage(null, 10);
+        exportService.export(ExportFilter.none(), ExportFormat.NDJSON, OutputStream.nullOutputStream());
+
+        assertThat(streamed).hasSize(3)
+                .noneMatch(dto -> entityManagerFactory.getCache().contains(Aircraft.class, dto.getId()));
+
+        mockMvc.perform(get("/aeronaves/{id}", id)).andExpect(status().isOk());
+        assertThat(entityManagerFactory.getCache().contains(Aircraft.class, id)).isTrue();
+    }
+
+    @Test
+    @DisplayName("SqlStatistics.capture deve contar statements e linhas, inclusive em escopos aninhados")
+    void capture_DeveContarStatementsELinhas() {
+        SqlStatistics[] inner = new SqlStatistics[1];
+        SqlStatistics outer = SqlStatistics.capture(() -> {
+            repository.findAll();
+            inner[0] = SqlStatistics.capture(repository::count);
+        });
+
+        assertThat(inner[0].getStatements()).isEqualTo(1);
+        assertThat(inner[0].getRows()).isEqualTo(1);
+        assertThat(outer.getStatements()).isEqualTo(2);
+        assertThat(outer.getRows()).isEqualTo(4);
+        assertThat(SqlStatistics.current()).isNull();
+    }
+
+    private AircraftDTO createAircraftDTO(String name) {
+        AircraftDTO dto = new AircraftDTO();
+        dto.setName(name);
+        dto.setBrand(Brand.EMBRAER);
+        dto.setYear(2020);
+        dto.setDescription("Jato regional");
+        dto.setSold(false);
+        return dto;
+    }
+}
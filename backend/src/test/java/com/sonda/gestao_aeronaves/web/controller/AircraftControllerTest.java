@@ -4,9 +4,23 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.sonda.gestao_aeronaves.domain.Brand;
 import com.sonda.gestao_aeronaves.domain.exception.AircraftNotFoundException;
+import com.sonda.gestao_aeronaves.domain.exception.AircraftVersionMismatchException;
+import com.sonda.gestao_aeronaves.persistence.projection.FleetRevision;
 import com.sonda.gestao_aeronaves.service.AircraftService;
+import com.sonda.gestao_aeronaves.service.statistics.FleetAggregation;
+import com.sonda.gestao_aeronaves.service.statistics.FleetDimension;
+import com.sonda.gestao_aeronaves.service.statistics.FleetFilter;
+import com.sonda.gestao_aeronaves.service.statistics.FleetMetric;
 import com.sonda.gestao_aeronaves.web.dto.AircraftDTO;
+import com.sonda.gestao_aeronaves.web.dto.AircraftPatchDTO;
+import com.sonda.gestao_aeronaves.web.dto.AircraftSummaryDTO;
+import com.sonda.gestao_aeronaves.web.dto.CursorPageDTO;
+import com.sonda.gestao_aeronaves.web.dto.FleetAggregationDTO;
+import com.sonda.gestao_aeronaves.web.dto.FleetGroupDTO;
+import com.sonda.gestao_aeronaves.web.dto.FleetGroupingDTO;
+import com.sonda.gestao_aeronaves.web.dto.FleetStatisticsDTO;
 import com.sonda.gestao_aeronaves.web.exception.GlobalExceptionHandler;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,11 +29,24 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.json.JsonCompareMode;
+import org.springframework.test.web.servlet.MvcResult;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.startsWith;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -37,6 +64,23 @@ class AircraftControllerTest {
     @MockitoBean
     private AircraftService service;
 
+    private final LocalDateTime lastUpdated = LocalDateTime.of(2025, 3, 10, 12, 0);
+
+    @BeforeEach
+    void setUp() {
+        when(service.getFleetRevision()).thenReturn(new FleetRevision() {
+            @Override
+            public Long getTotal() {
+                return 5L;
+            }
+
+            @Override
+            public LocalDateTime getLastUpdated() {
+                return lastUpdated;
+            }
+        });
+    }
+
     @Test
     @DisplayName("GET /aeronaves deve retornar 200 e lista de aeronaves")
     void listAll_DeveRetornar200ComLista() throws Exception {
@@ -53,17 +97,210 @@ class AircraftControllerTest {
         verify(service).findAll();
     }
 
+    @Test
+    @DisplayName("GET /aeronaves/summary deve retornar a frota sem a descrição")
+    void listSummaries_DeveRetornar200SemDescricao() throws Exception {
+        AircraftSummaryDTO summary = new AircraftSummaryDTO(1L, "E195", Brand.EMBRAER, 2020, false, 0L, null, null);
+        when(service.findAllSummaries()).thenReturn(List.of(summary));
+
+        mockMvc.perform(get("/aeronaves/summary"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[0].name").value("E195"))
+                .andExpect(jsonPath("$[0].description").doesNotExist());
+
+        verify(service).findAllSummaries();
+        verify(service, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("GET /aeronaves com fields deve retornar apenas os campos pedidos")
+    void listAll_ComFields_DeveRetornarApenasCamposPedidos() throws Exception {
+        AircraftDTO dto = createAircraftDTO(1L, "E195", Brand.EMBRAER, 2020, "Descrição", false);
+        dto.setCreated(LocalDateTime.of(2025, 3, 1, 8, 30));
+        when(service.findAll()).thenReturn(List.of(dto));
+
+        MvcResult result = mockMvc.perform(get("/aeronaves").param("fields", "id, name,brand,created"))
+                .andExpect(status().isOk())
+                .andExpect(header().stringValues("Vary", hasItem("Accept")))
+                .andReturn();
+
+        assertThat(result.getResponse().getContentAsString())
+                .isEqualTo("[{\"id\":1,\"name\":\"E195\",\"brand\":\"EMBRAER\",\"created\":\"2025-03-01T08:30:00\"}]");
+    }
+
+    @Test
+    @DisplayName("GET /aeronaves/{id} com fields deve retornar apenas os campos pedidos")
+    void getById_ComFields_DeveRetornarApenasCamposPedidos() throws Exception {
+        AircraftDTO dto = createAircraftDTO(1L, "E195", Brand.EMBRAER, 2020, "Descrição", true);
+        when(service.findById(1L)).thenReturn(dto);
+
+        mockMvc.perform(get("/aeronaves/1").param("fields", "sold,year"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("{\"sold\":true,\"year\":2020}", JsonCompareMode.STRICT));
+    }
+
+    @Test
+    @DisplayName("GET /aeronaves com campo inválido em fields deve retornar 400")
+    void listAll_ComFieldsInvalido_DeveRetornar400() throws Exception {
+        AircraftDTO dto = createAircraftDTO(1L, "E195", Brand.EMBRAER, 2020, "Descrição", false);
+        when(service.findAll()).thenReturn(List.of(dto));
+
+        mockMvc.perform(get("/aeronaves").param("fields", "id,preco"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(startsWith("Campo inválido: preco")));
+    }
+
+    @Test
+    @DisplayName("GET /aeronaves com Accept Smile ou CBOR deve responder no formato binário")
+    void listAll_ComAcceptBinario_DeveResponderNoFormatoPedido() throws Exception {
+        AircraftDTO dto = createAircraftDTO(1L, "E195", Brand.EMBRAER, 2020, "Descrição", false);
+        when(service.findAll()).thenReturn(List.of(dto));
+
+        byte[] smile = mockMvc.perform(get("/aeronaves").accept("application/x-jackson-smile"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-jackson-smile"))
+                .andReturn().getResponse().getContentAsByteArray();
+        byte[] cbor = mockMvc.perform(get("/aeronaves").param("fields", "id,name").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertThat(SmileMapper.builder().build().readTree(smile).get(0).get("description").asString())
+                .isEqualTo("Descrição");
+        assertThat(CBORMapper.builder().build().readTree(cbor).get(0).propertyNames())
+                .containsExactly("id", "name");
+    }
+
+    @Test
+    @DisplayName("GET /aeronaves com ETag atual deve retornar 304 sem carregar a frota")
+    void listAll_ComETagAtual_DeveRetornar304() throws Exception {
+        String eTag = mockMvc.perform(get("/aeronaves"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("Last-Modified"))
+                .andReturn().getResponse().getHeader("ETag");
+        clearInvocations(service);
+
+        mockMvc.perform(get("/aeronaves").header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(service, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("GET /aeronaves/statistics/overview com If-Modified-Since atual deve retornar 304")
+    void getOverview_ComIfModifiedSinceAtual_DeveRetornar304() throws Exception {
+        long lastModified = lastUpdated.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+        mockMvc.perform(get("/aeronaves/statistics/overview").header("If-Modified-Since",
+                        DateTimeFormatter.RFC_1123_DATE_TIME.format(Instant.ofEpochMilli(lastModified).atZone(ZoneOffset.UTC))))
+                .andExpect(status().isNotModified());
+
+        verify(service, never()).getOverview();
+    }
+
+    @Test
+    @DisplayName("GET /aeronaves/{id} deve retornar ETag da versão e 304 quando If-None-Match confere")
+    void getById_DeveRetornarETagE304() throws Exception {
+        AircraftDTO dto = createAircraftDTO(1L, "E195", Brand.EMBRAER, 2020, "Descrição", false);
+        dto.setVersion(2L);
+        when(service.findById(1L)).thenReturn(dto);
+
+        mockMvc.perform(get("/aeronaves/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"2\""));
+        mockMvc.perform(get("/aeronaves/1").header("If-None-Match", "\"2\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("PUT /aeronaves/{id} com If-Match desatualizado deve retornar 412")
+    void update_ComIfMatchDesatualizado_DeveRetornar412() throws Exception {
+        AircraftDTO inputDTO = createAircraftDTO(null, "E195-E2", Brand.EMBRAER, 2022, "Atualizado", false);
+        when(service.update(eq(1L), any(AircraftDTO.class), eq(1L)))
+                .thenThrow(new AircraftVersionMismatchException(1L, 1L, 2L));
+
+        mockMvc.perform(put("/aeronaves/1")
+                        .header("If-Match", "\"1\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(inputDTO)))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    @DisplayName("DELETE /aeronaves/{id} com If-Match inválido deve retornar 412 sem chamar o serviço")
+    void delete_ComIfMatchInvalido_DeveRetornar412() throws Exception {
+        mockMvc.perform(delete("/aeronaves/1").header("If-Match", "W/\"1\""))
+                .andExpect(status().isPreconditionFailed());
+
+        verify(service, never()).delete(any(), any());
+    }
+
+    @Test
+    @DisplayName("GET /aeronaves/page deve retornar 200 com página e cursor")
+    void listPage_DeveRetornar200ComPagina() throws Exception {
+        AircraftDTO dto = createAircraftDTO(1L, "E195", Brand.EMBRAER, 2020, "Descrição", false);
+        when(service.findPage("abc", 10)).thenReturn(new CursorPageDTO<>(List.of(dto), "next", true));
+
+        mockMvc.perform(get("/aeronaves/page").param("cursor", "abc").param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].name").value("E195"))
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(jsonPath("$.hasMore").value(true));
+
+        verify(service).findPage("abc", 10);
+    }
+
+    @Test
+    @DisplayName("GET /aeronaves/page com tamanho inválido deve retornar 400")
+    void listPage_ComTamanhoInvalido_DeveRetornar400() throws Exception {
+        when(service.findPage(null, 0)).thenThrow(new IllegalArgumentException("tamanho inválido"));
+
+        mockMvc.perform(get("/aeronaves/page").param("size", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid Argument"));
+    }
+
+    @Test
+    @DisplayName("GET /aeronaves/stream deve retornar NDJSON com uma aeronave por linha")
+    void stream_DeveRetornarNdjson() throws Exception {
+        AircraftDTO first = createAircraftDTO(1L, "E195", Brand.EMBRAER, 2020, "Descrição", false);
+        AircraftDTO second = createAircraftDTO(2L, "A320", Brand.AIRBUS, 2018, "Descrição", true);
+        doAnswer(invocation -> {
+            Consumer<AircraftDTO> consumer = invocation.getArgument(0);
+            consumer.accept(first);
+            consumer.accept(second);
+            return null;
+        }).when(service).streamAll(any());
+
+        MvcResult result = mockMvc.perform(get("/aeronaves/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.trim().split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[1]).contains("\"name\":\"A320\"");
+    }
+
     @Test
     @DisplayName("GET /aeronaves/find?term=EMBRAER deve retornar 200 com lista filtrada")
     void findByTerm_DeveRetornar200ComListaFiltrada() throws Exception {
         AircraftDTO dto = createAircraftDTO(1L, "E195", Brand.EMBRAER, 2020, "Descrição", false);
-        when(service.findByTerm("EMBRAER")).thenReturn(List.of(dto));
+        when(service.findByTerm("EMBRAER", 0, AircraftService.DEFAULT_PAGE_SIZE)).thenReturn(List.of(dto));
 
         mockMvc.perform(get("/aeronaves/find").param("term", "EMBRAER"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].name").value("E195"));
 
-        verify(service).findByTerm("EMBRAER");
+        verify(service).findByTerm("EMBRAER", 0, AircraftService.DEFAULT_PAGE_SIZE);
     }
 
     @Test
@@ -129,38 +366,67 @@ class AircraftControllerTest {
     void update_DeveRetornar200ComAeronaveAtualizada() throws Exception {
         AircraftDTO inputDTO = createAircraftDTO(null, "E195-E2", Brand.EMBRAER, 2022, "Atualizado", false);
         AircraftDTO outputDTO = createAircraftDTO(1L, "E195-E2", Brand.EMBRAER, 2022, "Atualizado", false);
-        when(service.update(eq(1L), any(AircraftDTO.class))).thenReturn(outputDTO);
+        outputDTO.setVersion(4L);
+        when(service.update(eq(1L), any(AircraftDTO.class), isNull())).thenReturn(outputDTO);
 
         mockMvc.perform(put("/aeronaves/1")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(inputDTO)))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.name").value("E195-E2"));
+                .andExpect(jsonPath("$.name").value("E195-E2"))
+                .andExpect(header().string("ETag", "\"4\""));
 
-        verify(service).update(eq(1L), any(AircraftDTO.class));
+        verify(service).update(eq(1L), any(AircraftDTO.class), isNull());
+    }
+
+    @Test
+    @DisplayName("PATCH /aeronaves/{id} deve repassar somente os campos enviados")
+    void patch_DeveRepassarSomenteCamposEnviados() throws Exception {
+        AircraftDTO outputDTO = createAircraftDTO(1L, "E195", Brand.EMBRAER, 2020, "Descrição", true);
+        when(service.patch(eq(1L), any(AircraftPatchDTO.class), any())).thenReturn(outputDTO);
+
+        mockMvc.perform(patch("/aeronaves/1")
+                        .header("If-Match", "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"sold\":true}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.sold").value(true));
+
+        verify(service).patch(eq(1L), argThat(patch -> patch.getSold() && patch.getName() == null), eq(3L));
+    }
+
+    @Test
+    @DisplayName("PATCH /aeronaves/{id} com nome em branco deve retornar 400")
+    void patch_ComNomeEmBranco_DeveRetornar400() throws Exception {
+        mockMvc.perform(patch("/aeronaves/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"  \"}"))
+                .andExpect(status().isBadRequest());
+
+        verify(service, never()).patch(any(), any(), any());
     }
 
     @Test
     @DisplayName("DELETE /aeronaves/{id} quando existe deve retornar 204")
     void delete_QuandoExiste_DeveRetornar204() throws Exception {
-        doNothing().when(service).delete(1L);
+        doNothing().when(service).delete(1L, null);
 
         mockMvc.perform(delete("/aeronaves/1"))
                 .andExpect(status().isNoContent());
 
-        verify(service).delete(1L);
+        verify(service).delete(1L, null);
     }
 
     @Test
     @DisplayName("DELETE /aeronaves/{id} quando não existe deve retornar 404")
     void delete_QuandoNaoExiste_DeveRetornar404() throws Exception {
         doThrow(new AircraftNotFoundException("Aircraft not found for deletion with ID: 999"))
-                .when(service).delete(999L);
+                .when(service).delete(999L, null);
 
         mockMvc.perform(delete("/aeronaves/999"))
                 .andExpect(status().isNotFound());
 
-        verify(service).delete(999L);
+        verify(service).delete(999L, null);
     }
 
     @Test
@@ -188,6 +454,93 @@ class AircraftControllerTest {
         verify(service).listByDecade();
     }
 
+    @Test
+    @DisplayName("GET /aeronaves/statistics/count deve aplicar os filtros informados")
+    void count_ComFiltros_DeveRetornar200ComContagem() throws Exception {
+        when(service.count(any(FleetFilter.class))).thenReturn(6L);
+
+        mockMvc.perform(get("/aeronaves/statistics/count")
+                        .param("brand", "EMBRAER")
+                        .param("sold", "false")
+                        .param("yearFrom", "2000")
+                        .param("createdFrom", "2024-01-01T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("6"));
+
+        verify(service).count(argThat(filter -> filter.getBrand() == Brand.EMBRAER
+                && Boolean.FALSE.equals(filter.getSold())
+                && filter.getYearFrom() == 2000
+                && filter.getYearTo() == null
+                && LocalDateTime.of(2024, 1, 1, 0, 0).equals(filter.getCreatedFrom())));
+    }
+
+    @Test
+    @DisplayName("GET /aeronaves/statistics/count com intervalo de anos invertido deve retornar 400")
+    void count_ComIntervaloInvertido_DeveRetornar400() throws Exception {
+        mockMvc.perform(get("/aeronaves/statistics/count")
+                        .param("yearFrom", "2020")
+                        .param("yearTo", "2010"))
+                .andExpect(status().isBadRequest());
+
+        verify(service, never()).count(any(FleetFilter.class));
+    }
+
+    @Test
+    @DisplayName("GET /aeronaves/statistics/aggregate deve tratar cada groupBy como um conjunto")
+    void aggregate_ComConjuntos_DeveRetornar200ComGrupos() throws Exception {
+        when(service.aggregate(any(FleetAggregation.class))).thenReturn(new FleetAggregationDTO(List.of(
+                new FleetGroupingDTO(List.of("brand", "decade"),
+                        List.of(new FleetGroupDTO(Map.of("brand", Brand.EMBRAER, "decade", 2020), 4L, null, null))),
+                new FleetGroupingDTO(List.of("sold"),
+                        List.of(new FleetGroupDTO(Map.of("sold", false), 3L, null, null))))));
+
+        mockMvc.perform(get("/aeronaves/statistics/aggregate")
+                        .param("groupBy", "brand,decade")
+                        .param("groupBy", "sold")
+                        .param("metrics", "count")
+                        .param("sold", "false"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.groupings[0].groupBy[1]").value("decade"))
+                .andExpect(jsonPath("$.groupings[0].groups[0].key.brand").value("EMBRAER"))
+                .andExpect(jsonPath("$.groupings[0].groups[0].count").value(4))
+                .andExpect(jsonPath("$.groupings[0].groups[0].minYear").doesNotExist())
+                .andExpect(jsonPath("$.groupings[1].groups[0].key.sold").value(false));
+
+        verify(service).aggregate(argThat(aggregation -> aggregation.getGroupings().equals(List.of(
+                        List.of(FleetDimension.BRAND, FleetDimension.DECADE), List.of(FleetDimension.SOLD)))
+                && aggregation.getMetrics().equals(Set.of(FleetMetric.COUNT))
+                && Boolean.FALSE.equals(aggregation.getFilter().getSold())));
+    }
+
+    @Test
+    @DisplayName("GET /aeronaves/statistics/aggregate com dimensão desconhecida deve retornar 400")
+    void aggregate_ComDimensaoInvalida_DeveRetornar400() throws Exception {
+        mockMvc.perform(get("/aeronaves/statistics/aggregate").param("groupBy", "brand,color"))
+                .andExpect(status().isBadRequest());
+
+        verify(service, never()).aggregate(any(FleetAggregation.class));
+    }
+
+    @Test
+    @DisplayName("GET /aeronaves/statistics/overview deve retornar 200 com todos os agrupamentos")
+    void getOverview_DeveRetornar200ComAgrupamentos() throws Exception {
+        FleetStatisticsDTO overview = new FleetStatisticsDTO(5L, 3L,
+                Map.of(2020, 5L),
+                Map.of(Brand.EMBRAER, 5L),
+                Map.of(false, 3L, true, 2L),
+                Map.of(Brand.EMBRAER, Map.of(2020, 5L)));
+        when(service.getOverview()).thenReturn(overview);
+
+        mockMvc.perform(get("/aeronaves/statistics/overview"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(5))
+                .andExpect(jsonPath("$.unsold").value(3))
+                .andExpect(jsonPath("$.byBrand.EMBRAER").value(5))
+                .andExpect(jsonPath("$.byBrandAndDecade.EMBRAER.2020").value(5));
+
+        verify(service).getOverview();
+    }
+
     @Test
     @DisplayName("GET /aeronaves/statistics/last-week deve retornar 200 com lista")
     void findLastWeek_DeveRetornar200ComLista() throws Exception {
@@ -201,6 +554,18 @@ class AircraftControllerTest {
         verify(service).findLastWeek();
     }
 
+    @Test
+    @DisplayName("GET /aeronaves/statistics/last-week/count deve retornar 200 com contagem")
+    void countLastWeek_DeveRetornar200ComContagem() throws Exception {
+        when(service.countLastWeek()).thenReturn(4L);
+
+        mockMvc.perform(get("/aeronaves/statistics/last-week/count"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("4"));
+
+        verify(service).countLastWeek();
+    }
+
     private AircraftDTO createAircraftDTO(Long id, String name, Brand brand, Integer year, String description, boolean sold) {
         AircraftDTO dto = new AircraftDTO();
         dto.setId(id);
@@ -0,0 +1,72 @@
+package com.sonda.gestao_aeronaves.web.controller;
+
+import com.sonda.gestao_aeronaves.service.event.AircraftChangedEvent;
+import com.sonda.gestao_aeronaves.service.feed.AircraftChangeFeed;
+import com.sonda.gestao_aeronaves.web.dto.AircraftChangeDTO;
+import com.sonda.gestao_aeronaves.web.exception.GlobalExceptionHandler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(AircraftEventsController.class)
+@Import(GlobalExceptionHandler.class)
+class AircraftEventsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private AircraftChangeFeed feed;
+
+    @Test
+    @DisplayName("GET /aeronaves/events com Last-Event-ID deve reenviar as mudanças seguintes")
+    void subscribe_ComLastEventId_DeveReenviarMudancas() throws Exception {
+        AircraftChangeDTO deleted = new AircraftChangeDTO(AircraftChangedEvent.Type.DELETED, 7L, null, null, null);
+        when(feed.awaitAfter(eq(4L), any()))
+                .thenReturn(new AircraftChangeFeed.Batch(List.of(new AircraftChangeFeed.ChangeEvent(5L, deleted)), false, 5L));
+        when(feed.awaitAfter(eq(5L), any())).thenThrow(new InterruptedException());
+
+        String body = stream(mockMvc.perform(get("/aeronaves/events").header("Last-Event-ID", "4"))
+                .andExpect(request().asyncStarted())
+                .andReturn());
+
+        assertThat(body).contains("event:change\nid:5\n");
+        assertThat(body).contains("\"type\":\"DELETED\"", "\"id\":7");
+        verify(feed, never()).lastSequence();
+    }
+
+    @Test
+    @DisplayName("GET /aeronaves/events com mudanças fora do buffer deve enviar reset")
+    void subscribe_ComLacuna_DeveEnviarReset() throws Exception {
+        when(feed.lastSequence()).thenReturn(0L);
+        when(feed.awaitAfter(eq(0L), any())).thenReturn(new AircraftChangeFeed.Batch(List.of(), true, 2000L));
+        when(feed.awaitAfter(eq(2000L), any())).thenThrow(new InterruptedException());
+
+        String body = stream(mockMvc.perform(get("/aeronaves/events"))
+                .andExpect(request().asyncStarted())
+                .andReturn());
+
+        assertThat(body).contains("event:reset\nid:2000\n");
+    }
+
+    private String stream(MvcResult result) throws Exception {
+        result.getAsyncResult(5000);
+        return mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/event-stream"))
+                .andReturn().getResponse().getContentAsString();
+    }
+}
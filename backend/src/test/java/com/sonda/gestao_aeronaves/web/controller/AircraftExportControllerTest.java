@@ -0,0 +1,80 @@
+package com.sonda.gestao_aeronaves.web.controller;
+
+import com.sonda.gestao_aeronaves.domain.Brand;
+import com.sonda.gestao_aeronaves.service.export.AircraftExportService;
+import com.sonda.gestao_aeronaves.service.export.ExportFilter;
+import com.sonda.gestao_aeronaves.service.export.ExportFormat;
+import com.sonda.gestao_aeronaves.web.exception.GlobalExceptionHandler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(AircraftExportController.class)
+@Import(GlobalExceptionHandler.class)
+class AircraftExportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private AircraftExportService service;
+
+    @Test
+    @DisplayName("GET /aeronaves/export?gzip=true deve retornar o arquivo compactado com os filtros aplicados")
+    void export_Gzip_DeveCompactarEAplicarFiltros() throws Exception {
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(2);
+            out.write("id,name\r\n1,E195\r\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        }).when(service).export(any(), eq(ExportFormat.CSV), any());
+
+        MvcResult result = mockMvc.perform(get("/aeronaves/export")
+                        .param("gzip", "true")
+                        .param("brand", "EMBRAER")
+                        .param("sold", "false"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        byte[] body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/gzip"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"aeronaves.csv.gz\""))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("id,name\r\n1,E195\r\n");
+        }
+        ArgumentCaptor<ExportFilter> filter = ArgumentCaptor.forClass(ExportFilter.class);
+        verify(service).export(filter.capture(), eq(ExportFormat.CSV), any());
+        assertThat(filter.getValue().getBrand()).isEqualTo(Brand.EMBRAER);
+        assertThat(filter.getValue().getSold()).isFalse();
+    }
+
+    @Test
+    @DisplayName("GET /aeronaves/export com formato ou marca inválidos deve retornar 400")
+    void export_ParametrosInvalidos_DeveRetornar400() throws Exception {
+        mockMvc.perform(get("/aeronaves/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/aeronaves/export").param("brand", "CESSNA"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(service);
+    }
+}
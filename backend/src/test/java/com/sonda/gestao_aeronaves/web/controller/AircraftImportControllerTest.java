@@ -0,0 +1,69 @@
+package com.sonda.gestao_aeronaves.web.controller;
+
+import com.sonda.gestao_aeronaves.domain.exception.ImportAlreadyStartedException;
+import com.sonda.gestao_aeronaves.service.importer.AircraftImportService;
+import com.sonda.gestao_aeronaves.service.importer.ImportFormat;
+import com.sonda.gestao_aeronaves.web.dto.ImportJobDTO;
+import com.sonda.gestao_aeronaves.web.dto.ImportJobDTO.Status;
+import com.sonda.gestao_aeronaves.web.exception.GlobalExceptionHandler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(AircraftImportController.class)
+@Import(GlobalExceptionHandler.class)
+class AircraftImportControllerTest {
+
+    private static final UUID ID = UUID.randomUUID();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private AircraftImportService service;
+
+    @Test
+    @DisplayName("POST /aeronaves/import deve criar o job sem corpo e retornar 202 com a localização")
+    void createJob_DeveRetornar202ComLocalizacao() throws Exception {
+        when(service.createJob()).thenReturn(job(Status.PENDING, null));
+
+        mockMvc.perform(post("/aeronaves/import"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "http://localhost/aeronaves/import/" + ID))
+                .andExpect(jsonPath("$.id").value(ID.toString()))
+                .andExpect(jsonPath("$.status").value("PENDING"));
+
+        verify(service, never()).upload(any(), any(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("PUT /aeronaves/import/{id} deve enviar o arquivo ao job e recusar um segundo envio com 409")
+    void upload_DeveEnviarArquivoAoJob() throws Exception {
+        byte[] csv = "name,brand,year,description\nE195,EMBRAER,2020,x\n".getBytes();
+        when(service.upload(eq(ID), any(), eq(ImportFormat.CSV), eq((long) csv.length)))
+                .thenReturn(job(Status.RUNNING, "CSV"))
+                .thenThrow(new ImportAlreadyStartedException(ID));
+
+        mockMvc.perform(put("/aeronaves/import/{id}", ID).contentType("text/csv").content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("RUNNING"));
+        mockMvc.perform(put("/aeronaves/import/{id}", ID).contentType("text/csv").content(csv))
+                .andExpect(status().isConflict());
+    }
+
+    private ImportJobDTO job(Status status, String format) {
+        return new ImportJobDTO(ID, status, format, 0, -1, 0, 0, 0, null, null, null, List.of(), false);
+    }
+}
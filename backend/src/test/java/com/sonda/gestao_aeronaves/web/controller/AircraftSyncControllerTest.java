@@ -0,0 +1,51 @@
+package com.sonda.gestao_aeronaves.web.controller;
+
+import com.sonda.gestao_aeronaves.service.sync.AircraftSyncService;
+import com.sonda.gestao_aeronaves.web.dto.AircraftChangesDTO;
+import com.sonda.gestao_aeronaves.web.exception.GlobalExceptionHandler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(AircraftSyncController.class)
+@Import(GlobalExceptionHandler.class)
+class AircraftSyncControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private AircraftSyncService service;
+
+    @Test
+    @DisplayName("GET /aeronaves/changes?since= deve retornar as alterações e o novo token")
+    void changes_ComToken_DeveRetornarAlteracoes() throws Exception {
+        when(service.getChanges("abc")).thenReturn(new AircraftChangesDTO(List.of(), List.of(7L), false, "def"));
+
+        mockMvc.perform(get("/aeronaves/changes").param("since", "abc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted[0]").value(7))
+                .andExpect(jsonPath("$.full").value(false))
+                .andExpect(jsonPath("$.token").value("def"));
+    }
+
+    @Test
+    @DisplayName("GET /aeronaves/changes com token inválido deve retornar 400")
+    void changes_TokenInvalido_DeveRetornar400() throws Exception {
+        when(service.getChanges("x")).thenThrow(new IllegalArgumentException("Token de sincronização inválido."));
+
+        mockMvc.perform(get("/aeronaves/changes").param("since", "x"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Token de sincronização inválido."));
+    }
+}
@@ -0,0 +1,171 @@
+package com.sonda.gestao_aeronaves.web.reactive;
+
+import com.sonda.gestao_aeronaves.domain.Brand;
+import com.sonda.gestao_aeronaves.persistence.repository.AircraftRepository;
+import com.sonda.gestao_aeronaves.service.batch.AircraftBatchService;
+import com.sonda.gestao_aeronaves.web.dto.AircraftDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "aircraft.reactive.port=0",
+        "aircraft.reactive.r2dbc.url=r2dbc:h2:mem:///testdb?options=DB_CLOSE_DELAY=-1",
+        "aircraft.reactive.r2dbc.username=sa"
+})
+@ActiveProfiles({ "test", "reactive" })
+class ReactiveAircraftHandlerTest {
+
+    @Autowired
+    private ReactiveReadServer server;
+
+    @Autowired
+    private AircraftBatchService batchService;
+
+    @Autowired
+    private AircraftRepository repository;
+
+    private WebTestClient client;
+    private List<Long> ids;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAllInBatch();
+        ids = batchService.createAll(List.of(
+                        createAircraftDTO("E195", Brand.EMBRAER, 2020, false),
+                        createAircraftDTO("E190", Brand.EMBRAER, 2012, true),
+                        createAircraftDTO("A320", Brand.AIRBUS, 1995, false)))
+                .getItems().stream().map(item -> item.getId()).toList();
+        client = WebTestClient.bindToServer().baseUrl("http://localhost:" + server.getPort()).build();
+    }
+
+    @Test
+    @DisplayName("GET /aeronaves deve transmitir todas as aeronaves em JSON ou NDJSON")
+    void listAll_DeveRetornarTodasAsAeronaves() {
+        client.get().uri("/aeronaves").exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(3)
+                .jsonPath("$[0].id").isEqualTo(ids.get(0))
+                .jsonPath("$[0].name").isEqualTo("E195")
+                .jsonPath("$[0].brand").isEqualTo("EMBRAER")
+                .jsonPath("$[0].version").isEqualTo(0);
+
+        List<AircraftDTO> streamed = client.get().uri("/aeronaves").accept(MediaType.APPLICATION_NDJSON).exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(AircraftDTO.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+        assertThat(streamed).extracting(AircraftDTO::getName).containsExactly("E195", "E190", "A320");
+    }
+
+    @Test
+    @DisplayName("GET /aeronaves/{id} deve retornar a aeronave com ETag ou 404")
+    void getById_DeveRetornarAeronaveOu404() {
+        client.get().uri("/aeronaves/{id}", ids.get(2)).exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("ETag", "\"0\"")
+                .expectBody().jsonPath("$.name").isEqualTo("A320");
+
+        client.get().uri("/aeronaves/{id}", 999_999).exchange()
+                .expectStatus().isNotFound()
+                .expectBody().jsonPath("$.status").isEqualTo(404);
+    }
+
+    @Test
+    @DisplayName("GET /aeronaves/find deve ordenar por relevância e validar a paginação")
+    void findByTerm_DeveOrdenarPorRelevancia() {
+        client.get().uri("/aeronaves/find?term=e19").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[0].name").isEqualTo("E195")
+                .jsonPath("$[1].name").isEqualTo("E190");
+
+        client.get().uri("/aeronaves/find?term=airbus").exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$[0].name").isEqualTo("A320");
+
+        client.get().uri("/aeronaves/find?term={id}", ids.get(2)).exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$[0].id").isEqualTo(ids.get(2));
+
+        client.get().uri("/aeronaves/find?term=e19&size=0").exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("GET /aeronaves/find com termo numérico não deve perder resultados entre páginas")
+    void findByTerm_ComTermoNumerico_NaoDevePerderResultados() {
+        Long id = ids.get(2);
+        batchService.createAll(List.of(
+                createAircraftDTO("X" + id + "-1", Brand.BOEING, 2001, false),
+                createAircraftDTO("X" + id + "-2", Brand.BOEING, 2002, false),
+                createAircraftDTO("X" + id + "-3", Brand.BOEING, 2003, false)));
+        List<Long> all = client.get().uri("/aeronaves/find?term={id}&size=100", id).exchange()
+                .expectStatus().isOk()
+                .returnResult(AircraftDTO.class).getResponseBody()
+                .map(AircraftDTO::getId).collectList().block();
+
+        List<Long> paged = new ArrayList<>();
+        for (int page = 0; page * 2 < all.size(); page++) {
+            paged.addAll(client.get().uri("/aeronaves/find?term={id}&page={page}&size=2", id, page).exchange()
+                    .expectStatus().isOk()
+                    .returnResult(AircraftDTO.class).getResponseBody()
+                    .map(AircraftDTO::getId).collectList().block());
+        }
+
+        assertThat(all).first().isEqualTo(id);
+        assertThat(all).hasSizeGreaterThanOrEqualTo(4).doesNotHaveDuplicates();
+        assertThat(paged).isEqualTo(all);
+    }
+
+    @Test
+    @DisplayName("Estatísticas reativas devem refletir a frota")
+    void statistics_DevemRefletirAFrota() {
+        client.get().uri("/aeronaves/statistics/unsold").exchange()
+                .expectStatus().isOk()
+                .expectBody(Long.class).isEqualTo(2L);
+
+        client.get().uri("/aeronaves/statistics/by-decade").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.1990").isEqualTo(1)
+                .jsonPath("$.2010").isEqualTo(1)
+                .jsonPath("$.2020").isEqualTo(1);
+
+        client.get().uri("/aeronaves/statistics/overview").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.total").isEqualTo(3)
+                .jsonPath("$.unsold").isEqualTo(2)
+                .jsonPath("$.byBrand.EMBRAER").isEqualTo(2);
+
+        client.get().uri("/aeronaves/statistics/last-week/count").exchange()
+                .expectStatus().isOk()
+                .expectBody(Long.class).isEqualTo(3L);
+    }
+
+    private AircraftDTO createAircraftDTO(String name, Brand brand, int year, boolean sold) {
+        AircraftDTO dto = new AircraftDTO();
+        dto.setName(name);
+        dto.setBrand(brand);
+        dto.setYear(year);
+        dto.setDescription("Descrição " + name);
+        dto.setSold(sold);
+        return dto;
+    }
+}
@@ -0,0 +1,36 @@
+package com.sonda.gestao_aeronaves.web.sql;
+
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MockMvc assertions on the JDBC work of a request, read from the headers written by
+ * {@link SqlStatisticsResponseAdvice}. The application must run with
+ * {@code aircraft.sql.headers=true}, as the test profile does.
+ */
+public final class SqlResultMatchers {
+
+    private SqlResultMatchers() {
+    }
+
+    public static ResultMatcher statements(long expected) {
+        return result -> assertThat(header(result.getResponse().getHeader(SqlStatisticsResponseAdvice.STATEMENTS_HEADER)))
+                .as("SQL statements").isEqualTo(expected);
+    }
+
+    public static ResultMatcher statementsAtMost(long max) {
+        return result -> assertThat(header(result.getResponse().getHeader(SqlStatisticsResponseAdvice.STATEMENTS_HEADER)))
+                .as("SQL statements").isLessThanOrEqualTo(max);
+    }
+
+    public static ResultMatcher rows(long expected) {
+        return result -> assertThat(header(result.getResponse().getHeader(SqlStatisticsResponseAdvice.ROWS_HEADER)))
+                .as("SQL rows").isEqualTo(expected);
+    }
+
+    private static long header(String value) {
+        assertThat(value).as("SQL statistics header").isNotNull();
+        return Long.parseLong(value);
+    }
+}
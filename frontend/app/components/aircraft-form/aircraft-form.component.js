@@ -45,6 +45,10 @@
                     resetForm();
                     $rootScope.$broadcast('aircraft:updated');
                 }).catch(function (error) {
+                    if (error.status === 412 || error.status === 409) {
+                        reloadAfterConflict($ctrl.aircraft.id);
+                        return;
+                    }
                     var msg = 'Erro ao salvar aeronave.';
                     if (error.data && error.data.message) {
                         msg = error.data.message;
@@ -64,6 +68,20 @@
             resetForm();
         };
 
+        // Outra operação alterou a aeronave desde a leitura: carrega a versão atual.
+        function reloadAfterConflict(id) {
+            AircraftService.getById(id).then(function (data) {
+                $ctrl.aircraft = data;
+            }).catch(resetForm);
+            $rootScope.$broadcast('aircraft:updated');
+            $mdToast.show(
+                $mdToast.simple()
+                    .textContent('A aeronave foi alterada por outra operação. Os dados atuais foram carregados; revise e salve novamente.')
+                    .position('top right')
+                    .hideDelay(5000)
+            );
+        }
+
         function resetForm() {
             $ctrl.aircraft = {
                 name: '',
@@ -8,32 +8,75 @@
             controller: AircraftListController
         });
 
-    AircraftListController.$inject = ['AircraftService', '$mdDialog', '$mdToast', '$rootScope'];
+    AircraftListController.$inject = ['AircraftService', 'AircraftEventsService', '$mdDialog', '$mdToast', '$rootScope'];
 
-    function AircraftListController(AircraftService, $mdDialog, $mdToast, $rootScope) {
+    function AircraftListController(AircraftService, AircraftEventsService, $mdDialog, $mdToast, $rootScope) {
+        var PAGE_SIZE = 50;
         var $ctrl = this;
         $ctrl.aircrafts = [];
         $ctrl.searchTerm = '';
+        $ctrl.page = 0;
+        $ctrl.hasNextPage = false;
 
         $ctrl.$onInit = function () {
             loadAircrafts();
+            // Conectado ao stream, a lista é atualizada pelas mudanças; sem ele, recarrega.
             $rootScope.$on('aircraft:updated', function () {
-                loadAircrafts();
+                if (!AircraftEventsService.isConnected()) {
+                    loadAircrafts();
+                }
+            });
+            $rootScope.$on('aircraft:change', function (event, change) {
+                applyChange(change);
             });
+            $rootScope.$on('aircraft:reset', function () {
+                $ctrl.search();
+            });
+        };
+
+        // Um novo termo volta para a primeira página dos resultados.
+        $ctrl.onSearchChange = function () {
+            $ctrl.page = 0;
+            $ctrl.search();
         };
 
         $ctrl.search = function () {
             if ($ctrl.searchTerm) {
-                AircraftService.findByTerm($ctrl.searchTerm).then(function (data) {
+                AircraftService.findByTerm($ctrl.searchTerm, $ctrl.page, PAGE_SIZE).then(function (data) {
+                    if (data.length === 0 && $ctrl.page > 0) {
+                        $ctrl.previousPage();
+                        return;
+                    }
                     $ctrl.aircrafts = data;
+                    // Uma página cheia indica que pode haver mais resultados.
+                    $ctrl.hasNextPage = data.length === PAGE_SIZE;
                 });
             } else {
+                $ctrl.page = 0;
+                $ctrl.hasNextPage = false;
                 loadAircrafts();
             }
         };
 
+        $ctrl.nextPage = function () {
+            if ($ctrl.hasNextPage) {
+                $ctrl.page++;
+                $ctrl.search();
+            }
+        };
+
+        $ctrl.previousPage = function () {
+            if ($ctrl.page > 0) {
+                $ctrl.page--;
+                $ctrl.search();
+            }
+        };
+
+        // A lista não traz a descrição; o formulário recebe a aeronave completa.
         $ctrl.edit = function (aircraft) {
-            $rootScope.$broadcast('aircraft:edit', aircraft);
+            AircraftService.getById(aircraft.id).then(function (data) {
+                $rootScope.$broadcast('aircraft:edit', data);
+            });
         };
 
         $ctrl.delete = function (ev, aircraft) {
@@ -47,7 +90,6 @@
 
             $mdDialog.show(confirm).then(function () {
                 AircraftService.deleteAircraft(aircraft.id).then(function () {
-                    loadAircrafts();
                     $rootScope.$broadcast('aircraft:updated');
                     $mdToast.show(
                         $mdToast.simple()
@@ -61,12 +103,38 @@
         };
 
         function loadAircrafts() {
-            AircraftService.getAll().then(function (data) {
+            AircraftService.getSummaries().then(function (data) {
                 $ctrl.aircrafts = data;
                 calculateBrandStats(data);
             });
         }
 
+        function applyChange(change) {
+            if ($ctrl.searchTerm) {
+                $ctrl.search();
+                return;
+            }
+
+            var index = -1;
+            $ctrl.aircrafts.forEach(function (aircraft, i) {
+                if (aircraft.id === change.id) {
+                    index = i;
+                }
+            });
+
+            if (change.type === 'DELETED') {
+                if (index >= 0) {
+                    $ctrl.aircrafts.splice(index, 1);
+                }
+            } else if (index >= 0) {
+                $ctrl.aircrafts[index] = change.aircraft;
+            } else {
+                $ctrl.aircrafts.push(change.aircraft);
+            }
+
+            calculateBrandStats($ctrl.aircrafts);
+        }
+
         function calculateBrandStats(data) {
             var stats = {
                 EMBRAER: 0,
@@ -8,15 +8,27 @@
             controller: DashboardStatsController
         });
 
-    DashboardStatsController.$inject = ['AircraftService', '$q', '$rootScope'];
+    DashboardStatsController.$inject = ['AircraftService', 'AircraftEventsService', '$q', '$rootScope'];
 
-    function DashboardStatsController(AircraftService, $q, $rootScope) {
+    function DashboardStatsController(AircraftService, AircraftEventsService, $q, $rootScope) {
         var $ctrl = this;
         $ctrl.stats = [];
 
         $ctrl.$onInit = function () {
             loadStats();
             $rootScope.$on('aircraft:updated', function () {
+                if (!AircraftEventsService.isConnected()) {
+                    loadStats();
+                }
+            });
+            $rootScope.$on('aircraft:change', function (event, change) {
+                if (change.statistics) {
+                    renderStats(change.statistics.unsold, change.statistics.byDecade, change.createdLastWeek);
+                } else {
+                    loadStats();
+                }
+            });
+            $rootScope.$on('aircraft:reset', function () {
                 loadStats();
             });
         };
@@ -25,44 +37,42 @@
             var promises = {
                 unsold: AircraftService.getUnsoldCount(),
                 decades: AircraftService.getDecadeStats(),
-                lastWeek: AircraftService.getLastWeek()
+                lastWeek: AircraftService.getLastWeekCount()
             };
 
             $q.all(promises).then(function (results) {
-                var unsold = results.unsold;
-                var decades = results.decades;
-                var lastWeek = results.lastWeek;
-
-
-                $ctrl.stats = [
-                    {
-                        label: 'DÉCADA 90',
-                        value: decades[1990] || 0,
-                        icon: 'history',
-                        color: '#E0E0E0'
-                    },
-                    {
-                        label: 'DÉCADA 00',
-                        value: decades[2000] || 0,
-                        icon: 'calendar_today',
-                        color: '#E0E0E0'
-                    },
-                    {
-                        label: 'ESSA SEMANA',
-                        value: lastWeek ? lastWeek.length : 0,
-                        icon: 'trending_up',
-                        color: '#4CAF50'
-                    },
-                    {
-                        label: 'NÃO VENDIDAS',
-                        value: unsold,
-                        icon: 'local_offer',
-                        color: '#FF9800'
-                    }
-                ];
-
+                renderStats(results.unsold, results.decades, results.lastWeek);
             });
         }
+
+        function renderStats(unsold, decades, lastWeek) {
+            $ctrl.stats = [
+                {
+                    label: 'DÉCADA 90',
+                    value: decades[1990] || 0,
+                    icon: 'history',
+                    color: '#E0E0E0'
+                },
+                {
+                    label: 'DÉCADA 00',
+                    value: decades[2000] || 0,
+                    icon: 'calendar_today',
+                    color: '#E0E0E0'
+                },
+                {
+                    label: 'ESSA SEMANA',
+                    value: lastWeek || 0,
+                    icon: 'trending_up',
+                    color: '#4CAF50'
+                },
+                {
+                    label: 'NÃO VENDIDAS',
+                    value: unsold,
+                    icon: 'local_offer',
+                    color: '#FF9800'
+                }
+            ];
+        }
     }
 
 })();
@@ -0,0 +1,64 @@
+(function () {
+    'use strict';
+
+    angular
+        .module('sondaApp')
+        .factory('AircraftEventsService', AircraftEventsService)
+        .run(['AircraftEventsService', function (AircraftEventsService) {
+            AircraftEventsService.connect();
+        }]);
+
+    AircraftEventsService.$inject = ['$rootScope'];
+
+    /**
+     * Assina o stream de mudanças (/aeronaves/events) e repassa cada mudança como
+     * 'aircraft:change'. Quando o servidor não tem mais as mudanças perdidas numa
+     * reconexão, emite 'aircraft:reset' e os componentes devem recarregar os dados.
+     */
+    function AircraftEventsService($rootScope) {
+        var EVENTS_URL = 'http://localhost:8080/aeronaves/events';
+        var source = null;
+        var connected = false;
+
+        var service = {
+            connect: connect,
+            isConnected: isConnected
+        };
+
+        return service;
+
+        function connect() {
+            if (source || !window.EventSource) {
+                return;
+            }
+            source = new EventSource(EVENTS_URL);
+
+            source.onopen = function () {
+                connected = true;
+            };
+
+            source.onerror = function () {
+                // O navegador reconecta sozinho enviando o Last-Event-ID.
+                connected = false;
+            };
+
+            source.addEventListener('change', function (event) {
+                var change = JSON.parse(event.data);
+                $rootScope.$apply(function () {
+                    $rootScope.$broadcast('aircraft:change', change);
+                });
+            });
+
+            source.addEventListener('reset', function () {
+                $rootScope.$apply(function () {
+                    $rootScope.$broadcast('aircraft:reset');
+                });
+            });
+        }
+
+        function isConnected() {
+            return connected;
+        }
+    }
+
+})();
@@ -12,6 +12,7 @@
 
         var service = {
             getAll: getAll,
+            getSummaries: getSummaries,
             findByTerm: findByTerm,
             getById: getById,
             create: create,
@@ -19,7 +20,8 @@
             deleteAircraft: deleteAircraft,
             getUnsoldCount: getUnsoldCount,
             getDecadeStats: getDecadeStats,
-            getLastWeek: getLastWeek
+            getLastWeek: getLastWeek,
+            getLastWeekCount: getLastWeekCount
         };
 
         return service;
@@ -28,8 +30,15 @@
             return $http.get(API_URL).then(handleSuccess, handleError);
         }
 
-        function findByTerm(term) {
-            return $http.get(API_URL + '/find', { params: { term: term } }).then(handleSuccess, handleError);
+        // List without descriptions, used by the table
+        function getSummaries() {
+            return $http.get(API_URL + '/summary').then(handleSuccess, handleError);
+        }
+
+        // Search results are ranked and paged by the server (page starts at 0)
+        function findByTerm(term, page, size) {
+            return $http.get(API_URL + '/find', { params: { term: term, page: page, size: size } })
+                .then(handleSuccess, handleError);
         }
 
         function getById(id) {
@@ -40,8 +49,13 @@
             return $http.post(API_URL, aircraft).then(handleSuccess, handleError);
         }
 
+        // Sends the version read by getById as If-Match; a stale one answers 412
         function update(id, aircraft) {
-            return $http.put(API_URL + '/' + id, aircraft).then(handleSuccess, handleError);
+            var config = {};
+            if (aircraft.version !== null && aircraft.version !== undefined) {
+                config.headers = { 'If-Match': '"' + aircraft.version + '"' };
+            }
+            return $http.put(API_URL + '/' + id, aircraft, config).then(handleSuccess, handleError);
         }
 
         function deleteAircraft(id) {
@@ -61,6 +75,10 @@
             return $http.get(API_URL + '/statistics/last-week').then(handleSuccess, handleError);
         }
 
+        function getLastWeekCount() {
+            return $http.get(API_URL + '/statistics/last-week/count').then(handleSuccess, handleError);
+        }
+
         function handleSuccess(res) {
             return res.data;
         }